@@ -60,7 +60,7 @@ final class AlternativesParser<C extends ParserContext> extends ParserSetToStrin
             default:
                 result = new AlternativesParser<>(
                     unique,
-                    buildToString(unique),
+                    null, // toString built lazily
                     false // customToString=false
                 );
         }
@@ -89,8 +89,15 @@ final class AlternativesParser<C extends ParserContext> extends ParserSetToStrin
         }
     }
 
-    private static <CC extends ParserContext> String buildToString(final List<Parser<CC>> parsers) {
-        return parsers.stream()
+    /**
+     * Concats all parsers separated by a bar, any {@link SequenceParser} will have extra grouping parens around them.
+     * <pre>
+     * A | B | C
+     * </pre>
+     */
+    @Override
+    String buildToString() {
+        return this.parsers.stream()
             .map(AlternativesParser::parserToString)
             .collect(
                 Collectors.joining(" | ")
@@ -158,6 +165,17 @@ final class AlternativesParser<C extends ParserContext> extends ParserSetToStrin
     // @VisibleForTesting
     final List<Parser<C>> parsers;
 
+    /**
+     * Creates a new {@link AlternativesParser} with the given parsers keeping any custom {@link #toString()}.
+     */
+    AlternativesParser<C> replaceParsers(final List<Parser<C>> parsers) {
+        return new AlternativesParser<>(
+            parsers,
+            this.toString,
+            this.customToString
+        );
+    }
+
     // ParserSetToString..........................................................................................................
 
     @Override
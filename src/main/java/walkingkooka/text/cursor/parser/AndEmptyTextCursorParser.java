@@ -36,7 +36,7 @@ final class AndEmptyTextCursorParser<C extends ParserContext> extends ParserWrap
             parser.cast() :
             new AndEmptyTextCursorParser<>(
                 parser,
-                parser.toString()
+                null // toString built lazily
             );
     }
 
@@ -72,6 +72,16 @@ final class AndEmptyTextCursorParser<C extends ParserContext> extends ParserWrap
         );
     }
 
+    // ParserWrapper....................................................................................................
+
+    @Override
+    AndEmptyTextCursorParser<C> replaceParser(final Parser<C> parser) {
+        return new AndEmptyTextCursorParser<>(
+            parser,
+            this.toString
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override //
@@ -36,7 +36,7 @@ final class AndNotParser<C extends ParserContext> extends ParserSetToString<C>
         return new AndNotParser<>(
             left,
             right,
-            left + " - " + right
+            null // toString built lazily
         );
     }
 
@@ -76,6 +76,11 @@ final class AndNotParser<C extends ParserContext> extends ParserSetToString<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return this.left + " - " + this.right;
+    }
+
     @Override
     AndNotParser<C> replaceToString(final String toString) {
         return new AndNotParser<>(
@@ -85,8 +90,20 @@ final class AndNotParser<C extends ParserContext> extends ParserSetToString<C>
         );
     }
 
-    private final Parser<C> left;
-    private final Parser<C> right;
+    final Parser<C> left;
+    final Parser<C> right;
+
+    /**
+     * Creates a new {@link AndNotParser} with the given parsers keeping any custom {@link #toString()}.
+     */
+    AndNotParser<C> replaceLeftRight(final Parser<C> left,
+                                     final Parser<C> right) {
+        return new AndNotParser<>(
+            left,
+            right,
+            this.toString
+        );
+    }
 
     // Object...........................................................................................................
 
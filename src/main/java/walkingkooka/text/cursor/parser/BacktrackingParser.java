@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that marks its {@link ParserBacktracking} as active while the wrapped {@link Parser} runs. When
+ * the {@link TextCursor} is not already, or does not wrap a {@link BacktrackingTextCursor} it is wrapped in one, which
+ * happens for the root of the graph.
+ */
+final class BacktrackingParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    static <C extends ParserContext> BacktrackingParser<C> with(final Parser<C> parser,
+                                                                final ParserBacktracking<C> backtracking) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(backtracking, "backtracking");
+
+        return new BacktrackingParser<>(
+            parser,
+            backtracking,
+            null // toString built lazily
+        );
+    }
+
+    private BacktrackingParser(final Parser<C> parser,
+                               final ParserBacktracking<C> backtracking,
+                               final String toString) {
+        super(parser, toString);
+        this.backtracking = backtracking;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        // another wrapper such as a ProfilingParser may have wrapped the BacktrackingTextCursor of the root
+        BacktrackingTextCursor backtrackingCursor = BacktrackingTextCursor.find(cursor);
+        TextCursor parseCursor = cursor;
+        if (null == backtrackingCursor) {
+            backtrackingCursor = BacktrackingTextCursor.with(cursor);
+            parseCursor = backtrackingCursor;
+        }
+
+        final ParserBacktracking<?> previous = backtrackingCursor.active;
+        final int start = backtrackingCursor.position;
+
+        backtrackingCursor.active = this.backtracking;
+        try {
+            final Optional<ParserToken> token = this.parser.parse(
+                parseCursor,
+                context
+            );
+
+            this.backtracking.invoked(
+                token.isPresent() ?
+                    backtrackingCursor.position - start :
+                    0
+            );
+            return token;
+        } finally {
+            backtrackingCursor.active = previous;
+        }
+    }
+
+    private final ParserBacktracking<C> backtracking;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    BacktrackingParser<C> replaceToString(final String toString) {
+        return new BacktrackingParser<>(
+            this.parser,
+            this.backtracking,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    BacktrackingParser<C> replaceParser(final Parser<C> parser) {
+        return new BacktrackingParser<>(
+            parser,
+            this.backtracking,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return System.identityHashCode(this.backtracking);
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        return this.backtracking == ((BacktrackingParser<?>) other).backtracking;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} that wraps another, tracking its position and charging every examined character and every
+ * character given up by a {@link TextCursorSavePoint#restore()} to the active {@link ParserBacktracking}.
+ */
+final class BacktrackingTextCursor implements TextCursorWrapper {
+
+    static BacktrackingTextCursor with(final TextCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+
+        return new BacktrackingTextCursor(cursor);
+    }
+
+    /**
+     * Returns the {@link BacktrackingTextCursor} the given {@link TextCursor} is or wraps, or null.
+     */
+    static BacktrackingTextCursor find(final TextCursor cursor) {
+        TextCursor wrapped = cursor;
+        while (null != wrapped) {
+            if (wrapped instanceof BacktrackingTextCursor) {
+                break;
+            }
+            wrapped = TextCursorWrapper.unwrap(wrapped);
+        }
+        return (BacktrackingTextCursor) wrapped;
+    }
+
+    private BacktrackingTextCursor(final TextCursor cursor) {
+        super();
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return this.cursor.isNotEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        this.position++;
+
+        final ParserBacktracking<?> active = this.active;
+        if (null != active) {
+            active.examined();
+        }
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        final TextCursorSavePoint save = this.cursor.save();
+        this.cursor.end();
+
+        final int count = save.textBetween()
+            .length();
+        this.position += count;
+
+        final ParserBacktracking<?> active = this.active;
+        if (null != active) {
+            active.examined(count);
+        }
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return BacktrackingTextCursorSavePoint.with(
+            this,
+            this.cursor.save(),
+            this.position
+        );
+    }
+
+    /**
+     * Restores the wrapped cursor, charging any characters given up to the active {@link ParserBacktracking}.
+     */
+    void restore(final TextCursorSavePoint save,
+                 final int position) {
+        save.restore();
+
+        final ParserBacktracking<?> active = this.active;
+        if (null != active) {
+            active.restored(this.position - position);
+        }
+        this.position = position;
+    }
+
+    @Override
+    public String text() {
+        return this.cursor.text();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    // TextCursorWrapper................................................................................................
+
+    @Override
+    public TextCursor wrappedTextCursor() {
+        return this.cursor;
+    }
+
+    private final TextCursor cursor;
+
+    /**
+     * The number of characters advanced since this cursor was created.
+     */
+    int position;
+
+    /**
+     * The {@link ParserBacktracking} of the innermost {@link Parser} currently parsing.
+     */
+    ParserBacktracking<?> active;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
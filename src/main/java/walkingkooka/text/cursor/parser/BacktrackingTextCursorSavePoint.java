@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * A {@link TextCursorSavePoint} for a {@link BacktrackingTextCursor}, holding the save point of the wrapped cursor
+ * and the position.
+ */
+final class BacktrackingTextCursorSavePoint implements TextCursorSavePoint {
+
+    static BacktrackingTextCursorSavePoint with(final BacktrackingTextCursor cursor,
+                                                final TextCursorSavePoint save,
+                                                final int position) {
+        return new BacktrackingTextCursorSavePoint(
+            cursor,
+            save,
+            position
+        );
+    }
+
+    private BacktrackingTextCursorSavePoint(final BacktrackingTextCursor cursor,
+                                            final TextCursorSavePoint save,
+                                            final int position) {
+        super();
+        this.cursor = cursor;
+        this.save = save;
+        this.position = position;
+    }
+
+    @Override
+    public TextCursor restore() {
+        this.cursor.restore(
+            this.save,
+            this.position
+        );
+        return this.cursor;
+    }
+
+    @Override
+    public CharSequence textBetween() {
+        return this.save.textBetween();
+    }
+
+    private final BacktrackingTextCursor cursor;
+
+    private final TextCursorSavePoint save;
+
+    private final int position;
+
+    @Override
+    public String toString() {
+        return this.save.toString();
+    }
+}
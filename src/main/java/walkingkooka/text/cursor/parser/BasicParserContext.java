@@ -91,6 +91,15 @@ final class BasicParserContext implements ParserContext,
 
     private final BiFunction<Parser<?>, TextCursor, InvalidCharacterException> invalidCharacterExceptionFactory;
 
+    /**
+     * All properties are immutable, assuming the given {@link DateTimeContext} and {@link DecimalNumberContext} are
+     * also safe to share.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public char valueSeparator() {
         return this.valueSeparator;
@@ -38,7 +38,9 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
      * Factory that creates a {@link BigDecimalParser}
      */
     static <C extends ParserContext> BigDecimalParser<C> with() {
-        return new BigDecimalParser<>("Decimal");
+        return new BigDecimalParser<>(
+            null // toString built lazily
+        );
     }
 
     /**
@@ -254,6 +256,11 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "Decimal";
+    }
+
     @Override
     BigDecimalParser<C> replaceToString(final String toString) {
         return new BigDecimalParser<>(
@@ -39,9 +39,7 @@ final class BigIntegerParser<C extends ParserContext> extends NonEmptyParser<C>
 
         return new BigIntegerParser<>(
             radix,
-            10 == radix ?
-                "BigInteger" :
-                "BigInteger(base=" + radix + ")"
+            null // toString built lazily
         );
     }
 
@@ -123,6 +121,14 @@ final class BigIntegerParser<C extends ParserContext> extends NonEmptyParser<C>
 
     // ParserSetToString................................................................................................
 
+    @Override
+    String buildToString() {
+        final int radix = this.radix;
+        return 10 == radix ?
+            "BigInteger" :
+            "BigInteger(base=" + radix + ")";
+    }
+
     @Override
     BigIntegerParser<C> replaceToString(final String toString) {
         return new BigIntegerParser<>(
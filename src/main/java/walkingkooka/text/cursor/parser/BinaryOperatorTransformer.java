@@ -45,4 +45,21 @@ public interface BinaryOperatorTransformer {
      * Factory that creates a {@link ParserToken} to hold two arguments separated by a symbol.
      */
     ParserToken binaryOperand(final List<ParserToken> tokens, final String text, final ParserToken parent);
+
+    /**
+     * Factory that creates a {@link ParserToken} to hold two arguments separated by a symbol, where the text is a
+     * view of the text of the tokens, used by {@link Parsers#operatorPrecedence(Parser, Parser, BinaryOperatorTransformer)}.
+     * The default flattens the text into a {@link String} and calls {@link #binaryOperand(List, String, ParserToken)},
+     * which copies the text of the left operand again for each operator of a long chain. Transformers must override
+     * this to create tokens that keep the {@link CharSequence} to avoid copying text.
+     */
+    default ParserToken binaryOperandText(final List<ParserToken> tokens,
+                                          final CharSequence text,
+                                          final ParserToken parent) {
+        return this.binaryOperand(
+            tokens,
+            text.toString(),
+            parent
+        );
+    }
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A read only {@link CharSequence} view of the UTF-8 bytes of a {@link ByteBuffer}, such as a memory mapped file.
+ * The bytes are scanned once when created, recording the byte offset of every {@link #CHECKPOINT}th character, after
+ * which characters are decoded as they are read and {@link #subSequence(int, int)} returns another view without
+ * copying, so text is only copied into a {@link String} when {@link #toString()} is called.
+ * <br>
+ * Characters outside the basic multilingual plane are returned as two surrogate chars, like {@link String}, and
+ * each byte of a malformed sequence is returned as {@link #REPLACEMENT}.
+ * <br>
+ * This class uses java.nio and is excluded from the GWT and J2CL module.
+ */
+final class ByteBufferCharSequence implements CharSequence {
+
+    /**
+     * The number of characters between each recorded byte offset.
+     */
+    final static int CHECKPOINT = 4096;
+
+    /**
+     * The character returned for each byte of a malformed sequence.
+     */
+    final static char REPLACEMENT = '\ufffd';
+
+    static ByteBufferCharSequence with(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        final int start = buffer.position();
+        final int end = buffer.limit();
+
+        // there are never more characters than bytes, so at most one checkpoint every CHECKPOINT bytes
+        final int[] checkpointChars = new int[(end - start) / CHECKPOINT + 1];
+        final int[] checkpointBytes = new int[checkpointChars.length];
+
+        int checkpoint = 0;
+        int c = 0;
+        int b = start;
+
+        while (b < end) {
+            final int width = width(buffer, b, end);
+            final int charCount = Character.charCount(codePoint(buffer, b, width));
+
+            // record the code point covering each checkpoint character
+            while ((long) checkpoint * CHECKPOINT < c + charCount) {
+                checkpointChars[checkpoint] = c;
+                checkpointBytes[checkpoint] = b;
+                checkpoint++;
+            }
+
+            c += charCount;
+            b += width;
+        }
+
+        return new ByteBufferCharSequence(
+            buffer,
+            end,
+            checkpointChars,
+            checkpointBytes,
+            0,
+            c
+        );
+    }
+
+    private ByteBufferCharSequence(final ByteBuffer buffer,
+                                   final int end,
+                                   final int[] checkpointChars,
+                                   final int[] checkpointBytes,
+                                   final int offset,
+                                   final int length) {
+        super();
+        this.buffer = buffer;
+        this.end = end;
+        this.checkpointChars = checkpointChars;
+        this.checkpointBytes = checkpointBytes;
+        this.offset = offset;
+        this.length = length;
+
+        final int checkpoint = offset / CHECKPOINT;
+        this.last = ((long) checkpointChars[checkpoint] << 32) | checkpointBytes[checkpoint];
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length);
+        }
+
+        final ByteBuffer buffer = this.buffer;
+        final int end = this.end;
+        final int charIndex = this.offset + index;
+
+        // continue from the last code point when reading forwards, otherwise from the nearest checkpoint
+        final long last = this.last;
+        int c = (int) (last >>> 32);
+        int b = (int) last;
+        if (charIndex < c || charIndex - c >= CHECKPOINT) {
+            final int checkpoint = charIndex / CHECKPOINT;
+            c = this.checkpointChars[checkpoint];
+            b = this.checkpointBytes[checkpoint];
+        }
+
+        for (; ; ) {
+            final int width = width(buffer, b, end);
+            final int codePoint = codePoint(buffer, b, width);
+            final int charCount = Character.charCount(codePoint);
+
+            if (charIndex < c + charCount) {
+                this.last = ((long) c << 32) | b;
+
+                return 1 == charCount ?
+                    (char) codePoint :
+                    charIndex == c ?
+                        Character.highSurrogate(codePoint) :
+                        Character.lowSurrogate(codePoint);
+            }
+
+            c += charCount;
+            b += width;
+        }
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new StringIndexOutOfBoundsException("Invalid start " + start + " and end " + end + " not between 0 and " + this.length);
+        }
+
+        return 0 == start && this.length == end ?
+            this :
+            new ByteBufferCharSequence(
+                this.buffer,
+                this.end,
+                this.checkpointChars,
+                this.checkpointBytes,
+                this.offset + start,
+                end - start
+            );
+    }
+
+    /**
+     * Returns the number of bytes in the UTF-8 sequence starting at the given offset, or 1 if it is malformed.
+     */
+    private static int width(final ByteBuffer buffer,
+                             final int offset,
+                             final int end) {
+        final int lead = buffer.get(offset) & 0xff;
+
+        final int width;
+        if (lead < 0x80) {
+            width = 1;
+        } else if (lead >= 0xc2 && lead <= 0xdf) {
+            width = 2;
+        } else if (lead >= 0xe0 && lead <= 0xef) {
+            width = 3;
+        } else if (lead >= 0xf0 && lead <= 0xf4) {
+            width = 4;
+        } else {
+            width = 1;
+        }
+
+        return width > 1 && isWellFormed(buffer, offset, width, end) ?
+            width :
+            1;
+    }
+
+    private static boolean isWellFormed(final ByteBuffer buffer,
+                                        final int offset,
+                                        final int width,
+                                        final int end) {
+        boolean wellFormed = offset + width <= end;
+
+        for (int i = 1; wellFormed && i < width; i++) {
+            wellFormed = 0x80 == (buffer.get(offset + i) & 0xc0);
+        }
+
+        if (wellFormed) {
+            final int codePoint = decode(buffer, offset, width);
+            wellFormed = 3 == width ?
+                codePoint >= 0x800 && (codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE) :
+                4 != width || (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && codePoint <= Character.MAX_CODE_POINT);
+        }
+
+        return wellFormed;
+    }
+
+    /**
+     * Returns the code point of the sequence with the given width returned by {@link #width(ByteBuffer, int, int)}.
+     */
+    private static int codePoint(final ByteBuffer buffer,
+                                 final int offset,
+                                 final int width) {
+        final int lead = buffer.get(offset) & 0xff;
+
+        return 1 == width ?
+            lead < 0x80 ?
+                lead :
+                REPLACEMENT :
+            decode(buffer, offset, width);
+    }
+
+    private static int decode(final ByteBuffer buffer,
+                              final int offset,
+                              final int width) {
+        final int lead = buffer.get(offset) & 0xff;
+
+        int codePoint = 2 == width ?
+            lead & 0x1f :
+            3 == width ?
+                lead & 0x0f :
+                lead & 0x07;
+
+        for (int i = 1; i < width; i++) {
+            codePoint = (codePoint << 6) | (buffer.get(offset + i) & 0x3f);
+        }
+
+        return codePoint;
+    }
+
+    /**
+     * The buffer is only read with absolute gets, which leave its position unchanged.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The limit of the {@link ByteBuffer} when this view was created.
+     */
+    private final int end;
+
+    /**
+     * The index of the character starting the code point that covers each checkpoint, shared by all views.
+     */
+    private final int[] checkpointChars;
+
+    /**
+     * The byte offset of the code point that covers each checkpoint, shared by all views.
+     */
+    private final int[] checkpointBytes;
+
+    /**
+     * The index of the first character of this view within all the characters of the {@link ByteBuffer}.
+     */
+    private final int offset;
+
+    private final int length;
+
+    /**
+     * The character index in the high half and byte offset in the low half of the last code point read, packed into
+     * a single volatile field so views may be shared between threads.
+     */
+    private volatile long last;
+
+    @Override
+    public String toString() {
+        final int length = this.length;
+        final char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            chars[i] = this.charAt(i);
+        }
+
+        return new String(chars);
+    }
+}
@@ -34,7 +34,7 @@ final class CharPredicateCharacterParser<C extends ParserContext> extends NonEmp
 
         return new CharPredicateCharacterParser<>(
             predicate,
-            predicate.toString()
+            null // toString built lazily
         );
     }
 
@@ -72,6 +72,11 @@ final class CharPredicateCharacterParser<C extends ParserContext> extends NonEmp
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return this.predicate.toString();
+    }
+
     @Override
     CharPredicateCharacterParser<C> replaceToString(final String toString) {
         return new CharPredicateCharacterParser<>(
@@ -42,12 +42,7 @@ final class CharPredicateStringParser<C extends ParserContext> extends NonEmptyP
             predicate,
             minLength,
             maxLength,
-            predicate.toString() +
-                '{' +
-                minLength +
-                ',' +
-                maxLength +
-                '}'
+            null // toString built lazily
         );
     }
 
@@ -94,6 +89,16 @@ final class CharPredicateStringParser<C extends ParserContext> extends NonEmptyP
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return this.predicate.toString() +
+            '{' +
+            this.minLength +
+            ',' +
+            this.maxLength +
+            '}';
+    }
+
     @Override
     CharPredicateStringParser<C> replaceToString(final String toString) {
         return new CharPredicateStringParser<>(
@@ -121,7 +126,6 @@ final class CharPredicateStringParser<C extends ParserContext> extends NonEmptyP
 
         return this.predicate.equals(otherCharPredicateStringParser.predicate) &&
             this.minLength == otherCharPredicateStringParser.minLength &&
-            this.maxLength == otherCharPredicateStringParser.maxLength &&
-            this.toString.equals(otherCharPredicateStringParser.toString);
+            this.maxLength == otherCharPredicateStringParser.maxLength;
     }
 }
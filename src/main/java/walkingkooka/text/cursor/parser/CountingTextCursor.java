@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} that wraps another, counting its position so {@link Parser parsers} that measure how much text
+ * was consumed may subtract two positions rather than calling {@link TextCursorLineInfo#textOffset()} or
+ * {@link TextCursorSavePoint#textBetween()}, both of which allocate.
+ */
+final class CountingTextCursor implements TextCursorWrapper {
+
+    /**
+     * Returns the given {@link TextCursor} if it is a {@link CountingTextCursor}, otherwise wraps it, so any outer
+     * wrappers are kept for the rest of the parse. A {@link CountingTextCursor} wrapping a {@link TextCursor} that
+     * already wraps another reads its position rather than counting again, otherwise the position starts at the text
+     * offset of the given {@link TextCursor}.
+     */
+    static CountingTextCursor with(final TextCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+
+        return cursor instanceof CountingTextCursor ?
+            (CountingTextCursor) cursor :
+            wrap(cursor);
+    }
+
+    private static CountingTextCursor wrap(final TextCursor cursor) {
+        TextCursor wrapped = TextCursorWrapper.unwrap(cursor);
+        while (null != wrapped) {
+            if (wrapped instanceof CountingTextCursor) {
+                break;
+            }
+            wrapped = TextCursorWrapper.unwrap(wrapped);
+        }
+
+        final CountingTextCursor inner = (CountingTextCursor) wrapped;
+        return new CountingTextCursor(
+            cursor,
+            inner,
+            null != inner ?
+                0 :
+                cursor.lineInfo()
+                    .textOffset()
+        );
+    }
+
+    private CountingTextCursor(final TextCursor cursor,
+                               final CountingTextCursor inner,
+                               final int position) {
+        super();
+        this.cursor = cursor;
+        this.inner = inner;
+        this.position = position;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return this.cursor.isNotEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        if (null == this.inner) {
+            this.position++;
+        }
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        if (null == this.inner) {
+            final TextCursorSavePoint save = this.cursor.save();
+            this.cursor.end();
+
+            this.position += save.textBetween()
+                .length();
+        } else {
+            this.cursor.end();
+        }
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return CountingTextCursorSavePoint.with(
+            this,
+            this.cursor.save(),
+            this.position
+        );
+    }
+
+    /**
+     * Invoked by {@link CountingTextCursorSavePoint#restore()}.
+     */
+    void restore(final TextCursorSavePoint save,
+                 final int position) {
+        save.restore();
+        this.position = position;
+    }
+
+    @Override
+    public String text() {
+        return this.cursor.text();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    // TextCursorWrapper................................................................................................
+
+    @Override
+    public TextCursor wrappedTextCursor() {
+        return this.cursor;
+    }
+
+    private final TextCursor cursor;
+
+    /**
+     * The {@link CountingTextCursor} wrapped somewhere within {@link #cursor}, which counts the position, or null.
+     */
+    private final CountingTextCursor inner;
+
+    /**
+     * Returns the text offset of the current character.
+     */
+    int position() {
+        final CountingTextCursor inner = this.inner;
+        return null != inner ?
+            inner.position() :
+            this.position;
+    }
+
+    /**
+     * The text offset of the current character, only counted when there is no {@link #inner}.
+     */
+    private int position;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
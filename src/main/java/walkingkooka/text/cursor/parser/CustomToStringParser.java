@@ -75,6 +75,16 @@ final class CustomToStringParser<C extends ParserContext> extends ParserWrapper<
         );
     }
 
+    // ParserWrapper....................................................................................................
+
+    @Override
+    CustomToStringParser<C> replaceParser(final Parser<C> parser) {
+        return new CustomToStringParser<>(
+            parser,
+            this.toString
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override //
@@ -64,27 +64,7 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
                                    final TextCursorSavePoint save) {
         ParserToken token;
 
-        final Locale locale = context.locale();
-        final int twoDigitYear = context.twoDigitYear();
-
-        DateTimeFormatterParserCache cache = this.cache;
-        DateTimeFormatter dateTimeFormatter;
-        if (null == cache) {
-            dateTimeFormatter = this.formatter.apply(context);
-            this.cache = DateTimeFormatterParserCache.with(locale,
-                twoDigitYear,
-                dateTimeFormatter);
-        } else {
-            if (false == cache.locale.equals(locale) || cache.twoDigitYear != twoDigitYear) {
-                dateTimeFormatter = this.formatter.apply(context);
-                cache = DateTimeFormatterParserCache.with(locale,
-                    twoDigitYear,
-                    dateTimeFormatter);
-                this.cache = cache;
-            }
-
-            dateTimeFormatter = cache.formatter;
-        }
+        final DateTimeFormatter dateTimeFormatter = this.dateTimeFormatter(context);
 
         final ParsePosition position = new ParsePosition(0);
         final StringBuilder chars = new StringBuilder();
@@ -116,7 +96,7 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
             } catch (final DateTimeParseException parse) {
                 final Throwable cause = parse.getCause();
                 if (cause instanceof DateTimeException) {
-                    throw new ParserException(cause.getMessage(), cause);
+                    throw context.parserException(cause.getMessage(), cause);
                 }
                 if (cursor.isEmpty()) {
                     token = null;
@@ -127,7 +107,7 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
                 // try again!
             } catch (final DateTimeException invalid) {
                 // must be reporting an invalid component within a date/time.
-                throw new ParserException(invalid.getMessage(), invalid);
+                throw context.parserException(invalid.getMessage(), invalid);
             } catch (final RuntimeException failed) {
                 if (cursor.isEmpty()) {
                     token = null;
@@ -140,9 +120,34 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
         return Optional.ofNullable(token);
     }
 
+    /**
+     * Returns the cached {@link DateTimeFormatter} if it was built for the same {@link Locale} and two digit year,
+     * otherwise builds and caches a new {@link DateTimeFormatter}. The cache is immutable and read once, so the
+     * same {@link Parser} may be shared by many threads using different {@link ParserContext}.
+     */
+    private DateTimeFormatter dateTimeFormatter(final C context) {
+        final Locale locale = context.locale();
+        final int twoDigitYear = context.twoDigitYear();
+
+        DateTimeFormatterParserCache cache = this.cache;
+        if (null == cache || false == cache.locale.equals(locale) || cache.twoDigitYear != twoDigitYear) {
+            cache = DateTimeFormatterParserCache.with(
+                locale,
+                twoDigitYear,
+                this.formatter.apply(context)
+            );
+            this.cache = cache;
+        }
+
+        return cache.formatter;
+    }
+
     final Function<DateTimeContext, DateTimeFormatter> formatter;
 
-    DateTimeFormatterParserCache cache;
+    /**
+     * The last {@link DateTimeFormatterParserCache}, replaced but never updated.
+     */
+    volatile DateTimeFormatterParserCache cache;
 
     /**
      * Factory that creates a {@link ParserToken} with the date or time or date time value.
@@ -150,6 +155,13 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
     abstract ParserToken createParserToken(final TemporalAccessor temporalAccessor,
                                            final String text);
 
+    // ParserSetToString................................................................................................
+
+    @Override
+    final String buildToString() {
+        return this.formatter.toString();
+    }
+
     // Object...........................................................................................................
 
     @Override //
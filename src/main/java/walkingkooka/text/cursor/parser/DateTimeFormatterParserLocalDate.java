@@ -32,7 +32,7 @@ final class DateTimeFormatterParserLocalDate<C extends ParserContext> extends Da
     static <C extends ParserContext> DateTimeFormatterParserLocalDate<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserLocalDate<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
@@ -32,7 +32,7 @@ final class DateTimeFormatterParserLocalDateTime<C extends ParserContext> extend
     static <C extends ParserContext> DateTimeFormatterParserLocalDateTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserLocalDateTime<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
@@ -32,7 +32,7 @@ final class DateTimeFormatterParserLocalTime<C extends ParserContext> extends Da
     static <C extends ParserContext> DateTimeFormatterParserLocalTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserLocalTime<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
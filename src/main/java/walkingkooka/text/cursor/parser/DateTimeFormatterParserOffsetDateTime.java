@@ -32,7 +32,7 @@ final class DateTimeFormatterParserOffsetDateTime<C extends ParserContext> exten
     static <C extends ParserContext> DateTimeFormatterParserOffsetDateTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserOffsetDateTime<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
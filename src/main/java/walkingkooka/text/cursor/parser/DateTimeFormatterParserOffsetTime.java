@@ -32,7 +32,7 @@ final class DateTimeFormatterParserOffsetTime<C extends ParserContext> extends D
     static <C extends ParserContext> DateTimeFormatterParserOffsetTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserOffsetTime<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
@@ -32,7 +32,7 @@ final class DateTimeFormatterParserZonedDateTime<C extends ParserContext> extend
     static <C extends ParserContext> DateTimeFormatterParserZonedDateTime<C> with(final Function<DateTimeContext, DateTimeFormatter> formatter) {
         return new DateTimeFormatterParserZonedDateTime<>(
             check(formatter),
-            formatter.toString()
+            null // toString built lazily
         );
     }
 
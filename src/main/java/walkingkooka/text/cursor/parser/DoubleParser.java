@@ -36,7 +36,9 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C>
         return INSTANCE.cast();
     }
 
-    private final static DoubleParser<?> INSTANCE = new DoubleParser<>("Double");
+    private final static DoubleParser<?> INSTANCE = new DoubleParser<>(
+        null // toString built lazily
+    );
 
     /**
      * Private ctor to limit subclassing.
@@ -343,6 +345,11 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "Double";
+    }
+
     @Override
     DoubleParser<C> replaceToString(final String toString) {
         return new DoubleParser<>(toString);
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.Objects;
+
+/**
+ * The parser token for text that was skipped after a failure, with the value holding the error message.
+ */
+public final class ErrorParserToken extends LeafParserToken<String> {
+
+    static ErrorParserToken with(final String value, final String text) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(text, "text");
+
+        return new ErrorParserToken(value, text);
+    }
+
+    private ErrorParserToken(final String value, final String text) {
+        super(value, text);
+    }
+
+    // visitor..........................................................................................................
+
+    @Override
+    public void accept(final ParserTokenVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
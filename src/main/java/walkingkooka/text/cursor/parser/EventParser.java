@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Parser} that times the wrapped {@link Parser} and passes a {@link ParserEvent} to a {@link Consumer} when
+ * the duration is at least the threshold. The offset and length of an event are positions of a {@link CountingTextCursor}
+ * shared by all {@link EventParser} of a graph, so emitting an event never scans the text.
+ */
+final class EventParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    /**
+     * Wraps every node of the given {@link Parser} graph, where the root always emits an event and all other nodes
+     * only emit events at or above the threshold.
+     */
+    static <C extends ParserContext> Parser<C> events(final Parser<C> parser,
+                                                      final long thresholdNanos,
+                                                      final Consumer<ParserEvent> events) {
+        Objects.requireNonNull(parser, "parser");
+        if (thresholdNanos < 0) {
+            throw new IllegalArgumentException("Invalid threshold " + thresholdNanos + " < 0");
+        }
+        Objects.requireNonNull(events, "events");
+
+        return wrap(
+            parser,
+            0,
+            thresholdNanos,
+            events
+        );
+    }
+
+    private static <C extends ParserContext> Parser<C> wrap(final Parser<C> parser,
+                                                            final int depth,
+                                                            final long thresholdNanos,
+                                                            final Consumer<ParserEvent> events) {
+        return with(
+            ParserRewriter.replaceChildren(
+                parser,
+                (p) -> wrap(
+                    p,
+                    depth + 1,
+                    thresholdNanos,
+                    events
+                )
+            ),
+            depth,
+            0 == depth ?
+                0 :
+                thresholdNanos,
+            events
+        );
+    }
+
+    static <C extends ParserContext> EventParser<C> with(final Parser<C> parser,
+                                                         final int depth,
+                                                         final long thresholdNanos,
+                                                         final Consumer<ParserEvent> events) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(events, "events");
+
+        return new EventParser<>(
+            parser,
+            depth,
+            thresholdNanos,
+            events,
+            null // toString built lazily
+        );
+    }
+
+    private EventParser(final Parser<C> parser,
+                        final int depth,
+                        final long thresholdNanos,
+                        final Consumer<ParserEvent> events,
+                        final String toString) {
+        super(parser, toString);
+        this.depth = depth;
+        this.thresholdNanos = thresholdNanos;
+        this.events = events;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        final CountingTextCursor counting = CountingTextCursor.with(cursor);
+        final int start = counting.position();
+        final long begin = System.nanoTime();
+
+        Optional<ParserToken> token = Optional.empty();
+        try {
+            token = this.parser.parse(
+                counting,
+                context
+            );
+        } finally {
+            final long nanos = System.nanoTime() - begin;
+            if (nanos >= this.thresholdNanos) {
+                final boolean success = token.isPresent();
+
+                this.events.accept(
+                    ParserEvent.with(
+                        this.toString(),
+                        this.depth,
+                        start,
+                        success ?
+                            counting.position() - start :
+                            0,
+                        nanos,
+                        success
+                    )
+                );
+            }
+        }
+
+        return token;
+    }
+
+    private final int depth;
+
+    private final long thresholdNanos;
+
+    private final Consumer<ParserEvent> events;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    EventParser<C> replaceToString(final String toString) {
+        return new EventParser<>(
+            this.parser,
+            this.depth,
+            this.thresholdNanos,
+            this.events,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    EventParser<C> replaceParser(final Parser<C> parser) {
+        return new EventParser<>(
+            parser,
+            this.depth,
+            this.thresholdNanos,
+            this.events,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return Objects.hash(
+            this.depth,
+            this.thresholdNanos,
+            this.events
+        );
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        final EventParser<?> otherEventParser = (EventParser<?>) other;
+
+        return this.depth == otherEventParser.depth &&
+            this.thresholdNanos == otherEventParser.thresholdNanos &&
+            this.events.equals(otherEventParser.events);
+    }
+}
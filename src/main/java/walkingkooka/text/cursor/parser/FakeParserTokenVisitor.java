@@ -22,6 +22,11 @@ import walkingkooka.visit.Visiting;
 
 public class FakeParserTokenVisitor extends ParserTokenVisitor implements Fake {
 
+    @Override
+    protected void visit(final ErrorParserToken token) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void visit(final LocalDateParserToken token) {
         throw new UnsupportedOperationException();
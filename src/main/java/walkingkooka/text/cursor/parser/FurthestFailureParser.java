@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that records the failure of a leaf {@link Parser} into a {@link FurthestFailureTextCursor}, so an
+ * {@link InvalidCharacterExceptionFactory} can report the furthest offset reached and the leaf parsers expected there
+ * rather than the {@link #toString()} of the entire grammar. If the {@link TextCursor} is not already, or does not
+ * wrap a {@link FurthestFailureTextCursor} it is wrapped in one, which happens for the root. A successful parse pays
+ * only for a few instanceof checks.
+ * <br>
+ * Any {@link ParserReporter} that should use the furthest failure must be within the wrapped graph, as the root
+ * {@link FurthestFailureTextCursor} is not visible outside it. The root therefore places the reporter given to
+ * {@link #orFailIfCursorNotEmpty(ParserReporter)} within itself, which includes the one added by
+ * {@link Parser#parseText(String, ParserContext)}.
+ */
+final class FurthestFailureParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    /**
+     * The id of the root when it is not a leaf, which never records failures.
+     */
+    final static int NO_ID = -1;
+
+    /**
+     * Wraps every leaf of the given {@link Parser} graph assigning each an id, which is the index of its label, and
+     * also wraps the root so the {@link TextCursor} is always a {@link FurthestFailureTextCursor}.
+     */
+    static <C extends ParserContext> Parser<C> furthestFailure(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        final List<String> labels = Lists.array();
+        final Parser<C> rewritten = wrapLeaves(
+            parser,
+            labels
+        );
+
+        return rewritten instanceof FurthestFailureParser ?
+            rewritten :
+            with(
+                rewritten,
+                NO_ID,
+                labels
+            );
+    }
+
+    private static <C extends ParserContext> Parser<C> wrapLeaves(final Parser<C> parser,
+                                                                  final List<String> labels) {
+        final Parser<C> replaced = ParserRewriter.replaceChildren(
+            parser,
+            (p) -> wrapLeaves(
+                p,
+                labels
+            )
+        );
+
+        final Parser<C> wrapped;
+
+        // ParserRewriter returns leaves unchanged
+        if (parser == replaced) {
+            final int id = labels.size();
+            labels.add(parser.toString());
+
+            wrapped = with(
+                parser,
+                id,
+                labels
+            );
+        } else {
+            wrapped = replaced;
+        }
+
+        return wrapped;
+    }
+
+    static <C extends ParserContext> FurthestFailureParser<C> with(final Parser<C> parser,
+                                                                   final int id,
+                                                                   final List<String> labels) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(labels, "labels");
+
+        return new FurthestFailureParser<>(
+            parser,
+            id,
+            labels,
+            null // toString built lazily
+        );
+    }
+
+    private FurthestFailureParser(final Parser<C> parser,
+                                  final int id,
+                                  final List<String> labels,
+                                  final String toString) {
+        super(parser, toString);
+        this.id = id;
+        this.labels = labels;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        // another wrapper such as a ProfilingParser may have wrapped the FurthestFailureTextCursor of the root
+        FurthestFailureTextCursor furthestFailureCursor = FurthestFailureTextCursor.find(cursor);
+        TextCursor parseCursor = cursor;
+        if (null == furthestFailureCursor) {
+            furthestFailureCursor = FurthestFailureTextCursor.with(cursor);
+            parseCursor = furthestFailureCursor;
+        }
+
+        final Optional<ParserToken> token = this.parser.parse(
+            parseCursor,
+            context
+        );
+
+        if (false == token.isPresent() && NO_ID != this.id) {
+            furthestFailureCursor.failed(
+                this.labels,
+                this.id
+            );
+        }
+
+        return token;
+    }
+
+    /**
+     * The root places the {@link ReportingParser} within itself, so the reporter sees the {@link FurthestFailureTextCursor}.
+     */
+    @Override
+    public Parser<C> orFailIfCursorNotEmpty(final ParserReporter<C> reporter) {
+        return NO_ID == this.id ?
+            this.replaceParser(
+                this.parser.orFailIfCursorNotEmpty(reporter)
+            ) :
+            Parsers.report(
+                ParserReporterCondition.NOT_EMPTY,
+                reporter,
+                this
+            );
+    }
+
+    private final int id;
+
+    /**
+     * The labels of all leaf parsers in the graph, shared by all {@link FurthestFailureParser}.
+     */
+    private final List<String> labels;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    FurthestFailureParser<C> replaceToString(final String toString) {
+        return new FurthestFailureParser<>(
+            this.parser,
+            this.id,
+            this.labels,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    FurthestFailureParser<C> replaceParser(final Parser<C> parser) {
+        return new FurthestFailureParser<>(
+            parser,
+            this.id,
+            this.labels,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return Objects.hash(
+            this.id,
+            this.labels
+        );
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        final FurthestFailureParser<?> otherFurthestFailureParser = (FurthestFailureParser<?>) other;
+
+        return this.id == otherFurthestFailureParser.id &&
+            this.labels.equals(otherFurthestFailureParser.labels);
+    }
+}
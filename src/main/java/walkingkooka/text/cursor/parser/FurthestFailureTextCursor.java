@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Cast;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} that wraps another, remembering the furthest offset where a leaf {@link Parser} failed along
+ * with the ids of all leaf parsers that failed there. A failure only records the offset counted by a
+ * {@link CountingTextCursor}. The column and line and the human readable labels from {@link #expected()} are only
+ * computed when an {@link walkingkooka.InvalidCharacterException} is created.
+ */
+final class FurthestFailureTextCursor implements TextCursorWrapper {
+
+    /**
+     * The value of {@link #furthest()} before any parser failed.
+     */
+    final static int NONE = -1;
+
+    static FurthestFailureTextCursor with(final TextCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor");
+
+        return new FurthestFailureTextCursor(
+            CountingTextCursor.with(cursor)
+        );
+    }
+
+    /**
+     * Returns the {@link FurthestFailureTextCursor} the given {@link TextCursor} is or wraps, or null.
+     */
+    static FurthestFailureTextCursor find(final TextCursor cursor) {
+        TextCursor wrapped = cursor;
+        while (null != wrapped) {
+            if (wrapped instanceof FurthestFailureTextCursor) {
+                break;
+            }
+            wrapped = TextCursorWrapper.unwrap(wrapped);
+        }
+        return (FurthestFailureTextCursor) wrapped;
+    }
+
+    private FurthestFailureTextCursor(final CountingTextCursor cursor) {
+        super();
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return this.cursor.isNotEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        this.cursor.end();
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return this.cursor.save();
+    }
+
+    @Override
+    public String text() {
+        return this.cursor.text();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    // TextCursorWrapper................................................................................................
+
+    @Override
+    public TextCursor wrappedTextCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Counts the offset, so a failure records an int rather than calling {@link TextCursor#lineInfo()}.
+     */
+    private final CountingTextCursor cursor;
+
+    // failures.........................................................................................................
+
+    /**
+     * Records the failure of the parser with the given id at the current offset, discarding all failures before it.
+     * The labels are shared by all parsers of a graph, with the id being the index of the label of the parser.
+     */
+    void failed(final List<String> labels,
+                final int id) {
+        final int offset = this.cursor.position();
+        final int furthest = this.furthest;
+
+        if (offset >= furthest) {
+            if (offset > furthest) {
+                this.furthest = offset;
+                this.count = 0;
+            }
+
+            final int count = this.count;
+            final int[] ids = this.ids;
+            final List<String>[] idLabels = this.labels;
+
+            // the same parser may fail several times at the same offset when backtracking
+            for (int i = 0; i < count; i++) {
+                if (id == ids[i] && labels == idLabels[i]) {
+                    return;
+                }
+            }
+
+            if (ids.length == count) {
+                final int capacity = Math.max(
+                    4,
+                    count * 2
+                );
+
+                final int[] copyIds = new int[capacity];
+                System.arraycopy(ids, 0, copyIds, 0, count);
+                this.ids = copyIds;
+
+                final List<String>[] copyLabels = Cast.to(new List[capacity]);
+                System.arraycopy(idLabels, 0, copyLabels, 0, count);
+                this.labels = copyLabels;
+            }
+
+            this.ids[count] = id;
+            this.labels[count] = labels;
+            this.count = count + 1;
+        }
+    }
+
+    /**
+     * The furthest offset where a parser failed or {@link #NONE}.
+     */
+    int furthest() {
+        return this.furthest;
+    }
+
+    /**
+     * Builds the labels of the parsers that failed at {@link #furthest()} separated by commas, in the order they
+     * first failed.
+     */
+    String expected() {
+        final StringBuilder b = new StringBuilder();
+
+        String separator = "";
+        for (int i = 0; i < this.count; i++) {
+            b.append(separator)
+                .append(
+                    this.labels[i].get(
+                        this.ids[i]
+                    )
+                );
+            separator = ", ";
+        }
+
+        return b.toString();
+    }
+
+    private int furthest = NONE;
+
+    private int[] ids = new int[0];
+
+    private List<String>[] labels = Cast.to(new List[0]);
+
+    private int count;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
@@ -51,7 +51,7 @@ final class InitialAndPartCharPredicateStringParser<C extends ParserContext> ext
             part,
             minLength,
             maxLength,
-            initial + " " + part + "{" + minLength + "," + maxLength + "}"
+            null // toString built lazily
         );
     }
 
@@ -132,6 +132,11 @@ final class InitialAndPartCharPredicateStringParser<C extends ParserContext> ext
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return this.initial + " " + this.part + "{" + this.minLength + "," + this.maxLength + "}";
+    }
+
     @Override
     InitialAndPartCharPredicateStringParser<C> replaceToString(final String toString) {
         return new InitialAndPartCharPredicateStringParser<>(
@@ -162,7 +167,6 @@ final class InitialAndPartCharPredicateStringParser<C extends ParserContext> ext
         return this.initial.equals(otherInitial.initial) &&
             this.part.equals(otherInitial.part) &&
             this.minLength == otherInitial.minLength &&
-            this.maxLength == otherInitial.maxLength &&
-            this.toString.equals(otherInitial.toString);
+            this.maxLength == otherInitial.maxLength;
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorates another {@link Parser} sharing leaf {@link ParserToken tokens} that are equal by type, value and text.
+ * This is useful for grammars that match the same literals, such as operators and separators, many times, where
+ * retained token graphs would otherwise hold many identical tokens.
+ * <br>
+ * ASCII {@link CharacterParserToken} are shared from a precomputed table, all other leaf tokens are shared using a
+ * bounded pool. Parent tokens are never interned, {@link #tree(Parser)} wraps every leaf {@link Parser} of a grammar,
+ * so the leaves of sequences and repetitions are interned, with all leaves sharing a single pool.
+ */
+final class InterningParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    /**
+     * Wraps each leaf {@link Parser} found by {@link ParserRewriter} with an {@link InterningParser}, all sharing the
+     * same pool.
+     */
+    static <C extends ParserContext> Parser<C> tree(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        return wrapLeaves(
+            parser,
+            new ConcurrentHashMap<>()
+        );
+    }
+
+    private static <C extends ParserContext> Parser<C> wrapLeaves(final Parser<C> parser,
+                                                                  final Map<ParserToken, ParserToken> pool) {
+        final Parser<C> wrapped;
+
+        if (parser instanceof InterningParser) {
+            wrapped = parser;
+        } else {
+            final Parser<C> replaced = ParserRewriter.replaceChildren(
+                parser,
+                (p) -> wrapLeaves(
+                    p,
+                    pool
+                )
+            );
+
+            // ParserRewriter returns leaves unchanged
+            wrapped = parser == replaced ?
+                new InterningParser<>(
+                    parser,
+                    pool,
+                    null // toString built lazily
+                ) :
+                replaced;
+        }
+
+        return wrapped;
+    }
+
+    static <C extends ParserContext> InterningParser<C> with(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        return parser instanceof InterningParser ?
+            parser.cast() :
+            new InterningParser<>(
+                parser,
+                new ConcurrentHashMap<>(),
+                null // toString built lazily
+            );
+    }
+
+    /**
+     * The maximum number of tokens held by the pool of a single {@link InterningParser}, once full new tokens are
+     * returned without being interned.
+     */
+    // @VisibleForTesting
+    final static int POOL_MAX_SIZE = 1024;
+
+    /**
+     * A table holding a {@link CharacterParserToken} for each ASCII character, whose text is the character itself.
+     */
+    private final static CharacterParserToken[] CHARACTERS = new CharacterParserToken[128];
+
+    static {
+        final CharacterParserToken[] characters = CHARACTERS;
+
+        for (int i = 0; i < characters.length; i++) {
+            final char c = (char) i;
+            characters[i] = CharacterParserToken.with(
+                c,
+                String.valueOf(c)
+            );
+        }
+    }
+
+    private InterningParser(final Parser<C> parser,
+                            final Map<ParserToken, ParserToken> pool,
+                            final String toString) {
+        super(parser, toString);
+        this.pool = pool;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        return this.parser.parse(
+            cursor,
+            context
+        ).map(this::intern);
+    }
+
+    // @VisibleForTesting
+    ParserToken intern(final ParserToken token) {
+        return token.isLeaf() ?
+            this.internLeaf(token) :
+            token;
+    }
+
+    private ParserToken internLeaf(final ParserToken token) {
+        ParserToken interned = null;
+
+        if (token instanceof CharacterParserToken) {
+            interned = internCharacter((CharacterParserToken) token);
+        }
+
+        if (null == interned) {
+            final Map<ParserToken, ParserToken> pool = this.pool;
+
+            interned = pool.get(token);
+            if (null == interned) {
+                interned = token;
+
+                if (pool.size() < POOL_MAX_SIZE) {
+                    final ParserToken previous = pool.putIfAbsent(
+                        token,
+                        token
+                    );
+                    if (null != previous) {
+                        interned = previous;
+                    }
+                }
+            }
+        }
+
+        return interned;
+    }
+
+    /**
+     * Returns the shared token for ASCII characters whose text is the character itself, otherwise returns null.
+     */
+    private static CharacterParserToken internCharacter(final CharacterParserToken token) {
+        final char c = token.value();
+        final String text = token.text();
+
+        return c < CHARACTERS.length && 1 == text.length() && c == text.charAt(0) ?
+            CHARACTERS[c] :
+            null;
+    }
+
+    /**
+     * A bounded pool of previously returned leaf tokens, the key and value are always the same token. The pool is
+     * shared by all leaves wrapped by {@link #tree(Parser)}.
+     */
+    private final Map<ParserToken, ParserToken> pool;
+
+    @Override
+    public Parser<C> intern() {
+        return this;
+    }
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    InterningParser<C> replaceToString(final String toString) {
+        return new InterningParser<>(
+            this.parser,
+            this.pool,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    InterningParser<C> replaceParser(final Parser<C> parser) {
+        return new InterningParser<>(
+            parser,
+            this.pool,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return 0;
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        return true; // pool is a cache and not a property
+    }
+}
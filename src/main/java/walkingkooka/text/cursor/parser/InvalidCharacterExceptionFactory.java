@@ -23,6 +23,7 @@ import walkingkooka.math.DecimalNumberContext;
 import walkingkooka.text.cursor.MaxPositionTextCursor;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursors;
 
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -72,14 +73,15 @@ public enum InvalidCharacterExceptionFactory implements BiFunction<Parser<?>, Te
         Objects.requireNonNull(parser, "parser");
         Objects.requireNonNull(cursor, "cursor");
 
-        final TextCursorLineInfo lineInfo = cursor.lineInfo();
         final String text = cursor.text();
+        final TextCursorLineInfo lineInfo = cursor.lineInfo();
+        final int offset = lineInfo.textOffset();
 
         int position = cursor.isEmpty() ?
             0 :
-            lineInfo.textOffset();
-        if (cursor instanceof MaxPositionTextCursor) {
-            final MaxPositionTextCursor max = (MaxPositionTextCursor) cursor;
+            offset;
+        final MaxPositionTextCursor max = maxPosition(cursor);
+        if (null != max) {
             position = Math.max(
                 Math.min(
                     max.max(),
@@ -89,22 +91,100 @@ public enum InvalidCharacterExceptionFactory implements BiFunction<Parser<?>, Te
             );
         }
 
+        // only build the expected labels when they are needed and the failure is not before the position
+        String expected = null;
+        boolean furthestFailed = false;
+        final FurthestFailureTextCursor furthestFailure = FurthestFailureTextCursor.find(cursor);
+        if (null != furthestFailure) {
+            final int furthest = furthestFailure.furthest();
+            if (furthest >= position && FurthestFailureTextCursor.NONE != furthest) {
+                position = Math.max(
+                    Math.min(
+                        furthest,
+                        text.length() - 1
+                    ),
+                    position
+                );
+                furthestFailed = true;
+
+                if (this == POSITION_EXPECTED || this == COLUMN_AND_LINE_EXPECTED) {
+                    expected = furthestFailure.expected();
+                }
+            }
+        }
+
         InvalidCharacterException ice = new InvalidCharacterException(
             text,
             position
         );
 
         if (this == COLUMN_AND_LINE || this == COLUMN_AND_LINE_EXPECTED) {
-            ice = ice.setColumnAndLine(
-                lineInfo.column(),
-                lineInfo.lineNumber()
-            );
+            // the column and line of a furthest failure after the cursor, otherwise of the cursor like a max position
+            final int lineOffset = furthestFailed ?
+                Math.max(
+                    position,
+                    offset
+                ) :
+                offset;
+
+            // a cursor that carries the index of its text shares it between all its errors
+            final ParserLineIndexTextCursor indexed = ParserLineIndexTextCursor.find(cursor);
+            if (null != indexed) {
+                final ParserLineIndex lineIndex = indexed.lineIndex();
+                ice = ice.setColumnAndLine(
+                    lineIndex.column(lineOffset),
+                    lineIndex.lineNumber(lineOffset)
+                );
+            } else {
+                final TextCursorLineInfo lineOffsetInfo = offset == lineOffset ?
+                    lineInfo :
+                    lineInfoAt(
+                        text,
+                        lineOffset
+                    );
+                ice = ice.setColumnAndLine(
+                    lineOffsetInfo.column(),
+                    lineOffsetInfo.lineNumber()
+                );
+            }
         }
 
         if (this == POSITION_EXPECTED || this == COLUMN_AND_LINE_EXPECTED) {
-            ice = ice.appendToMessage("expected " + parser);
+            ice = ice.appendToMessage(
+                "expected " +
+                    (null != expected ?
+                        expected :
+                        parser)
+            );
         }
 
         return ice;
     }
+
+    /**
+     * Returns the {@link TextCursorLineInfo} at the given offset of the text, which is after the cursor, so line
+     * endings are counted exactly like the {@link TextCursor} being reported.
+     */
+    private static TextCursorLineInfo lineInfoAt(final String text,
+                                                 final int offset) {
+        final TextCursor cursor = TextCursors.charSequence(text);
+        for (int i = 0; i < offset; i++) {
+            cursor.next();
+        }
+        return cursor.lineInfo();
+    }
+
+    /**
+     * Finds the {@link MaxPositionTextCursor} that is or is wrapped by the given {@link TextCursor}, or null.
+     */
+    private static MaxPositionTextCursor maxPosition(final TextCursor cursor) {
+        TextCursor wrapped = cursor;
+        while (null != wrapped) {
+            if (wrapped instanceof MaxPositionTextCursor) {
+                break;
+            }
+            wrapped = TextCursorWrapper.unwrap(wrapped);
+        }
+        return (MaxPositionTextCursor) wrapped;
+    }
 }
@@ -38,7 +38,7 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> implem
 
         return new LongParser<>(
             radix,
-            10 == radix ? "Long" : "Long(base=" + radix + ")"
+            null // toString built lazily
         );
     }
 
@@ -102,7 +102,10 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> implem
         }
 
         if (overflow) {
-            throw new ParserException("Number overflow " + CharSequences.quote(save.textBetween()));
+            throw context.parserException(
+                "Number overflow " + CharSequences.quote(save.textBetween()),
+                null
+            );
         }
 
         return Optional.ofNullable(
@@ -120,6 +123,14 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> implem
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        final int radix = this.radix;
+        return 10 == radix ?
+            "Long" :
+            "Long(base=" + radix + ")";
+    }
+
     @Override
     LongParser<C> replaceToString(final String toString) {
         return new LongParser<>(
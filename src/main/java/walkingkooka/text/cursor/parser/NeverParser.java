@@ -35,7 +35,9 @@ final class NeverParser<C extends ParserContext> extends ParserSetToString<C>
     /**
      * Singleton
      */
-    private final static NeverParser<?> INSTANCE = new NeverParser<>("");
+    private final static NeverParser<?> INSTANCE = new NeverParser<>(
+        null // toString built lazily
+    );
 
     private NeverParser(final String toString) {
         super(toString);
@@ -49,6 +51,11 @@ final class NeverParser<C extends ParserContext> extends ParserSetToString<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "";
+    }
+
     @Override
     Parser<C> replaceToString(final String toString) {
         return new NeverParser<>(toString);
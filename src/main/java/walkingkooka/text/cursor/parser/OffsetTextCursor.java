@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} over a {@link CharSequence} that starts at an offset within the text without copying it, so
+ * {@link TextCursorLineInfo} and any error positions are for the real offset within the whole text.
+ */
+final class OffsetTextCursor implements TextCursor {
+
+    static OffsetTextCursor with(final CharSequence text,
+                                 final int offset) {
+        Objects.requireNonNull(text, "text");
+        if (offset < 0 || offset > text.length()) {
+            throw new IllegalArgumentException("Invalid offset " + offset + " not between 0 and " + text.length());
+        }
+
+        return new OffsetTextCursor(
+            text,
+            offset
+        );
+    }
+
+    private OffsetTextCursor(final CharSequence text,
+                             final int offset) {
+        super();
+        this.text = text;
+        this.position = offset;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.position == this.text.length();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return false == this.isEmpty();
+    }
+
+    @Override
+    public char at() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("Empty text cursor");
+        }
+        return this.text.charAt(this.position);
+    }
+
+    @Override
+    public TextCursor next() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("Empty text cursor");
+        }
+        this.position++;
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        this.position = this.text.length();
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return OffsetTextCursorSavePoint.with(
+            this,
+            this.position
+        );
+    }
+
+    @Override
+    public String text() {
+        return this.text.toString();
+    }
+
+    /**
+     * Returns the {@link TextCursorLineInfo} for the current position within the whole text. The {@link TextCursor}
+     * used to compute it is kept and only moved forward, restarting only when this cursor has moved backwards.
+     */
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        final int position = this.position;
+
+        TextCursor lineInfoCursor = this.lineInfoCursor;
+        int lineInfoPosition = this.lineInfoPosition;
+        if (null == lineInfoCursor || lineInfoPosition > position) {
+            lineInfoCursor = TextCursors.charSequence(this.text);
+            lineInfoPosition = 0;
+        }
+
+        while (lineInfoPosition < position) {
+            lineInfoCursor.next();
+            lineInfoPosition++;
+        }
+
+        this.lineInfoCursor = lineInfoCursor;
+        this.lineInfoPosition = lineInfoPosition;
+
+        return lineInfoCursor.lineInfo();
+    }
+
+    /**
+     * Invoked by {@link OffsetTextCursorSavePoint#restore()}.
+     */
+    void restore(final int position) {
+        this.position = position;
+    }
+
+    /**
+     * Invoked by {@link OffsetTextCursorSavePoint#textBetween()}.
+     */
+    CharSequence textBetween(final int position) {
+        final int current = this.position;
+
+        return this.text.subSequence(
+            Math.min(position, current),
+            Math.max(position, current)
+        );
+    }
+
+    private final CharSequence text;
+
+    /**
+     * The offset of the current character within {@link #text}.
+     */
+    private int position;
+
+    /**
+     * A {@link TextCursor} over {@link #text} at {@link #lineInfoPosition}, created when {@link #lineInfo()} is first
+     * called.
+     */
+    private TextCursor lineInfoCursor;
+
+    private int lineInfoPosition;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final CharSequence text = this.text;
+        final int position = this.position;
+
+        return text.subSequence(0, position) +
+            "[" +
+            text.subSequence(position, text.length()) +
+            "]";
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that matches an operand followed by zero or more operator and operand pairs, building the binary
+ * operator tokens as each operator is matched using precedence climbing. The resulting graph has the same shape as
+ * that produced by {@link SequenceParserToken#binaryOperator(BinaryOperatorTransformer)} for the same tokens, but is
+ * built in a single pass rather than repeatedly rescanning a flattened {@link List} once for each priority.
+ * <br>
+ * Leading and trailing whitespace returned by the operand or operator {@link Parser} are moved outside the operand
+ * or operator, so they become part of the enclosing binary operator token, again matching
+ * {@link SequenceParserToken#binaryOperator(BinaryOperatorTransformer)}.
+ * <br>
+ * Unlike {@link SequenceParserToken#binaryOperator(BinaryOperatorTransformer)}, which flattens everything, an operand
+ * with several tokens between its whitespace is kept as a single token, as the operand {@link Parser} defines its
+ * boundaries and tokens within it are never treated as operators.
+ * <br>
+ * The text of each binary operator is given to
+ * {@link BinaryOperatorTransformer#binaryOperandText(List, CharSequence, ParserToken)} as a view of the text of its tokens,
+ * so a transformer that keeps that {@link CharSequence} builds a long chain without copying any text.
+ */
+final class OperatorPrecedenceParser<C extends ParserContext> extends NonEmptyParser<C>
+    implements RequiredParser<C> {
+
+    static <C extends ParserContext> OperatorPrecedenceParser<C> with(final Parser<C> operand,
+                                                                      final Parser<C> operator,
+                                                                      final BinaryOperatorTransformer transformer) {
+        Objects.requireNonNull(operand, "operand");
+        Objects.requireNonNull(operator, "operator");
+        Objects.requireNonNull(transformer, "transformer");
+
+        return new OperatorPrecedenceParser<>(
+            operand,
+            operator,
+            transformer,
+            null // toString built lazily
+        );
+    }
+
+    private OperatorPrecedenceParser(final Parser<C> operand,
+                                     final Parser<C> operator,
+                                     final BinaryOperatorTransformer transformer,
+                                     final String toString) {
+        super(toString);
+
+        this.operand = operand;
+        this.operator = operator;
+        this.transformer = transformer;
+    }
+
+    @Override
+    Optional<ParserToken> tryParse(final TextCursor cursor,
+                                   final C context,
+                                   final TextCursorSavePoint start) {
+        final Optional<ParserToken> first = this.operand.parse(
+            cursor,
+            context
+        );
+        return first.isPresent() ?
+            Optional.of(
+                this.parseOperators(
+                    first.get(),
+                    cursor,
+                    context,
+                    start
+                )
+            ) :
+            Optional.empty();
+    }
+
+    private ParserToken parseOperators(final ParserToken first,
+                                       final TextCursor cursor,
+                                       final C context,
+                                       final TextCursorSavePoint start) {
+        final BinaryOperatorTransformer transformer = this.transformer;
+        final int lowestPriority = transformer.lowestPriority();
+        final int highestPriority = transformer.highestPriority();
+
+        final List<ParserToken> prefix = Lists.array();
+        List<ParserToken> suffix = Lists.array();
+
+        final List<ParserToken> operands = Lists.array();
+        final List<OperatorPrecedenceParserOperator> operators = Lists.array();
+
+        operands.add(
+            split(
+                first,
+                prefix,
+                suffix
+            )
+        );
+
+        for (; ; ) {
+            final TextCursorSavePoint beforeOperator = cursor.save();
+
+            final Optional<ParserToken> maybeOperator = this.operator.parse(
+                cursor,
+                context
+            );
+            if (false == maybeOperator.isPresent()) {
+                break;
+            }
+
+            // whitespace between the previous operand and the operator
+            final List<ParserToken> before = Lists.array();
+            before.addAll(suffix);
+            final List<ParserToken> after = Lists.array();
+
+            final ParserToken operator = split(
+                maybeOperator.get(),
+                before,
+                after
+            );
+            final int priority = transformer.priority(operator);
+            if (priority < lowestPriority || priority > highestPriority) {
+                beforeOperator.restore();
+                break;
+            }
+
+            final Optional<ParserToken> maybeOperand = this.operand.parse(
+                cursor,
+                context
+            );
+            if (false == maybeOperand.isPresent()) {
+                beforeOperator.restore();
+                break;
+            }
+
+            // reduce all previous operators with an equal or higher priority, giving left associativity
+            while (false == operators.isEmpty() &&
+                operators.get(operators.size() - 1).priority >= priority) {
+                reduce(
+                    operands,
+                    operators,
+                    transformer
+                );
+            }
+
+            operators.add(
+                OperatorPrecedenceParserOperator.with(
+                    operator,
+                    priority,
+                    before,
+                    after
+                )
+            );
+
+            suffix = Lists.array();
+            operands.add(
+                split(
+                    maybeOperand.get(),
+                    after,
+                    suffix
+                )
+            );
+        }
+
+        final ParserToken result;
+
+        if (operators.isEmpty()) {
+            result = first;
+        } else {
+            while (false == operators.isEmpty()) {
+                reduce(
+                    operands,
+                    operators,
+                    transformer
+                );
+            }
+
+            final ParserToken root = operands.get(0);
+
+            if (prefix.isEmpty() && suffix.isEmpty()) {
+                result = root;
+            } else {
+                final List<ParserToken> tokens = Lists.array();
+                tokens.addAll(prefix);
+                tokens.add(root);
+                tokens.addAll(suffix);
+
+                result = SequenceParserToken.with(
+                    tokens,
+                    start.textBetween()
+                );
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Flattens the given token, adding any leading whitespace to before and trailing whitespace to after, returning
+     * the only token between. If there are several tokens between the whitespace the original token, including its
+     * whitespace, is returned untouched and is treated as a single operand or operator.
+     */
+    private static ParserToken split(final ParserToken token,
+                                     final List<ParserToken> before,
+                                     final List<ParserToken> after) {
+        final List<ParserToken> flat = RepeatedOrSequenceParserTokenFlatParserTokenVisitor.flat(token);
+        final int count = flat.size();
+
+        int first = 0;
+        while (first < count && flat.get(first).isWhitespace()) {
+            first++;
+        }
+
+        int last = count - 1;
+        while (last > first && flat.get(last).isWhitespace()) {
+            last--;
+        }
+
+        final ParserToken result;
+
+        if (first == last) {
+            before.addAll(flat.subList(0, first));
+            after.addAll(flat.subList(last + 1, count));
+            result = flat.get(first);
+        } else {
+            result = token;
+        }
+
+        return result;
+    }
+
+    /**
+     * Pops the last operator and its two operands, pushing the binary operator token created by the
+     * {@link BinaryOperatorTransformer}.
+     */
+    private static void reduce(final List<ParserToken> operands,
+                               final List<OperatorPrecedenceParserOperator> operators,
+                               final BinaryOperatorTransformer transformer) {
+        final OperatorPrecedenceParserOperator operator = operators.remove(operators.size() - 1);
+        final ParserToken right = operands.remove(operands.size() - 1);
+        final ParserToken left = operands.remove(operands.size() - 1);
+
+        final List<ParserToken> tokens = Lists.array();
+        tokens.add(left);
+        tokens.addAll(operator.before);
+        tokens.add(operator.token);
+        tokens.addAll(operator.after);
+        tokens.add(right);
+
+        // the text references the text of the tokens, rather than copying it, which would copy the text of the left
+        // operand again for each operator of a long left associative chain
+        operands.add(
+            transformer.binaryOperandText(
+                tokens,
+                ParserTokenText.with(tokens),
+                operator.token
+            )
+        );
+    }
+
+    // @VisibleForTesting
+    final Parser<C> operand;
+
+    // @VisibleForTesting
+    final Parser<C> operator;
+
+    private final BinaryOperatorTransformer transformer;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    String buildToString() {
+        return this.operand + ", {" + this.operator + ", " + this.operand + "}";
+    }
+
+    @Override
+    OperatorPrecedenceParser<C> replaceToString(final String toString) {
+        return new OperatorPrecedenceParser<>(
+            this.operand,
+            this.operator,
+            this.transformer,
+            toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode0() {
+        return Objects.hash(
+            this.operand,
+            this.operator,
+            this.transformer
+        );
+    }
+
+    @Override //
+    boolean equalsParserSetToString(final ParserSetToString<?> other) {
+        final OperatorPrecedenceParser<?> otherOperatorPrecedenceParser = other.cast();
+
+        return this.operand.equals(otherOperatorPrecedenceParser.operand) &&
+            this.operator.equals(otherOperatorPrecedenceParser.operator) &&
+            this.transformer.equals(otherOperatorPrecedenceParser.transformer);
+    }
+}
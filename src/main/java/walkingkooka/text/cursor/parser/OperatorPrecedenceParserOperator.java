@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.List;
+
+/**
+ * Holds an operator waiting on the stack of a {@link OperatorPrecedenceParser} along with its priority and any
+ * whitespace before and after the operator.
+ */
+final class OperatorPrecedenceParserOperator {
+
+    static OperatorPrecedenceParserOperator with(final ParserToken token,
+                                                 final int priority,
+                                                 final List<ParserToken> before,
+                                                 final List<ParserToken> after) {
+        return new OperatorPrecedenceParserOperator(
+            token,
+            priority,
+            before,
+            after
+        );
+    }
+
+    private OperatorPrecedenceParserOperator(final ParserToken token,
+                                             final int priority,
+                                             final List<ParserToken> before,
+                                             final List<ParserToken> after) {
+        super();
+
+        this.token = token;
+        this.priority = priority;
+        this.before = before;
+        this.after = after;
+    }
+
+    final ParserToken token;
+    final int priority;
+    final List<ParserToken> before;
+    final List<ParserToken> after;
+
+    @Override
+    public String toString() {
+        return this.before + " " + this.token + " " + this.after + " " + this.priority;
+    }
+}
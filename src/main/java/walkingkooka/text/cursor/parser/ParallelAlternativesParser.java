@@ -0,0 +1,273 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Parser} that returns the same result as {@link AlternativesParser}, but when at least threshold characters
+ * remain, tries all alternatives in parallel each with its own {@link TextCursor} over the same text starting at the
+ * current offset, so line info and error positions are the same as the original {@link TextCursor}. The text is never
+ * copied, and only threshold characters are examined before trying in parallel. The first alternative
+ * in declaration order that succeeds is returned, and alternatives after a success that have not yet started are
+ * skipped. If any alternative fails with an exception, all alternatives are tried again in order with the original
+ * {@link TextCursor}, so errors are reported exactly as {@link AlternativesParser} would.
+ * <br>
+ * Alternatives are only tried in parallel when {@link ParserContext#isThreadSafe()}, as the {@link ParserContext} is
+ * shared by all alternatives, otherwise they are tried in order like {@link AlternativesParser}.
+ */
+final class ParallelAlternativesParser<C extends ParserContext> extends ParserSetToString<C> implements RequiredParser<C> {
+
+    static <C extends ParserContext> Parser<C> with(final List<Parser<C>> parsers,
+                                                    final int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Invalid threshold " + threshold + " < 0");
+        }
+
+        // flattening and removing duplicates is the same as AlternativesParser
+        final Parser<C> alternatives = AlternativesParser.with(parsers);
+
+        return alternatives instanceof AlternativesParser ?
+            new ParallelAlternativesParser<>(
+                ((AlternativesParser<C>) alternatives).parsers,
+                threshold,
+                null // toString built lazily
+            ) :
+            alternatives;
+    }
+
+    private ParallelAlternativesParser(final List<Parser<C>> parsers,
+                                       final int threshold,
+                                       final String toString) {
+        super(toString);
+        this.parsers = parsers;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        return context.isThreadSafe() && this.isThresholdRemaining(cursor) ?
+            this.parseParallel(
+                cursor,
+                context
+            ) :
+            this.parseSequential(
+                cursor,
+                context
+            );
+    }
+
+    /**
+     * Tests if at least threshold characters remain, stopping as soon as that many have been seen.
+     */
+    private boolean isThresholdRemaining(final TextCursor cursor) {
+        final TextCursorSavePoint start = cursor.save();
+        final int threshold = this.threshold;
+
+        int count = 0;
+        while (count < threshold && cursor.isNotEmpty()) {
+            cursor.next();
+            count++;
+        }
+
+        start.restore();
+        return count >= threshold;
+    }
+
+    private Optional<ParserToken> parseSequential(final TextCursor cursor,
+                                                  final C context) {
+        Optional<ParserToken> token = Optional.empty();
+
+        for (final Parser<C> parser : this.parsers) {
+            final Optional<ParserToken> possible = parser.parse(
+                cursor,
+                context
+            );
+            if (possible.isPresent()) {
+                token = possible;
+                break;
+            }
+        }
+
+        return token;
+    }
+
+    private Optional<ParserToken> parseParallel(final TextCursor cursor,
+                                                final C context) {
+        // cursors that read lazily such as ReaderTextCursor hold all the text after end
+        final TextCursorSavePoint start = cursor.save();
+        cursor.end();
+        start.restore();
+
+        final CharSequence text = cursor.text();
+        final int offset = cursor.lineInfo()
+            .textOffset();
+
+        final List<Parser<C>> parsers = this.parsers;
+        final AtomicInteger firstSuccess = new AtomicInteger(parsers.size());
+
+        // each outcome text holds the text consumed by a successful parse, null means not matched or skipped
+        final List<ParserOutcome> outcomes = IntStream.range(0, parsers.size())
+            .parallel()
+            .mapToObj(i -> parseOffset(
+                parsers.get(i),
+                i,
+                text,
+                offset,
+                context,
+                firstSuccess
+            )).collect(Collectors.toList());
+
+        Optional<ParserToken> token = Optional.empty();
+
+        for (final ParserOutcome outcome : outcomes) {
+            if (null != outcome) {
+                if (outcome.isSuccess()) {
+                    // advance the real cursor past the text consumed by the alternative
+                    final int consumed = outcome.text()
+                        .length();
+                    for (int i = 0; i < consumed; i++) {
+                        cursor.next();
+                    }
+                    token = outcome.token();
+                } else {
+                    token = this.parseSequential(
+                        cursor,
+                        context
+                    );
+                }
+                break;
+            }
+        }
+
+        return token;
+    }
+
+    private static <C extends ParserContext> ParserOutcome parseOffset(final Parser<C> parser,
+                                                                       final int index,
+                                                                       final CharSequence text,
+                                                                       final int offset,
+                                                                       final C context,
+                                                                       final AtomicInteger firstSuccess) {
+        ParserOutcome outcome = null;
+
+        // skip if an earlier alternative has already succeeded
+        if (index < firstSuccess.get()) {
+            final TextCursor alternative = OffsetTextCursor.with(
+                text,
+                offset
+            );
+            final TextCursorSavePoint start = alternative.save();
+
+            try {
+                final Optional<ParserToken> token = parser.parse(
+                    alternative,
+                    context
+                );
+                if (token.isPresent()) {
+                    outcome = ParserOutcome.success(
+                        start.textBetween(),
+                        token.get()
+                    );
+
+                    int first;
+                    do {
+                        first = firstSuccess.get();
+                    } while (index < first && false == firstSuccess.compareAndSet(first, index));
+                }
+            } catch (final RuntimeException cause) {
+                outcome = ParserOutcome.failure(
+                    start.textBetween(),
+                    cause
+                );
+            }
+        }
+
+        return outcome;
+    }
+
+    @Override
+    public Parser<C> or(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        final List<Parser<C>> parsers = Lists.array();
+        parsers.addAll(this.parsers);
+        parsers.add(parser.cast());
+
+        return ParallelAlternativesParser.with(
+            parsers,
+            this.threshold
+        );
+    }
+
+    // @VisibleForTesting
+    final List<Parser<C>> parsers;
+
+    /**
+     * The minimum number of remaining characters before alternatives are tried in parallel.
+     */
+    private final int threshold;
+
+    // ParserSetToString................................................................................................
+
+    /**
+     * The same as {@link AlternativesParser}, so parallel and sequential alternatives print the same.
+     */
+    @Override
+    String buildToString() {
+        return AlternativesParser.with(this.parsers)
+            .toString();
+    }
+
+    @Override
+    ParallelAlternativesParser<C> replaceToString(final String toString) {
+        return new ParallelAlternativesParser<>(
+            this.parsers,
+            this.threshold,
+            toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode0() {
+        return Objects.hash(
+            this.parsers,
+            this.threshold
+        );
+    }
+
+    @Override //
+    boolean equalsParserSetToString(final ParserSetToString<?> other) {
+        final ParallelAlternativesParser<?> otherParallelAlternativesParser = other.cast();
+
+        return this.parsers.equals(otherParallelAlternativesParser.parsers) &&
+            this.threshold == otherParallelAlternativesParser.threshold;
+    }
+}
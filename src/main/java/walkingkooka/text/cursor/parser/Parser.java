@@ -17,14 +17,15 @@
 package walkingkooka.text.cursor.parser;
 
 import walkingkooka.Cast;
-import walkingkooka.InvalidCharacterException;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.text.cursor.TextCursor;
-import walkingkooka.text.cursor.TextCursors;
 
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link Parser} that consumes characters or text from a {@link TextCursor} and returns a {@link ParserToken token}.
@@ -41,22 +42,70 @@ public interface Parser<C extends ParserContext> {
      */
     default ParserToken parseText(final String text,
                                   final C context) {
-        try {
-            return this.orFailIfCursorNotEmpty(
-                ParserReporters.basic()
-            ).parse(
-                TextCursors.charSequence(text),
+        return ParserBatch.parseText(
+            ParserBatch.textParser(this),
+            text,
+            context
+        );
+    }
+
+    /**
+     * Parses the given text returning a {@link ParserOutcome} rather than throwing when the text is not matched or
+     * not consumed completely.
+     */
+    default ParserOutcome parseOutcome(final CharSequence text,
+                                       final C context) {
+        return ParserBatch.parseOutcome(
+            this,
+            text,
+            context
+        );
+    }
+
+    /**
+     * Creates a {@link ParserSession} that applies this parser repeatedly to text fed in chunks.
+     */
+    default ParserSession<C> session(final C context,
+                                     final Consumer<ParserToken> tokens) {
+        return ParserSession.with(
+            this,
+            context,
+            tokens
+        );
+    }
+
+    /**
+     * Parses the text after an edit, where this parser matches a single element and the previous token holds the
+     * elements of the previous text as its children, reusing all elements not touched by the edit.
+     */
+    default ParserToken reparse(final ParserToken previous,
+                                final String previousText,
+                                final ParserEdit edit,
+                                final C context) {
+        return ParserReparse.reparse(
+            this,
+            previous,
+            previousText,
+            edit,
+            context
+        );
+    }
+
+    /**
+     * Returns a lazy {@link Stream} that applies this parser repeatedly, returning each {@link ParserToken} as soon as
+     * it is matched without holding any previous tokens. Text left that this parser fails to match is reported by
+     * {@link ParserReporters#basic()}.
+     */
+    default Stream<ParserToken> stream(final TextCursor cursor,
+                                       final C context) {
+        return StreamSupport.stream(
+            ParserSpliterator.with(
+                this,
+                cursor,
                 context
-            ).orElseThrow(() -> new InvalidCharacterException(text, 0));
-        } catch (final InvalidCharacterException cause) {
-            throw cause.clearColumnAndLine();
-        } catch (final ParserException cause) {
-            final Throwable wrapped = cause.getCause();
-            if (wrapped instanceof RuntimeException) {
-                throw (RuntimeException) wrapped;
-            }
-            throw new IllegalArgumentException(wrapped);
-        }
+            ),
+            false
+        );
     }
 
     int OPTIONAL_MIN_COUNT = 0;
@@ -117,6 +166,14 @@ public interface Parser<C extends ParserContext> {
         return Parsers.andNot(this, parser);
     }
 
+    /**
+     * Returns a {@link Parser} that shares equal leaf {@link ParserToken tokens} rather than returning new instances,
+     * including the leaves of sequences and repetitions.
+     */
+    default Parser<C> intern() {
+        return Parsers.intern(this);
+    }
+
     /**
      * Returns a {@link Parser} that is optional.
      */
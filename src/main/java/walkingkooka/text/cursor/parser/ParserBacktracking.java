@@ -0,0 +1,257 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the characters examined by a single node of a {@link Parser} graph, and the characters it scanned but then
+ * gave up by restoring the cursor, which must then be scanned again by whatever is tried next. The graph is rebuilt
+ * and every node is wrapped, similar to {@link ParserProfile}, and the root {@link Parser} wraps the
+ * {@link walkingkooka.text.cursor.TextCursor} so every {@link walkingkooka.text.cursor.TextCursorSavePoint#restore()}
+ * is charged to the {@link Parser} that was active when it happened.
+ */
+public final class ParserBacktracking<C extends ParserContext> implements TreePrintable {
+
+    static <C extends ParserContext> ParserBacktracking<C> with(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        final List<ParserBacktracking<C>> children = Lists.array();
+        final Parser<C> backtracking = ParserRewriter.replaceChildren(
+            parser,
+            (p) -> backtracking(
+                p,
+                children
+            )
+        );
+
+        return new ParserBacktracking<>(
+            parser.toString(),
+            backtracking,
+            Lists.immutable(children)
+        );
+    }
+
+    private static <C extends ParserContext> Parser<C> backtracking(final Parser<C> parser,
+                                                                    final List<ParserBacktracking<C>> children) {
+        final ParserBacktracking<C> child = with(parser);
+        children.add(child);
+        return child.parser;
+    }
+
+    private ParserBacktracking(final String label,
+                               final Parser<C> backtracking,
+                               final List<ParserBacktracking<C>> children) {
+        super();
+        this.label = label;
+        this.parser = BacktrackingParser.with(
+            backtracking,
+            this
+        );
+        this.children = children;
+    }
+
+    /**
+     * The {@link Parser} that records to this {@link ParserBacktracking} and whose children record to the children.
+     */
+    public Parser<C> parser() {
+        return this.parser;
+    }
+
+    private final Parser<C> parser;
+
+    /**
+     * The {@link ParserBacktracking} for each child parser in declaration order.
+     */
+    public List<ParserBacktracking<C>> children() {
+        return this.children;
+    }
+
+    private final List<ParserBacktracking<C>> children;
+
+    void invoked(final int consumed) {
+        this.invocations.incrementAndGet();
+        this.consumed.addAndGet(consumed);
+    }
+
+    void examined() {
+        this.examined.incrementAndGet();
+    }
+
+    void examined(final int count) {
+        this.examined.addAndGet(count);
+    }
+
+    void restored(final int count) {
+        if (count > 0) {
+            this.restores.incrementAndGet();
+            this.restored.addAndGet(count);
+        }
+    }
+
+    public long invocations() {
+        return this.invocations.get();
+    }
+
+    private final AtomicLong invocations = new AtomicLong();
+
+    /**
+     * The total characters consumed by all successful invocations.
+     */
+    public long consumed() {
+        return this.consumed.get();
+    }
+
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * The characters examined while this {@link Parser} itself was active, excluding children.
+     */
+    public long examined() {
+        return this.examined.get();
+    }
+
+    private final AtomicLong examined = new AtomicLong();
+
+    /**
+     * The characters examined by this {@link Parser} and all its children.
+     */
+    public long examinedTotal() {
+        long total = this.examined();
+
+        for (final ParserBacktracking<C> child : this.children) {
+            total = total + child.examinedTotal();
+        }
+
+        return total;
+    }
+
+    /**
+     * The number of times this {@link Parser} restored the cursor after it had moved.
+     */
+    public long restores() {
+        return this.restores.get();
+    }
+
+    private final AtomicLong restores = new AtomicLong();
+
+    /**
+     * The total characters given up by restores, which must be scanned again.
+     */
+    public long restored() {
+        return this.restored.get();
+    }
+
+    private final AtomicLong restored = new AtomicLong();
+
+    /**
+     * The characters examined by this {@link Parser} and its children divided by the characters it consumed. A ratio
+     * of one means no characters were scanned twice, while a ratio that grows with the input indicates quadratic
+     * behaviour.
+     */
+    public double ratio() {
+        final long consumed = this.consumed();
+
+        return 0 == consumed ?
+            0 :
+            (double) this.examinedTotal() / consumed;
+    }
+
+    /**
+     * Returns this and all descendants with at least one restored character, with the most restored characters first.
+     */
+    public List<ParserBacktracking<C>> hotSpots(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count " + count + " < 0");
+        }
+
+        final List<ParserBacktracking<C>> all = Lists.array();
+        this.collectRestored(all);
+
+        all.sort(
+            Comparator.comparingLong(ParserBacktracking<C>::restored)
+                .reversed()
+        );
+
+        return Lists.immutable(
+            all.subList(
+                0,
+                Math.min(
+                    count,
+                    all.size()
+                )
+            )
+        );
+    }
+
+    private void collectRestored(final List<ParserBacktracking<C>> all) {
+        if (this.restored() > 0) {
+            all.add(this);
+        }
+
+        for (final ParserBacktracking<C> child : this.children) {
+            child.collectRestored(all);
+        }
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(
+            this.label +
+                " invocations=" +
+                this.invocations() +
+                " consumed=" +
+                this.consumed() +
+                " examined=" +
+                this.examined() +
+                " restores=" +
+                this.restores() +
+                " restored=" +
+                this.restored()
+        );
+
+        printer.indent();
+
+        for (final ParserBacktracking<C> child : this.children) {
+            child.printTree(printer);
+        }
+
+        printer.outdent();
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * The {@link Object#toString()} of the original {@link Parser}.
+     */
+    private final String label;
+
+    @Override
+    public String toString() {
+        return this.label;
+    }
+}
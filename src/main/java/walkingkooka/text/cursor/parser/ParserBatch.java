@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Parses many independent texts with the same {@link Parser}, returning a {@link ParserOutcome} for each text in
+ * input order. Texts that are not matched or have text left over do not throw, and their
+ * {@link InvalidCharacterException} is only created if the cause of the {@link ParserOutcome} is requested.
+ * <br>
+ * Texts are parsed in blocks, each worker creating a single {@link ParserContext} that is reused for every text in its
+ * block. {@link ParserExecutors#parseAll(Parser, List, Supplier, java.util.concurrent.Executor)} parses with the
+ * workers of an {@link java.util.concurrent.Executor} on the JVM.
+ */
+final class ParserBatch {
+
+    static <C extends ParserContext> List<ParserOutcome> parseAll(final Parser<C> parser,
+                                                                  final List<? extends CharSequence> texts,
+                                                                  final Supplier<C> context) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(texts, "texts");
+        Objects.requireNonNull(context, "context");
+
+        // parsers are immutable and may be shared, contexts may not so each block of texts gets its own
+        final int count = texts.size();
+
+        return IntStream.range(0, (count + BLOCK_SIZE - 1) / BLOCK_SIZE)
+            .parallel()
+            .mapToObj(b -> parseBlock(
+                parser,
+                texts,
+                b * BLOCK_SIZE,
+                Math.min(
+                    (b + 1) * BLOCK_SIZE,
+                    count
+                ),
+                context.get()
+            )).flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The number of texts parsed one after the other by a worker with the same {@link ParserContext}.
+     */
+    // @VisibleForTesting
+    final static int BLOCK_SIZE = 64;
+
+    /**
+     * Parses the texts between start and end with the same {@link ParserContext}.
+     */
+    private static <C extends ParserContext> List<ParserOutcome> parseBlock(final Parser<C> parser,
+                                                                            final List<? extends CharSequence> texts,
+                                                                            final int start,
+                                                                            final int end,
+                                                                            final C context) {
+        final List<ParserOutcome> outcomes = Lists.array();
+
+        for (int i = start; i < end; i++) {
+            outcomes.add(
+                parseOutcome(
+                    parser,
+                    texts.get(i),
+                    context
+                )
+            );
+        }
+
+        return outcomes;
+    }
+
+    /**
+     * Parses the text returning a {@link ParserOutcome} with the same failures that {@link #parseText(Parser, CharSequence, ParserContext)}
+     * would throw, without throwing or creating an exception when the text is not matched or has text left over. A
+     * {@link ParserException} without a cause, such as a number overflow, is returned as is rather than as an
+     * {@link IllegalArgumentException}, keeping its message.
+     */
+    static <C extends ParserContext> ParserOutcome parseOutcome(final Parser<C> parser,
+                                                                final CharSequence text,
+                                                                final C context) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(context, "context");
+
+        final TextCursor cursor = TextCursors.charSequence(text);
+
+        ParserOutcome outcome;
+        try {
+            final Optional<ParserToken> token = parser.parse(
+                cursor,
+                context
+            );
+
+            if (token.isPresent() && cursor.isEmpty()) {
+                outcome = ParserOutcome.success(
+                    text,
+                    token.get()
+                );
+            } else {
+                // capture only the position and message, so the lazy cause does not keep the cursor, parser or context
+                final int position;
+                final String message;
+                if (cursor.isEmpty()) {
+                    position = 0;
+                    message = null;
+                } else {
+                    position = cursor.lineInfo()
+                        .textOffset();
+                    message = context.invalidCharacterMessage(
+                        parser,
+                        cursor
+                    );
+                }
+
+                outcome = ParserOutcome.lazyFailure(
+                    text,
+                    () -> invalidCharacterException(
+                        text,
+                        position,
+                        message
+                    )
+                );
+            }
+        } catch (final InvalidCharacterException cause) {
+            outcome = ParserOutcome.failure(
+                text,
+                cause.clearColumnAndLine()
+            );
+        } catch (final ParserException cause) {
+            // a ParserException without a cause keeps its message and any missing stack trace
+            outcome = ParserOutcome.failure(
+                text,
+                null == cause.getCause() ?
+                    cause :
+                    unwrap(cause)
+            );
+        } catch (final RuntimeException cause) {
+            outcome = ParserOutcome.failure(
+                text,
+                cause
+            );
+        }
+        return outcome;
+    }
+
+    /**
+     * Creates the {@link InvalidCharacterException} for the position without column and line, appending anything the
+     * {@link ParserContext} message has after the position or column and line, such as the expected parser.
+     */
+    private static InvalidCharacterException invalidCharacterException(final CharSequence text,
+                                                                       final int position,
+                                                                       final String message) {
+        InvalidCharacterException ice = new InvalidCharacterException(
+            text.toString(),
+            position
+        );
+
+        if (null != message) {
+            final String iceMessage = ice.getMessage();
+            final String at = iceMessage.substring(
+                0,
+                iceMessage.lastIndexOf(" at ") + 4
+            );
+
+            if (message.startsWith(at)) {
+                final int space = message.indexOf(
+                    ' ',
+                    at.length()
+                );
+                if (-1 != space) {
+                    ice = ice.appendToMessage(
+                        message.substring(space + 1)
+                    );
+                }
+            }
+        }
+
+        return ice;
+    }
+
+    /**
+     * Wraps the given {@link Parser} so it fails when the text is not consumed completely.
+     */
+    static <C extends ParserContext> Parser<C> textParser(final Parser<C> parser) {
+        return parser.orFailIfCursorNotEmpty(
+            ParserReporters.basic()
+        );
+    }
+
+    /**
+     * Parses the text with a {@link Parser} created by {@link #textParser(Parser)}, unwrapping any exceptions.
+     */
+    static <C extends ParserContext> ParserToken parseText(final Parser<C> parser,
+                                                           final CharSequence text,
+                                                           final C context) {
+        try {
+            return parser.parse(
+                TextCursors.charSequence(text),
+                context
+            ).orElseThrow(() -> new InvalidCharacterException(text.toString(), 0));
+        } catch (final InvalidCharacterException cause) {
+            throw cause.clearColumnAndLine();
+        } catch (final ParserException cause) {
+            throw unwrap(cause);
+        }
+    }
+
+    /**
+     * Returns the {@link RuntimeException} wrapped by the {@link ParserException}, otherwise wraps the cause, which
+     * may be null, in an {@link IllegalArgumentException}, as {@link Parser#parseText(String, ParserContext)} always
+     * has.
+     */
+    private static RuntimeException unwrap(final ParserException cause) {
+        final Throwable wrapped = cause.getCause();
+
+        return wrapped instanceof RuntimeException ?
+            (RuntimeException) wrapped :
+            new IllegalArgumentException(wrapped);
+    }
+
+    /**
+     * Stop creation
+     */
+    private ParserBatch() {
+        throw new UnsupportedOperationException();
+    }
+}
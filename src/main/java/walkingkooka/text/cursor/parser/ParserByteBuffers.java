@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.reflect.PublicStaticHelper;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A collection of factory methods that parse the bytes of a {@link ByteBuffer}, such as a file mapped with
+ * {@link java.nio.channels.FileChannel#map}, without first decoding all of them into a {@link String}.
+ * This class uses java.nio and is only available on the JVM, it is excluded from the GWT and J2CL module.
+ */
+public final class ParserByteBuffers implements PublicStaticHelper {
+
+    /**
+     * Returns a {@link CharSequence} view of the remaining UTF-8 bytes of the given {@link ByteBuffer}.
+     * {@see ByteBufferCharSequence}
+     */
+    public static CharSequence utf8(final ByteBuffer buffer) {
+        return ByteBufferCharSequence.with(buffer);
+    }
+
+    /**
+     * Returns a {@link TextCursor} over the remaining UTF-8 bytes of the given {@link ByteBuffer}.
+     */
+    public static TextCursor utf8TextCursor(final ByteBuffer buffer) {
+        return TextCursors.charSequence(
+            utf8(buffer)
+        );
+    }
+
+    /**
+     * Stop creation.
+     */
+    private ParserByteBuffers() {
+        throw new UnsupportedOperationException();
+    }
+}
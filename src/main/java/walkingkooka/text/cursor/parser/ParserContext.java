@@ -41,6 +41,42 @@ public interface ParserContext extends DateTimeContext,
     InvalidCharacterException invalidCharacterException(final Parser<?> parser,
                                                         final TextCursor cursor);
 
+    /**
+     * Returns the message of the {@link InvalidCharacterException} for the current {@link TextCursor#at()}, for
+     * parsers that only record the message, such as {@link Parsers#recovering(Parser, Parser)}. Contexts that can build
+     * the message without the exception and its stack trace should override this.
+     */
+    default String invalidCharacterMessage(final Parser<?> parser,
+                                           final TextCursor cursor) {
+        return this.invalidCharacterException(
+            parser,
+            cursor
+        ).getMessage();
+    }
+
+    /**
+     * Factory that creates the {@link ParserException} thrown by parsers for unrecoverable errors, such as a number
+     * overflow or an invalid escape. The cause may be null.
+     */
+    default ParserException parserException(final String message,
+                                            final Throwable cause) {
+        return null == cause ?
+            new ParserException(message) :
+            new ParserException(
+                message,
+                cause
+            );
+    }
+
+    /**
+     * Returns true if this context may be used by many threads parsing at the same time, such as the alternatives
+     * tried in parallel by {@link Parsers#parallelAlternatives(java.util.List, int)}. Contexts that hold mutable state
+     * must return false, which is the default.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * The character that separates multiple values, like the comma in a CSV.
      */
@@ -56,6 +56,32 @@ public interface ParserContextDelegator extends ParserContext,
             );
     }
 
+    @Override
+    default String invalidCharacterMessage(final Parser<?> parser,
+                                           final TextCursor cursor) {
+        return this.parserContext()
+            .invalidCharacterMessage(
+                parser,
+                cursor
+            );
+    }
+
+    @Override
+    default ParserException parserException(final String message,
+                                            final Throwable cause) {
+        return this.parserContext()
+            .parserException(
+                message,
+                cause
+            );
+    }
+
+    @Override
+    default boolean isThreadSafe() {
+        return this.parserContext()
+            .isThreadSafe();
+    }
+
     @Override
     default Locale locale() {
         return this.parserContext().locale();
@@ -23,6 +23,7 @@ import walkingkooka.reflect.PublicStaticHelper;
 import walkingkooka.text.cursor.TextCursor;
 
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 /**
  * A collection of factory methods to create parsers.
@@ -53,6 +54,26 @@ public final class ParserContexts implements PublicStaticHelper {
         return new FakeParserContext();
     }
 
+    /**
+     * {@see StacklessParserContext}
+     */
+    public static ParserContext stackless(final ParserContext context) {
+        return StacklessParserContext.with(context);
+    }
+
+    /**
+     * {@see TracingParserContext}
+     */
+    public static ParserContext tracing(final ParserContext context,
+                                        final int capacity,
+                                        final Consumer<String> dump) {
+        return TracingParserContext.with(
+            context,
+            capacity,
+            dump
+        );
+    }
+
     /**
      * Stop creation.
      */
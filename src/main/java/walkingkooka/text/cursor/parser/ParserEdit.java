@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.CharSequences;
+
+import java.util.Objects;
+
+/**
+ * Describes a single edit of some text, where the characters starting at the offset are removed and replaced by the
+ * inserted text. Used by {@link Parser#reparse(ParserToken, String, ParserEdit, ParserContext)}.
+ */
+public final class ParserEdit {
+
+    public static ParserEdit with(final int offset,
+                                  final int removed,
+                                  final String inserted) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid offset " + offset + " < 0");
+        }
+        if (removed < 0) {
+            throw new IllegalArgumentException("Invalid removed " + removed + " < 0");
+        }
+        Objects.requireNonNull(inserted, "inserted");
+
+        return new ParserEdit(
+            offset,
+            removed,
+            inserted
+        );
+    }
+
+    private ParserEdit(final int offset,
+                       final int removed,
+                       final String inserted) {
+        super();
+        this.offset = offset;
+        this.removed = removed;
+        this.inserted = inserted;
+    }
+
+    /**
+     * The offset of the first changed character.
+     */
+    public int offset() {
+        return this.offset;
+    }
+
+    private final int offset;
+
+    /**
+     * The number of characters removed starting at the offset.
+     */
+    public int removed() {
+        return this.removed;
+    }
+
+    private final int removed;
+
+    /**
+     * The text inserted at the offset.
+     */
+    public String inserted() {
+        return this.inserted;
+    }
+
+    private final String inserted;
+
+    /**
+     * The number of characters the text following the edit moved by.
+     */
+    int delta() {
+        return this.inserted.length() - this.removed;
+    }
+
+    /**
+     * Returns a view of the given text with this edit applied, failing if the removed characters are not within the
+     * text. The text is not copied.
+     */
+    CharSequence apply(final CharSequence text) {
+        final int end = this.offset + this.removed;
+        final int length = text.length();
+        if (end > length) {
+            throw new IllegalArgumentException("Invalid edit " + this + " for text length " + length);
+        }
+
+        return ParserEditText.with(
+            text,
+            this
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.offset,
+            this.removed,
+            this.inserted
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ParserEdit &&
+                this.equals0((ParserEdit) other);
+    }
+
+    private boolean equals0(final ParserEdit other) {
+        return this.offset == other.offset &&
+            this.removed == other.removed &&
+            this.inserted.equals(other.inserted);
+    }
+
+    @Override
+    public String toString() {
+        return this.offset +
+            " -" +
+            this.removed +
+            " +" +
+            CharSequences.quoteAndEscape(this.inserted);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+/**
+ * A view of some text with a {@link ParserEdit} applied, reading characters from the original text and the inserted
+ * text, so applying an edit does not copy the whole document. {@link #subSequence(int, int)} only copies the requested
+ * characters, and the {@link String} is only built by {@link #toString()}.
+ */
+final class ParserEditText implements CharSequence {
+
+    static ParserEditText with(final CharSequence text,
+                               final ParserEdit edit) {
+        return new ParserEditText(
+            text,
+            edit.offset(),
+            edit.removed(),
+            edit.inserted()
+        );
+    }
+
+    private ParserEditText(final CharSequence text,
+                           final int offset,
+                           final int removed,
+                           final String inserted) {
+        super();
+        this.text = text;
+        this.offset = offset;
+        this.insertedEnd = offset + inserted.length();
+        this.delta = inserted.length() - removed;
+        this.inserted = inserted;
+    }
+
+    @Override
+    public int length() {
+        return this.text.length() + this.delta;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length());
+        }
+
+        final int offset = this.offset;
+
+        return index < offset ?
+            this.text.charAt(index) :
+            index < this.insertedEnd ?
+                this.inserted.charAt(index - offset) :
+                this.text.charAt(index - this.delta);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        if (start < 0 || start > end || end > this.length()) {
+            throw new StringIndexOutOfBoundsException("Invalid range " + start + ".." + end + " not between 0 and " + this.length());
+        }
+
+        final StringBuilder b = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            b.append(
+                this.charAt(i)
+            );
+        }
+        return b.toString();
+    }
+
+    private final CharSequence text;
+
+    /**
+     * The offset of the first changed character.
+     */
+    private final int offset;
+
+    /**
+     * The offset of the first character after the inserted text.
+     */
+    private final int insertedEnd;
+
+    /**
+     * The number of characters the text following the edit moved by.
+     */
+    private final int delta;
+
+    private final String inserted;
+
+    /**
+     * Builds and caches the {@link String}.
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+
+        if (null == string) {
+            final CharSequence text = this.text;
+            final int offset = this.offset;
+
+            string = new StringBuilder(this.length())
+                .append(text, 0, offset)
+                .append(this.inserted)
+                .append(text, this.insertedEnd - this.delta, text.length())
+                .toString();
+            this.string = string;
+        }
+
+        return string;
+    }
+
+    /**
+     * The text with the edit applied, null until {@link #toString()} is called.
+     */
+    private String string;
+}
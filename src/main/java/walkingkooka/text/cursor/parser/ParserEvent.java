@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.Objects;
+
+/**
+ * Records a single invocation of a {@link Parser} within a graph created by
+ * {@link Parsers#events(Parser, long, java.util.function.Consumer)}.
+ */
+public final class ParserEvent {
+
+    static ParserEvent with(final String label,
+                            final int depth,
+                            final int offset,
+                            final int length,
+                            final long nanos,
+                            final boolean success) {
+        return new ParserEvent(
+            Objects.requireNonNull(label, "label"),
+            depth,
+            offset,
+            length,
+            nanos,
+            success
+        );
+    }
+
+    private ParserEvent(final String label,
+                        final int depth,
+                        final int offset,
+                        final int length,
+                        final long nanos,
+                        final boolean success) {
+        super();
+        this.label = label;
+        this.depth = depth;
+        this.offset = offset;
+        this.length = length;
+        this.nanos = nanos;
+        this.success = success;
+    }
+
+    /**
+     * The {@link Object#toString()} of the {@link Parser}.
+     */
+    public String label() {
+        return this.label;
+    }
+
+    private final String label;
+
+    /**
+     * The depth of the {@link Parser} within the graph, where the root {@link Parser} has a depth of zero.
+     */
+    public int depth() {
+        return this.depth;
+    }
+
+    private final int depth;
+
+    /**
+     * The offset of the cursor when the {@link Parser} was invoked.
+     */
+    public int offset() {
+        return this.offset;
+    }
+
+    private final int offset;
+
+    /**
+     * The number of characters consumed, which is zero when parsing failed.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    private final int length;
+
+    /**
+     * The duration of the invocation in nanoseconds.
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+
+    private final long nanos;
+
+    /**
+     * True if a {@link ParserToken} was returned.
+     */
+    public boolean isSuccess() {
+        return this.success;
+    }
+
+    private final boolean success;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.label,
+            this.depth,
+            this.offset,
+            this.length,
+            this.nanos,
+            this.success
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ParserEvent &&
+                this.equals0((ParserEvent) other);
+    }
+
+    private boolean equals0(final ParserEvent other) {
+        return this.label.equals(other.label) &&
+            this.depth == other.depth &&
+            this.offset == other.offset &&
+            this.length == other.length &&
+            this.nanos == other.nanos &&
+            this.success == other.success;
+    }
+
+    @Override
+    public String toString() {
+        return this.label +
+            " depth=" +
+            this.depth +
+            " offset=" +
+            this.offset +
+            " length=" +
+            this.length +
+            " " +
+            this.nanos +
+            "ns " +
+            (this.success ? "success" : "failure");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A collection of methods that parse using the threads of an {@link Executor}, such as a
+ * {@link java.util.concurrent.ForkJoinPool} shared with other work.
+ * This class blocks waiting for the {@link Executor} and is only available on the JVM, it is excluded from the GWT
+ * and J2CL module.
+ */
+public final class ParserExecutors implements PublicStaticHelper {
+
+    /**
+     * Parses many independent texts with the same {@link Parser} using one worker per available processor, each
+     * running on the {@link Executor} and reusing a single {@link ParserContext} for all the texts it parses. The
+     * {@link ParserOutcome outcomes} are returned in input order, the same as
+     * {@link Parsers#parseAll(Parser, List, Supplier)}.
+     */
+    public static <C extends ParserContext> List<ParserOutcome> parseAll(final Parser<C> parser,
+                                                                         final List<? extends CharSequence> texts,
+                                                                         final Supplier<C> context,
+                                                                         final Executor executor) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(texts, "texts");
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(executor, "executor");
+
+        final int count = texts.size();
+        final ParserOutcome[] outcomes = new ParserOutcome[count];
+
+        final int workers = Math.min(
+            count,
+            Runtime.getRuntime()
+                .availableProcessors()
+        );
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(workers);
+
+        for (int w = 0; w < workers; w++) {
+            try {
+                executor.execute(
+                    () -> {
+                        try {
+                            final C workerContext = context.get();
+
+                            int i;
+                            while (null == failure.get() && (i = next.getAndIncrement()) < count) {
+                                outcomes[i] = ParserBatch.parseOutcome(
+                                    parser,
+                                    texts.get(i),
+                                    workerContext
+                                );
+                            }
+                        } catch (final Throwable cause) {
+                            failure.compareAndSet(
+                                null,
+                                cause
+                            );
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                );
+            } catch (final RuntimeException rejected) {
+                failure.compareAndSet(
+                    null,
+                    rejected
+                );
+
+                // workers that were never started will never count down
+                for (int i = w; i < workers; i++) {
+                    done.countDown();
+                }
+                break;
+            }
+        }
+
+        try {
+            done.await();
+        } catch (final InterruptedException cause) {
+            Thread.currentThread()
+                .interrupt();
+            throw new ParserException(
+                "Interrupted parsing " + count + " texts",
+                cause
+            );
+        }
+
+        final Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (null != cause) {
+            throw new ParserException(
+                cause.getMessage(),
+                cause
+            );
+        }
+
+        return Lists.of(outcomes);
+    }
+
+    /**
+     * Stop creation.
+     */
+    private ParserExecutors() {
+        throw new UnsupportedOperationException();
+    }
+}
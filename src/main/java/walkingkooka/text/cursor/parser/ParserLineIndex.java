@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.Objects;
+
+/**
+ * An immutable index of the offsets where each line of some text starts, built once per text, after which the
+ * line number and column of any offset is found with a binary search rather than scanning the text from the start.
+ * A line ends after a LF, a CR or a CR LF, with both line numbers and columns starting at 1.
+ */
+public final class ParserLineIndex {
+
+    /**
+     * Builds a {@link ParserLineIndex} for the given text.
+     */
+    static ParserLineIndex with(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        final int length = text.length();
+        int[] starts = new int[16];
+        int count = 1; // the first line always starts at 0
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            if ('\r' == c || '\n' == c) {
+                if ('\r' == c && i + 1 < length && '\n' == text.charAt(i + 1)) {
+                    i++;
+                }
+
+                if (starts.length == count) {
+                    final int[] copy = new int[count * 2];
+                    System.arraycopy(starts, 0, copy, 0, count);
+                    starts = copy;
+                }
+                starts[count] = i + 1;
+                count++;
+            }
+        }
+
+        return new ParserLineIndex(
+            length,
+            starts,
+            count
+        );
+    }
+
+    private ParserLineIndex(final int length,
+                            final int[] starts,
+                            final int count) {
+        super();
+        this.length = length;
+        this.starts = starts;
+        this.count = count;
+    }
+
+    /**
+     * Returns the number of lines, which is always at least 1.
+     */
+    public int lineCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the offset of the first character of the given line.
+     */
+    public int lineStart(final int lineNumber) {
+        if (lineNumber < 1 || lineNumber > this.count) {
+            throw new IllegalArgumentException("Invalid line number " + lineNumber + " not between 1 and " + this.count);
+        }
+        return this.starts[lineNumber - 1];
+    }
+
+    /**
+     * Returns the line number of the line holding the given offset.
+     */
+    public int lineNumber(final int offset) {
+        return this.lineIndex(offset) + 1;
+    }
+
+    /**
+     * Returns the column of the given offset within its line.
+     */
+    public int column(final int offset) {
+        return offset - this.starts[this.lineIndex(offset)] + 1;
+    }
+
+    /**
+     * Binary searches for the index of the last line start that is before or at the offset.
+     */
+    private int lineIndex(final int offset) {
+        if (offset < 0 || offset > this.length) {
+            throw new IllegalArgumentException("Invalid offset " + offset + " not between 0 and " + this.length);
+        }
+
+        final int[] starts = this.starts;
+        int low = 0;
+        int high = this.count - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (starts[middle] <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * The length of the text, which itself is not kept.
+     */
+    private final int length;
+
+    private final int[] starts;
+
+    private final int count;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.count + " lines";
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} over some text that carries the {@link ParserLineIndex} of that text, so every
+ * {@link InvalidCharacterExceptionFactory} that reports a column and line for this text shares one index. The index
+ * is only built when first requested, so a parse without errors never builds it.
+ */
+final class ParserLineIndexTextCursor implements TextCursorWrapper {
+
+    static ParserLineIndexTextCursor with(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return new ParserLineIndexTextCursor(text);
+    }
+
+    /**
+     * Returns the {@link ParserLineIndexTextCursor} the given {@link TextCursor} is or wraps, or null.
+     */
+    static ParserLineIndexTextCursor find(final TextCursor cursor) {
+        TextCursor wrapped = cursor;
+        while (null != wrapped) {
+            if (wrapped instanceof ParserLineIndexTextCursor) {
+                break;
+            }
+            wrapped = TextCursorWrapper.unwrap(wrapped);
+        }
+        return (ParserLineIndexTextCursor) wrapped;
+    }
+
+    private ParserLineIndexTextCursor(final CharSequence text) {
+        super();
+        this.text = text;
+        this.cursor = TextCursors.charSequence(text);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return this.cursor.isNotEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        this.cursor.end();
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return this.cursor.save();
+    }
+
+    @Override
+    public String text() {
+        return this.cursor.text();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    /**
+     * Returns the {@link ParserLineIndex} of the text, building it the first time.
+     */
+    ParserLineIndex lineIndex() {
+        ParserLineIndex lineIndex = this.lineIndex;
+        if (null == lineIndex) {
+            lineIndex = ParserLineIndex.with(this.text);
+            this.lineIndex = lineIndex;
+        }
+        return lineIndex;
+    }
+
+    private final CharSequence text;
+
+    private ParserLineIndex lineIndex;
+
+    // TextCursorWrapper................................................................................................
+
+    @Override
+    public TextCursor wrappedTextCursor() {
+        return this.cursor;
+    }
+
+    private final TextCursor cursor;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.CharSequences;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The outcome of parsing a single text, holding either the {@link ParserToken} or the {@link RuntimeException} that
+ * would have been thrown by {@link Parser#parseText(String, ParserContext)}.
+ */
+public final class ParserOutcome {
+
+    static ParserOutcome success(final CharSequence text,
+                                 final ParserToken token) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(token, "token");
+
+        return new ParserOutcome(
+            text,
+            token,
+            null,
+            null
+        );
+    }
+
+    static ParserOutcome failure(final CharSequence text,
+                                 final RuntimeException cause) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(cause, "cause");
+
+        return new ParserOutcome(
+            text,
+            null,
+            cause,
+            null
+        );
+    }
+
+    /**
+     * Creates a failure where the {@link RuntimeException} is only created when first requested, avoiding the cost of
+     * creating an exception for failures that are only counted or filtered.
+     */
+    static ParserOutcome lazyFailure(final CharSequence text,
+                                     final Supplier<RuntimeException> cause) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(cause, "cause");
+
+        return new ParserOutcome(
+            text,
+            null,
+            null,
+            cause
+        );
+    }
+
+    private ParserOutcome(final CharSequence text,
+                          final ParserToken token,
+                          final RuntimeException cause,
+                          final Supplier<RuntimeException> lazyCause) {
+        super();
+        this.text = text;
+        this.token = token;
+        this.cause = cause;
+        this.lazyCause = lazyCause;
+    }
+
+    /**
+     * The text that was parsed.
+     */
+    public CharSequence text() {
+        return this.text;
+    }
+
+    private final CharSequence text;
+
+    /**
+     * Returns true if the text was parsed successfully.
+     */
+    public boolean isSuccess() {
+        return null != this.token;
+    }
+
+    /**
+     * The {@link ParserToken} if parsing was successful.
+     */
+    public Optional<ParserToken> token() {
+        return Optional.ofNullable(this.token);
+    }
+
+    private final ParserToken token;
+
+    /**
+     * The failure if parsing was not successful.
+     */
+    public Optional<RuntimeException> cause() {
+        return Optional.ofNullable(this.causeOrNull());
+    }
+
+    private RuntimeException causeOrNull() {
+        final RuntimeException cause = this.cause;
+        return null != cause || null == this.lazyCause ?
+            cause :
+            this.createCause();
+    }
+
+    /**
+     * Creates the lazy cause once, outcomes may be shared between threads, such as those returned by
+     * {@link ParserBatch#parseAll(Parser, java.util.List, Supplier)}.
+     */
+    private synchronized RuntimeException createCause() {
+        RuntimeException cause = this.cause;
+        if (null == cause) {
+            cause = this.lazyCause.get();
+            this.cause = cause;
+        }
+        return cause;
+    }
+
+    private volatile RuntimeException cause;
+
+    /**
+     * Creates the {@link #cause} when first requested.
+     */
+    private final Supplier<RuntimeException> lazyCause;
+
+    /**
+     * Returns the {@link ParserToken} or throws the failure.
+     */
+    public ParserToken orElseThrow() {
+        final RuntimeException cause = this.causeOrNull();
+        if (null != cause) {
+            throw cause;
+        }
+        return this.token;
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * The cause is not included, so a lazy cause is not created.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.text.toString(),
+            this.token
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ParserOutcome &&
+                this.equals0((ParserOutcome) other);
+    }
+
+    private boolean equals0(final ParserOutcome other) {
+        return this.text.toString().equals(other.text.toString()) &&
+            Objects.equals(this.token, other.token) &&
+            (this.isSuccess() || equalsCause(this.causeOrNull(), other.causeOrNull()));
+    }
+
+    /**
+     * Exceptions do not implement equals, so failures are equal when their causes have the same type and message,
+     * which includes the position for an {@link walkingkooka.InvalidCharacterException}.
+     */
+    private static boolean equalsCause(final RuntimeException cause,
+                                       final RuntimeException other) {
+        return cause.getClass() == other.getClass() &&
+            Objects.equals(
+                cause.getMessage(),
+                other.getMessage()
+            );
+    }
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteAndEscape(this.text) +
+            " " +
+            (this.isSuccess() ?
+                this.token :
+                this.causeOrNull().getMessage());
+    }
+}
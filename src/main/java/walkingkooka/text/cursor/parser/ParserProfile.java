@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the counts and times for a single node of a {@link Parser} graph, along with the nodes of its child parsers.
+ * Creating a {@link ParserProfile} rebuilds the graph, walking into sequence, alternatives, repeating, wrapper and
+ * and not parsers, wrapping every node so it records to its own {@link ParserProfile}. Any other {@link Parser} is
+ * wrapped but not walked into.
+ * <br>
+ * A {@link Parser} shared by several parents gets a {@link ParserProfile} under each parent, so the profiles form a
+ * tree and exclusive times are the inclusive time less that of the children.
+ */
+public final class ParserProfile<C extends ParserContext> implements TreePrintable {
+
+    static <C extends ParserContext> ParserProfile<C> with(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        final List<ParserProfile<C>> children = Lists.array();
+        final Parser<C> profiled = ParserRewriter.replaceChildren(
+            parser,
+            (p) -> profile(
+                p,
+                children
+            )
+        );
+
+        return new ParserProfile<>(
+            parser.toString(),
+            profiled,
+            Lists.immutable(children)
+        );
+    }
+
+    private static <C extends ParserContext> Parser<C> profile(final Parser<C> parser,
+                                                               final List<ParserProfile<C>> children) {
+        final ParserProfile<C> child = with(parser);
+        children.add(child);
+        return child.parser;
+    }
+
+    private ParserProfile(final String label,
+                          final Parser<C> profiled,
+                          final List<ParserProfile<C>> children) {
+        super();
+        this.label = label;
+        this.parser = ProfilingParser.with(
+            profiled,
+            this
+        );
+        this.children = children;
+    }
+
+    /**
+     * The {@link Parser} that records to this {@link ParserProfile} and whose children record to the child profiles.
+     */
+    public Parser<C> parser() {
+        return this.parser;
+    }
+
+    private final Parser<C> parser;
+
+    /**
+     * The {@link ParserProfile} for each child parser in declaration order.
+     */
+    public List<ParserProfile<C>> children() {
+        return this.children;
+    }
+
+    private final List<ParserProfile<C>> children;
+
+    /**
+     * Records a single invocation of the {@link Parser}.
+     */
+    void record(final boolean success,
+                final int consumed,
+                final long nanos) {
+        this.invocations.incrementAndGet();
+        if (success) {
+            this.successes.incrementAndGet();
+            this.consumed.addAndGet(consumed);
+        }
+        this.nanos.addAndGet(nanos);
+    }
+
+    public long invocations() {
+        return this.invocations.get();
+    }
+
+    private final AtomicLong invocations = new AtomicLong();
+
+    public long successes() {
+        return this.successes.get();
+    }
+
+    private final AtomicLong successes = new AtomicLong();
+
+    /**
+     * Invocations that returned nothing or threw.
+     */
+    public long failures() {
+        return this.invocations() - this.successes();
+    }
+
+    /**
+     * The total number of characters consumed by all successful invocations.
+     */
+    public long consumed() {
+        return this.consumed.get();
+    }
+
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * The total nanoseconds spent by all invocations including child parsers.
+     */
+    public long inclusiveNanos() {
+        return this.nanos.get();
+    }
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * The total nanoseconds spent by all invocations less the time spent in child parsers.
+     */
+    public long exclusiveNanos() {
+        long nanos = this.inclusiveNanos();
+
+        for (final ParserProfile<C> child : this.children) {
+            nanos = nanos - child.inclusiveNanos();
+        }
+
+        return Math.max(
+            0,
+            nanos
+        );
+    }
+
+    // foldedStacks.....................................................................................................
+
+    /**
+     * Writes one line for this and every descendant that was invoked, in the folded stack format read by flame graph
+     * tools, where each line holds the labels from the root separated by semi-colons followed by a space and the
+     * exclusive nanoseconds.
+     * <pre>
+     * A, B 12
+     * A, B;A 30
+     * A, B;B 45
+     * </pre>
+     * Any semi-colons within labels are replaced by commas and line breaks by spaces.
+     */
+    public void foldedStacks(final Appendable output) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        this.foldedStacks(
+            "",
+            output
+        );
+    }
+
+    private void foldedStacks(final String parent,
+                              final Appendable output) throws IOException {
+        if (this.invocations() > 0) {
+            final String stack = parent.isEmpty() ?
+                foldedStackLabel(this.label) :
+                parent + ';' + foldedStackLabel(this.label);
+
+            output.append(stack)
+                .append(' ')
+                .append(String.valueOf(this.exclusiveNanos()))
+                .append('\n');
+
+            for (final ParserProfile<C> child : this.children) {
+                child.foldedStacks(
+                    stack,
+                    output
+                );
+            }
+        }
+    }
+
+    private static String foldedStackLabel(final String label) {
+        return label.replace(';', ',')
+            .replace('\r', ' ')
+            .replace('\n', ' ');
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(
+            this.label +
+                " invocations=" +
+                this.invocations() +
+                " successes=" +
+                this.successes() +
+                " failures=" +
+                this.failures() +
+                " consumed=" +
+                this.consumed() +
+                " inclusive=" +
+                this.inclusiveNanos() +
+                "ns exclusive=" +
+                this.exclusiveNanos() +
+                "ns"
+        );
+
+        printer.indent();
+
+        for (final ParserProfile<C> child : this.children) {
+            child.printTree(printer);
+        }
+
+        printer.outdent();
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * The {@link Object#toString()} of the original {@link Parser}.
+     */
+    private final String label;
+
+    @Override
+    public String toString() {
+        return this.label;
+    }
+}
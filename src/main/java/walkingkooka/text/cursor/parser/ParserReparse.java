@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Parses text after an edit, reusing the top level {@link ParserToken tokens} of the previous parse that are not
+ * touched by the edit. The {@link Parser} matches a single element, with the previous {@link ParserToken} holding the
+ * elements as its children, as returned by {@link Parser#repeating()}.
+ * <br>
+ * Elements that end before the edit are kept, and the element ending at the edit is parsed again as its
+ * {@link Parser} may have peeked at the following character. Parsing continues after the edit until an element ends
+ * at the start of a previous element, after which all remaining previous elements are kept. Tokens hold no offsets
+ * so elements following the edit need no shifting.
+ * <br>
+ * The offsets of the previous elements are taken from the {@link ParserTokenText} rope of the previous token, or
+ * computed once from the lengths of the elements, and the damaged element is found with a binary search. The edited
+ * text is a view over the previous text and is never copied, with parsing starting at the damaged element, so the
+ * work is proportional to the elements touched by the edit. Elements are the unit of reuse, an edit inside one large
+ * top level element parses that whole element again.
+ */
+final class ParserReparse {
+
+    static <C extends ParserContext> ParserToken reparse(final Parser<C> parser,
+                                                         final ParserToken previous,
+                                                         final String previousText,
+                                                         final ParserEdit edit,
+                                                         final C context) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(previous, "previous");
+        Objects.requireNonNull(previousText, "previousText");
+        Objects.requireNonNull(edit, "edit");
+        Objects.requireNonNull(context, "context");
+
+        final CharSequence text = edit.apply(previousText);
+
+        final List<ParserToken> previousChildren = previous.isParent() ?
+            previous.children() :
+            Lists.of(previous);
+        final ParserTokenText previousOffsets = offsets(
+            previous,
+            previousChildren
+        );
+        final int previousCount = previousChildren.size();
+
+        final int editStart = edit.offset();
+        final int delta = edit.delta();
+
+        // keep elements ending before the edit, the element holding the character before the edit is parsed again
+        final int damaged = editStart > 0 ?
+            previousOffsets.child(editStart - 1) :
+            0;
+
+        final List<ParserToken> children = Lists.array();
+        children.addAll(
+            previousChildren.subList(
+                0,
+                damaged
+            )
+        );
+
+        int offset = previousOffsets.offset(damaged);
+        final TextCursor cursor = OffsetTextCursor.with(
+            text,
+            offset
+        );
+
+        final int insertedEnd = editStart + edit.inserted()
+            .length();
+        final int length = text.length();
+
+        while (offset < length) {
+            // after the edit try and find a previous element starting at the same position
+            if (offset >= insertedEnd) {
+                final int previousIndex = startingAt(
+                    previousOffsets,
+                    offset - delta
+                );
+
+                if (-1 != previousIndex) {
+                    children.addAll(
+                        previousChildren.subList(
+                            previousIndex,
+                            previousCount
+                        )
+                    );
+                    break;
+                }
+            }
+
+            final TextCursorSavePoint start = cursor.save();
+            final Optional<ParserToken> token = parser.parse(
+                cursor,
+                context
+            );
+            final int consumed = start.textBetween()
+                .length();
+
+            if (false == token.isPresent() || 0 == consumed) {
+                report(
+                    cursor,
+                    context,
+                    parser
+                );
+            }
+
+            children.add(token.get());
+            offset += consumed;
+        }
+
+        if (children.isEmpty()) {
+            report(
+                cursor,
+                context,
+                parser
+            );
+        }
+
+        return RepeatedParserToken.with(
+            children,
+            ParserTokenText.with(children)
+        );
+    }
+
+    /**
+     * Returns the {@link ParserTokenText} rope of the previous token, which already holds the offset of each element,
+     * otherwise computes the offsets once from the lengths of the elements.
+     */
+    private static ParserTokenText offsets(final ParserToken previous,
+                                           final List<ParserToken> children) {
+        final CharSequence text = previous instanceof ValueParserToken ?
+            ((ValueParserToken<?>) previous).textCharSequence() :
+            null;
+
+        return text instanceof ParserTokenText && ((ParserTokenText) text).isChildren(children) ?
+            (ParserTokenText) text :
+            ParserTokenText.with(children);
+    }
+
+    /**
+     * Returns the index of the first previous element starting at the given offset, or -1 if none start there.
+     */
+    private static int startingAt(final ParserTokenText offsets,
+                                  final int offset) {
+        int index = -1;
+
+        if (offset < offsets.length()) {
+            int child = offsets.child(offset);
+            if (offset == offsets.offset(child)) {
+                while (child > 0 && offset == offsets.offset(child - 1)) {
+                    child--;
+                }
+                index = child;
+            }
+        }
+
+        return index;
+    }
+
+    private static <C extends ParserContext> void report(final TextCursor cursor,
+                                                         final C context,
+                                                         final Parser<C> parser) {
+        ParserReporters.<C>basic()
+            .report(
+                cursor,
+                context,
+                parser
+            );
+    }
+
+    /**
+     * Stop creation
+     */
+    private ParserReparse() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Rebuilds a {@link Parser} replacing its child parsers, walking into {@link SequenceParser},
+ * {@link AlternativesParser}, {@link RepeatingParser}, {@link ParserWrapper}, {@link AndNotParser} and
+ * {@link RecoveringParser}. Any other {@link Parser} is treated as a leaf and returned unchanged.
+ */
+final class ParserRewriter {
+
+    /**
+     * Returns a copy of the given {@link Parser} with each child replaced by the result of the {@link Function},
+     * which is called for the children in declaration order.
+     */
+    static <C extends ParserContext> Parser<C> replaceChildren(final Parser<C> parser,
+                                                               final Function<Parser<C>, Parser<C>> child) {
+        final Parser<C> replaced;
+
+        if (parser instanceof SequenceParser) {
+            final SequenceParser<C> sequence = parser.cast();
+            replaced = sequence.replaceParsers(
+                replaceAll(
+                    sequence.parsers,
+                    child
+                )
+            );
+        } else if (parser instanceof AlternativesParser) {
+            final AlternativesParser<C> alternatives = parser.cast();
+            replaced = alternatives.replaceParsers(
+                replaceAll(
+                    alternatives.parsers,
+                    child
+                )
+            );
+        } else if (parser instanceof RepeatingParser) {
+            final RepeatingParser<C> repeating = parser.cast();
+            replaced = repeating.replaceParser(
+                child.apply(repeating.parser)
+            );
+        } else if (parser instanceof ParserWrapper) {
+            final ParserWrapper<C> wrapper = parser.cast();
+            replaced = wrapper.replaceParser(
+                child.apply(wrapper.parser)
+            );
+        } else if (parser instanceof AndNotParser) {
+            final AndNotParser<C> andNot = parser.cast();
+            final Parser<C> left = child.apply(andNot.left);
+            final Parser<C> right = child.apply(andNot.right);
+
+            replaced = andNot.replaceLeftRight(
+                left,
+                right
+            );
+        } else if (parser instanceof RecoveringParser) {
+            final RecoveringParser<C> recovering = parser.cast();
+            final Parser<C> element = child.apply(recovering.element);
+            final Parser<C> sync = child.apply(recovering.sync);
+
+            replaced = recovering.replaceElementSync(
+                element,
+                sync
+            );
+        } else {
+            replaced = parser;
+        }
+
+        return replaced;
+    }
+
+    private static <C extends ParserContext> List<Parser<C>> replaceAll(final List<Parser<C>> parsers,
+                                                                        final Function<Parser<C>, Parser<C>> child) {
+        final List<Parser<C>> replaced = Lists.array();
+
+        for (final Parser<C> parser : parsers) {
+            replaced.add(
+                child.apply(parser)
+            );
+        }
+
+        return replaced;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ParserRewriter() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.cursor.MaxPositionTextCursor;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Applies a {@link Parser} repeatedly to text that arrives in chunks, passing each top level {@link ParserToken} to a
+ * {@link Consumer} as soon as it is final. A token is final when the {@link Parser} never reached the end of the
+ * buffered text, because only then could more text not have changed the result. A failure that reached the end of
+ * the buffered text is retried when more text is fed, while a failure before the end is reported immediately.
+ * <br>
+ * Parsers themselves are not suspended, they are re-run from the start of the unconsumed text after each
+ * {@link #feed(CharSequence)}, so a token that spans k chunks is parsed k times, costing O(k²) for its text. Chunks
+ * should therefore be larger than most tokens.
+ * <br>
+ * Consumed text is released, but error positions, columns and lines are within all the text fed, as a failing parse
+ * is repeated over a view of the text that keeps the length and line breaks of the released text.
+ */
+public final class ParserSession<C extends ParserContext> {
+
+    static <C extends ParserContext> ParserSession<C> with(final Parser<C> parser,
+                                                           final C context,
+                                                           final Consumer<ParserToken> tokens) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(tokens, "tokens");
+
+        return new ParserSession<>(
+            parser,
+            context,
+            tokens
+        );
+    }
+
+    private ParserSession(final Parser<C> parser,
+                          final C context,
+                          final Consumer<ParserToken> tokens) {
+        super();
+        this.parser = parser;
+        this.context = context;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Adds more text, and passes any top level {@link ParserToken tokens} that are now final to the {@link Consumer}.
+     */
+    public void feed(final CharSequence chunk) {
+        Objects.requireNonNull(chunk, "chunk");
+        this.failIfFinished();
+
+        this.text.append(chunk);
+        this.parse(false);
+    }
+
+    /**
+     * Marks the end of the text, passing all remaining {@link ParserToken tokens} to the {@link Consumer} and failing
+     * if any text is left that could not be parsed.
+     */
+    public void finish() {
+        this.failIfFinished();
+        this.finished = true;
+
+        this.parse(true);
+    }
+
+    private void failIfFinished() {
+        if (this.finished) {
+            throw new IllegalStateException("Session finished");
+        }
+    }
+
+    private void parse(final boolean end) {
+        final Parser<C> parser = this.parser;
+        final C context = this.context;
+        final StringBuilder text = this.text;
+
+        while (text.length() > this.offset) {
+            final int length = text.length() - this.offset;
+            final MaxPositionTextCursor cursor = (MaxPositionTextCursor) TextCursors.maxPosition(
+                TextCursors.charSequence(
+                    ParserSessionCharSequence.with(
+                        text,
+                        this.offset
+                    )
+                )
+            );
+            final TextCursorSavePoint start = cursor.save();
+
+            final Optional<ParserToken> token;
+            try {
+                token = parser.parse(
+                    cursor,
+                    context
+                );
+            } catch (final RuntimeException cause) {
+                if (end || cursor.max() < length) {
+                    throw this.released(cause);
+                }
+                break; // more text might avoid this failure
+            }
+
+            final boolean reachedEnd = cursor.max() >= length;
+            if (token.isPresent()) {
+                final int consumed = start.textBetween()
+                    .length();
+                if (0 == consumed || (reachedEnd && false == end)) {
+                    break; // nothing consumed or more text might make the token longer
+                }
+
+                this.offset += consumed;
+                this.tokens.accept(token.get());
+            } else {
+                if (end || false == reachedEnd) {
+                    try {
+                        ParserReporters.<C>basic()
+                            .report(
+                                cursor,
+                                context,
+                                parser
+                            );
+                    } catch (final RuntimeException cause) {
+                        throw this.released(cause);
+                    }
+                }
+                break;
+            }
+        }
+
+        // release consumed text once per feed rather than once per token
+        this.release();
+
+        if (end && text.length() > 0) {
+            throw new IllegalStateException("Unable to parse remaining text " + CharSequences.quoteAndEscape(text));
+        }
+    }
+
+    /**
+     * Releases the text consumed by final {@link ParserToken tokens}, counting its length and line breaks.
+     */
+    private void release() {
+        final int offset = this.offset;
+        if (offset > 0) {
+            final StringBuilder text = this.text;
+            final TextCursor cursor = TextCursors.charSequence(
+                text.substring(
+                    0,
+                    offset
+                )
+            );
+            cursor.end();
+
+            final TextCursorLineInfo lineInfo = cursor.lineInfo();
+            final int lines = lineInfo.lineNumber() - 1;
+            final int column = lineInfo.column() - 1;
+
+            this.released += offset;
+            this.releasedLines += lines;
+            this.releasedColumn = 0 == lines ?
+                this.releasedColumn + column :
+                column;
+
+            text.delete(0, offset);
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * When the failure is an {@link InvalidCharacterException}, parses the unconsumed text again over a view that
+     * starts with the released text, returning the {@link InvalidCharacterException} with positions within all the
+     * text fed. Any other failure, or a second parse that does not fail the same way, returns the original.
+     */
+    private RuntimeException released(final RuntimeException cause) {
+        RuntimeException failure = cause;
+
+        if (cause instanceof InvalidCharacterException && this.released + this.offset > 0) {
+            final Parser<C> parser = this.parser;
+            final C context = this.context;
+            final TextCursor cursor = TextCursors.maxPosition(
+                OffsetTextCursor.with(
+                    ParserSessionCharSequence.released(
+                        this.text,
+                        this.released,
+                        this.releasedLines,
+                        this.releasedColumn
+                    ),
+                    this.released + this.offset
+                )
+            );
+
+            try {
+                final Optional<ParserToken> token = parser.parse(
+                    cursor,
+                    context
+                );
+                if (false == token.isPresent()) {
+                    ParserReporters.<C>basic()
+                        .report(
+                            cursor,
+                            context,
+                            parser
+                        );
+                }
+            } catch (final InvalidCharacterException again) {
+                failure = again;
+            }
+        }
+
+        return failure;
+    }
+
+    private final Parser<C> parser;
+    private final C context;
+    private final Consumer<ParserToken> tokens;
+
+    /**
+     * Text that has been fed, which after each {@link #feed(CharSequence)} holds only the text not yet consumed by a
+     * final {@link ParserToken}.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * The offset within {@link #text} of the first character not yet consumed by a final {@link ParserToken}.
+     */
+    private int offset;
+
+    /**
+     * The number of characters released from the start of {@link #text}, along with the number of line breaks and
+     * the characters after the last one, so errors may report positions within all the text fed.
+     */
+    private int released;
+
+    private int releasedLines;
+
+    private int releasedColumn;
+
+    private boolean finished;
+
+    @Override
+    public String toString() {
+        return this.parser + " " + CharSequences.quoteAndEscape(
+            ParserSessionCharSequence.with(
+                this.text,
+                this.offset
+            )
+        );
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+/**
+ * A read only view of the unconsumed text of a {@link ParserSession}, starting at an offset within its buffer, so each
+ * parse does not copy the whole pending text. The buffer may only be appended to or compacted once this view is no
+ * longer used, which is why {@link #subSequence(int, int)} returns a copy, as tokens may keep it as their text.
+ * <br>
+ * The view may also start with placeholders for the text already released by the session, which keep only its length
+ * and line breaks, so positions, columns and lines of errors are within all the text fed.
+ */
+final class ParserSessionCharSequence implements CharSequence {
+
+    static ParserSessionCharSequence with(final StringBuilder text,
+                                          final int offset) {
+        return new ParserSessionCharSequence(
+            text,
+            offset,
+            0,
+            0,
+            0
+        );
+    }
+
+    /**
+     * Creates a view of the whole buffer that starts with placeholders for the released text, which had the given
+     * number of line breaks followed by the given number of characters on its last line.
+     */
+    static ParserSessionCharSequence released(final StringBuilder text,
+                                              final int released,
+                                              final int releasedLines,
+                                              final int releasedColumn) {
+        return new ParserSessionCharSequence(
+            text,
+            0,
+            released,
+            releasedLines,
+            releasedColumn
+        );
+    }
+
+    private ParserSessionCharSequence(final StringBuilder text,
+                                      final int offset,
+                                      final int released,
+                                      final int releasedLines,
+                                      final int releasedColumn) {
+        super();
+        this.text = text;
+        this.offset = offset;
+        this.length = released + text.length() - offset;
+        this.released = released;
+        this.releasedLines = releasedLines;
+        this.releasedColumn = releasedColumn;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length);
+        }
+
+        final int released = this.released;
+        final char c;
+        if (index < released) {
+            // spaces, then one line break per released line, then spaces for the released part of the last line
+            final int lineBreaks = released - this.releasedColumn;
+            c = index >= lineBreaks - this.releasedLines && index < lineBreaks ?
+                '\n' :
+                ' ';
+        } else {
+            c = this.text.charAt(this.offset + index - released);
+        }
+        return c;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new StringIndexOutOfBoundsException("Invalid range " + start + ".." + end + " not between 0 and " + this.length);
+        }
+
+        final String subSequence;
+        if (start >= this.released) {
+            final int offset = this.offset - this.released;
+            subSequence = this.text.substring(
+                offset + start,
+                offset + end
+            );
+        } else {
+            final StringBuilder b = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                b.append(this.charAt(i));
+            }
+            subSequence = b.toString();
+        }
+        return subSequence;
+    }
+
+    private final StringBuilder text;
+
+    private final int offset;
+
+    private final int length;
+
+    /**
+     * The number of placeholders for released text before the text at {@link #offset}.
+     */
+    private final int released;
+
+    private final int releasedLines;
+
+    private final int releasedColumn;
+
+    @Override
+    public String toString() {
+        return this.subSequence(
+            0,
+            this.length
+        ).toString();
+    }
+}
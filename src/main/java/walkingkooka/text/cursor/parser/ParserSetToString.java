@@ -22,6 +22,9 @@ import java.util.Objects;
 /**
  * A {@link Parser} that includes a {@link #toString} property and adds a guard within {@link #setToString(String)}
  * only calling a package private {@link #replaceToString(String)} if the new string is different.
+ * <br>
+ * Factories pass a null {@link #toString}, in which case the default is only built by {@link #buildToString()}
+ * when first requested and then memoized, keeping the cost of building large grammars linear.
  */
 abstract class ParserSetToString<C extends ParserContext> implements Parser<C> {
 
@@ -33,7 +36,7 @@ abstract class ParserSetToString<C extends ParserContext> implements Parser<C> {
     public final Parser<C> setToString(final String toString) {
         Objects.requireNonNull(toString, "toString");
 
-        return this.toString.equals(toString) ?
+        return this.toString().equals(toString) ?
             this :
             this.replaceToString(toString);
     }
@@ -44,14 +47,19 @@ abstract class ParserSetToString<C extends ParserContext> implements Parser<C> {
      */
     abstract Parser<C> replaceToString(final String toString);
 
+    /**
+     * Builds the default {@link #toString()} for instances created with a null {@link #toString}.
+     */
+    abstract String buildToString();
+
     // Object..........................................................................................................
 
+    /**
+     * The {@link #toString()} is not included, so a default {@link #toString()} is never built just to hash.
+     */
     @Override
     public final int hashCode() {
-        return Objects.hash(
-            this.toString,
-            this.hashCode0()
-        );
+        return this.hashCode0();
     }
 
     abstract int hashCode0();
@@ -62,20 +70,37 @@ abstract class ParserSetToString<C extends ParserContext> implements Parser<C> {
             null != other && this.getClass() == other.getClass() && this.equals0((ParserSetToString<?>) other);
     }
 
+    /**
+     * When both have a default {@link #toString()} they are equal if their properties are equal, as the default is
+     * built from those properties.
+     */
     private boolean equals0(final ParserSetToString<?> other) {
-        return this.toString.equals(other.toString) &&
-            this.equalsParserSetToString(other);
+        return this.equalsParserSetToString(other) &&
+            (null == this.toString && null == other.toString || this.toString().equals(other.toString()));
     }
 
     abstract boolean equalsParserSetToString(final ParserSetToString<?> other);
 
     @Override
     public final String toString() {
-        return this.toString;
+        String toString = this.toString;
+        if (null == toString) {
+            toString = this.builtToString;
+            if (null == toString) {
+                toString = this.buildToString();
+                this.builtToString = toString;
+            }
+        }
+        return toString;
     }
 
     /**
-     * The actual returned {@link #toString()}.
+     * The custom {@link #toString()} or null when the default should be built.
      */
     final String toString;
+
+    /**
+     * The memoized result of {@link #buildToString()}.
+     */
+    private String builtToString;
 }
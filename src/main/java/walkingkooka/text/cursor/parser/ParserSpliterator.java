@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A lazy {@link Spliterator} that applies a {@link Parser} repeatedly, returning each {@link ParserToken} as soon as
+ * it is matched. Unlike {@link Parser#repeating()} no tokens are held, and when the {@link TextCursor} is a
+ * {@link ReaderTextCursor} it is compacted after each token so text already matched is also released.
+ * <br>
+ * The {@link Spliterator} finishes when the {@link TextCursor} is empty or the {@link Parser} matches without consuming
+ * any text, leaving the {@link TextCursor} positioned after the last token. A {@link Parser} that fails to match before
+ * the end of the text is reported by {@link ParserReporters#basic()}, rather than silently ending the stream.
+ */
+final class ParserSpliterator<C extends ParserContext> implements Spliterator<ParserToken> {
+
+    static <C extends ParserContext> ParserSpliterator<C> with(final Parser<C> parser,
+                                                               final TextCursor cursor,
+                                                               final C context) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(cursor, "cursor");
+        Objects.requireNonNull(context, "context");
+
+        return new ParserSpliterator<>(
+            parser,
+            cursor,
+            context
+        );
+    }
+
+    private ParserSpliterator(final Parser<C> parser,
+                              final TextCursor cursor,
+                              final C context) {
+        super();
+        this.parser = parser;
+        this.cursor = cursor;
+        this.context = context;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ParserToken> action) {
+        Objects.requireNonNull(action, "action");
+
+        boolean advanced = false;
+
+        if (false == this.finished) {
+            final TextCursor cursor = this.cursor;
+            final TextCursorSavePoint start = cursor.save();
+
+            final Optional<ParserToken> token = this.parser.parse(
+                cursor,
+                this.context
+            );
+
+            if (token.isPresent() && start.textBetween().length() > 0) {
+                if (cursor instanceof ReaderTextCursor) {
+                    ((ReaderTextCursor) cursor).compact();
+                }
+
+                action.accept(token.get());
+                advanced = true;
+            } else {
+                start.restore();
+                this.finished = true;
+
+                if (false == token.isPresent() && cursor.isNotEmpty()) {
+                    ParserReporters.<C>basic()
+                        .report(
+                            cursor,
+                            this.context,
+                            this.parser
+                        );
+                }
+            }
+        }
+
+        return advanced;
+    }
+
+    /**
+     * Tokens must be matched in order, so this cannot be split.
+     */
+    @Override
+    public Spliterator<ParserToken> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.finished ?
+            0 :
+            Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private final Parser<C> parser;
+    private final TextCursor cursor;
+    private final C context;
+
+    private boolean finished;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
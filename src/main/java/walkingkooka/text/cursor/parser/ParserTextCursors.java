@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.reflect.PublicStaticHelper;
+import walkingkooka.text.cursor.TextCursor;
+
+import java.io.Reader;
+
+/**
+ * A collection of factory methods to create {@link TextCursor} suitable for very large text.
+ * The UTF-8 bytes of a memory mapped file may be parsed on the JVM with {@link ParserByteBuffers}.
+ */
+public final class ParserTextCursors implements PublicStaticHelper {
+
+    /**
+     * {@see ParserLineIndex}
+     */
+    public static ParserLineIndex lineIndex(final CharSequence text) {
+        return ParserLineIndex.with(text);
+    }
+
+    /**
+     * Returns a {@link TextCursor} over the given text that builds its {@link ParserLineIndex} once, the first time an
+     * {@link InvalidCharacterExceptionFactory} reports a column and line, and reuses it for all later errors. This
+     * suits parsers such as {@link Parsers#recovering(Parser, Parser)} that report many errors for a single text.
+     * Note the column and line of errors then follow the line endings of {@link ParserLineIndex}.
+     * {@see ParserLineIndexTextCursor}
+     */
+    public static TextCursor lineIndexTextCursor(final CharSequence text) {
+        return ParserLineIndexTextCursor.with(text);
+    }
+
+    /**
+     * {@see ReaderTextCursor}
+     */
+    public static ReaderTextCursor reader(final Reader reader,
+                                          final int bufferSize) {
+        return ReaderTextCursor.with(
+            reader,
+            bufferSize
+        );
+    }
+
+    /**
+     * Stop creation.
+     */
+    private ParserTextCursors() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -25,6 +25,7 @@ import walkingkooka.text.HasText;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,6 +34,8 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a result of a parser attempt to consume a {@link walkingkooka.text.cursor.TextCursor}
@@ -197,6 +200,41 @@ public interface ParserToken extends CanBeEmpty,
         }
     }
 
+    // streams..........................................................................................................
+
+    /**
+     * Returns a lazy {@link Stream} of all leaves in document order, including this token if it is a leaf. Unlike
+     * {@link RepeatedOrSequenceParserToken#flat()} no intermediate {@link List} is built, and a parallel
+     * {@link Stream} splits by subtree.
+     */
+    default Stream<ParserToken> leaves() {
+        return StreamSupport.stream(
+            ParserTokenSpliterator.leaves(this),
+            false
+        );
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of all descendants in document order, excluding this token.
+     */
+    default Stream<ParserToken> descendants() {
+        return StreamSupport.stream(
+            ParserTokenSpliterator.descendants(this),
+            false
+        );
+    }
+
+    // index............................................................................................................
+
+    /**
+     * Returns an index of this token and all descendants by type, useful when the same graph is searched for
+     * tokens of a type many times. A new index is built each call and is not held by the token, so callers should
+     * keep the returned index for as long as it is needed.
+     */
+    default ParserTokenIndex index() {
+        return ParserTokenIndex.with(this);
+    }
+
     // removeFirstIf....................................................................................................
 
     /**
@@ -305,38 +343,9 @@ public interface ParserToken extends CanBeEmpty,
         final CharSequence quotedText = CharSequences.quoteAndEscape(this.text());
 
         if (this.isLeaf()) {
-            final Object value = ((Value<?>) this).value();
-
-            final CharSequence toString;
-
-            if (null != value) {
-                final String typeName = value.getClass().getName();
-                switch (typeName) {
-                    case "java.lang.Boolean":
-                    case "java.lang.Double":
-                    case "java.lang.Integer":
-                        toString = value.toString();
-                        break;
-                    case "java.lang.Character":
-                    case "java.lang.String":
-                        toString = CharSequences.quoteIfChars(value);
-                        break;
-                    case "java.lang.Float":
-                        toString = value + "F";
-                        break;
-                    case "java.lang.Long":
-                        toString = value + "L";
-                        break;
-                    default:
-                        toString = CharSequences.quoteIfChars(value) +
-                            " (" +
-                            typeName +
-                            ")";
-                        break;
-                }
-            } else {
-                toString = null;
-            }
+            final CharSequence toString = ParserTokenExporter.printTreeValue(
+                ((Value<?>) this).value()
+            );
 
             printer.println(
                 ParserTokenTypeName.typeName(this) +
@@ -365,6 +374,31 @@ public interface ParserToken extends CanBeEmpty,
         }
     }
 
+    // export...........................................................................................................
+
+    /**
+     * Writes this token and all descendants in a tree format similar to {@link #printTree(IndentingPrinter)}, except
+     * that parents only include the offset and length of their text. Text is escaped directly into the
+     * {@link Appendable} and the graph is walked without recursion, making this suitable for very large graphs.
+     */
+    default void exportTree(final Appendable output) throws IOException {
+        ParserTokenExporter.TREE.export(
+            this,
+            output
+        );
+    }
+
+    /**
+     * Writes this token and all descendants as JSON, where leaves include their text and value and parents
+     * only include the offset and length of their text and their children.
+     */
+    default void exportJson(final Appendable output) throws IOException {
+        ParserTokenExporter.JSON.export(
+            this,
+            output
+        );
+    }
+
     // CanBeEmpty........................................................................................................
 
     @Override
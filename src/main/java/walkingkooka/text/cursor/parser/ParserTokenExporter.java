@@ -0,0 +1,513 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Value;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a {@link ParserToken} graph to an {@link Appendable} without building any intermediate {@link String}.
+ * Unlike {@link ParserToken#printTree(walkingkooka.text.printer.IndentingPrinter)} only leaf tokens include their text,
+ * parents include the offset and length of their text within the root, and the graph is walked iteratively so very
+ * deep graphs may be written.
+ */
+enum ParserTokenExporter {
+
+    /**
+     * <pre>
+     * Sequence offset=0 length=5
+     *   String "a1" "a1"
+     *   BigInteger "234" 234 (java.math.BigInteger)
+     * </pre>
+     */
+    TREE {
+        @Override
+        void leaf(final ParserToken token,
+                  final int offset,
+                  final int length,
+                  final int depth,
+                  final Appendable output) throws IOException {
+            indent(depth, output);
+            output.append(ParserTokenTypeName.typeName(token));
+            output.append(' ');
+            quoteAndEscape(token.text(), output);
+            output.append(' ');
+            output.append(printTreeValue(((Value<?>) token).value()));
+            output.append('\n');
+        }
+
+        @Override
+        void startParent(final ParserToken token,
+                         final int offset,
+                         final int length,
+                         final int depth,
+                         final Appendable output) throws IOException {
+            indent(depth, output);
+            output.append(ParserTokenTypeName.typeName(token));
+            output.append(" offset=");
+            output.append(String.valueOf(offset));
+            output.append(" length=");
+            output.append(String.valueOf(length));
+            output.append('\n');
+        }
+
+        @Override
+        void endParent(final ParserToken token,
+                       final int depth,
+                       final Appendable output) {
+            // nop
+        }
+
+        @Override
+        void separator(final Appendable output) {
+            // nop
+        }
+
+        private void indent(final int depth,
+                            final Appendable output) throws IOException {
+            for (int i = 0; i < depth; i++) {
+                output.append(INDENTATION);
+            }
+        }
+
+        private void quoteAndEscape(final CharSequence text,
+                                    final Appendable output) throws IOException {
+            output.append('"');
+
+            final int length = text.length();
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                switch (c) {
+                    case '\0':
+                        output.append("\\0");
+                        break;
+                    case '\t':
+                        output.append("\\t");
+                        break;
+                    case '\n':
+                        output.append("\\n");
+                        break;
+                    case '\r':
+                        output.append("\\r");
+                        break;
+                    case '\f':
+                        output.append("\\f");
+                        break;
+                    case '"':
+                        output.append("\\\"");
+                        break;
+                    case '\\':
+                        output.append("\\\\");
+                        break;
+                    default:
+                        if (c < ' ') {
+                            unicodeEscape(c, output);
+                        } else {
+                            output.append(c);
+                        }
+                        break;
+                }
+            }
+
+            output.append('"');
+        }
+    },
+
+    /**
+     * <pre>
+     * {"type":"Sequence","offset":0,"length":5,"children":[{"type":"String","offset":0,"length":2,"text":"a1","value":"a1"},...]}
+     * </pre>
+     */
+    JSON {
+        @Override
+        void leaf(final ParserToken token,
+                  final int offset,
+                  final int length,
+                  final int depth,
+                  final Appendable output) throws IOException {
+            this.typeOffsetLength(
+                token,
+                offset,
+                length,
+                output
+            );
+            output.append(",\"text\":");
+            quote(token.text(), output);
+            output.append(",\"value\":");
+            this.value(
+                ((Value<?>) token).value(),
+                output
+            );
+            output.append('}');
+        }
+
+        private void value(final Object value,
+                           final Appendable output) throws IOException {
+            if (null == value) {
+                output.append("null");
+            } else {
+                if (value instanceof Boolean ||
+                    value instanceof Integer ||
+                    value instanceof Long ||
+                    value instanceof BigInteger ||
+                    value instanceof BigDecimal) {
+                    output.append(value.toString());
+                } else {
+                    if (value instanceof Double && false == ((Double) value).isNaN() && false == ((Double) value).isInfinite()) {
+                        output.append(value.toString());
+                    } else {
+                        quote(value.toString(), output);
+                    }
+                }
+            }
+        }
+
+        @Override
+        void startParent(final ParserToken token,
+                         final int offset,
+                         final int length,
+                         final int depth,
+                         final Appendable output) throws IOException {
+            this.typeOffsetLength(
+                token,
+                offset,
+                length,
+                output
+            );
+            output.append(",\"children\":[");
+        }
+
+        private void typeOffsetLength(final ParserToken token,
+                                      final int offset,
+                                      final int length,
+                                      final Appendable output) throws IOException {
+            output.append("{\"type\":");
+            quote(ParserTokenTypeName.typeName(token), output);
+            output.append(",\"offset\":");
+            output.append(String.valueOf(offset));
+            output.append(",\"length\":");
+            output.append(String.valueOf(length));
+        }
+
+        @Override
+        void endParent(final ParserToken token,
+                       final int depth,
+                       final Appendable output) throws IOException {
+            output.append("]}");
+        }
+
+        @Override
+        void separator(final Appendable output) throws IOException {
+            output.append(',');
+        }
+
+        private void quote(final CharSequence text,
+                           final Appendable output) throws IOException {
+            output.append('"');
+
+            final int length = text.length();
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                switch (c) {
+                    case '\b':
+                        output.append("\\b");
+                        break;
+                    case '\t':
+                        output.append("\\t");
+                        break;
+                    case '\n':
+                        output.append("\\n");
+                        break;
+                    case '\r':
+                        output.append("\\r");
+                        break;
+                    case '\f':
+                        output.append("\\f");
+                        break;
+                    case '"':
+                        output.append("\\\"");
+                        break;
+                    case '\\':
+                        output.append("\\\\");
+                        break;
+                    default:
+                        if (c < ' ') {
+                            unicodeEscape(c, output);
+                        } else {
+                            output.append(c);
+                        }
+                        break;
+                }
+            }
+
+            output.append('"');
+        }
+    };
+
+    private final static String INDENTATION = "  ";
+
+    /**
+     * Walks the graph starting at the given {@link ParserToken} without recursion writing each token to the
+     * {@link Appendable}. The length of each parent is the sum of the lengths of its children, computed by a first
+     * walk, so the text of parents is never flattened.
+     */
+    final void export(final ParserToken token,
+                      final Appendable output) throws IOException {
+        Objects.requireNonNull(token, "token");
+        Objects.requireNonNull(output, "output");
+
+        final int[] parentLengths = parentLengths(token);
+        int parent = 0;
+
+        final List<ParserTokenExporterParent> parents = Lists.array();
+
+        this.token(
+            token,
+            0,
+            token.isParent() ?
+                parentLengths[parent++] :
+                leafLength(token),
+            parents,
+            output
+        );
+
+        while (false == parents.isEmpty()) {
+            final int depth = parents.size();
+            final ParserTokenExporterParent exporterParent = parents.get(depth - 1);
+            final List<ParserToken> children = exporterParent.children;
+            final int index = exporterParent.index;
+
+            if (index < children.size()) {
+                if (index > 0) {
+                    this.separator(output);
+                }
+
+                final ParserToken child = children.get(index);
+                final int offset = exporterParent.offset;
+                final int length = child.isParent() ?
+                    parentLengths[parent++] :
+                    leafLength(child);
+
+                exporterParent.index = index + 1;
+                exporterParent.offset = offset + length;
+
+                this.token(
+                    child,
+                    offset,
+                    length,
+                    parents,
+                    output
+                );
+            } else {
+                parents.remove(depth - 1);
+                this.endParent(
+                    exporterParent.token,
+                    depth - 1,
+                    output
+                );
+            }
+        }
+    }
+
+    /**
+     * Walks the graph without recursion summing the lengths of the children of each parent, returning the lengths
+     * of all parents in the order they are written.
+     */
+    private static int[] parentLengths(final ParserToken token) {
+        int[] lengths = new int[8];
+        int count = 0;
+
+        final List<ParserTokenExporterParent> parents = Lists.array();
+        if (token.isParent()) {
+            parents.add(
+                ParserTokenExporterParent.with(
+                    token,
+                    0
+                )
+            );
+            count++;
+        }
+
+        while (false == parents.isEmpty()) {
+            final int depth = parents.size();
+            final ParserTokenExporterParent parent = parents.get(depth - 1);
+            final List<ParserToken> children = parent.children;
+            final int index = parent.index;
+
+            if (index < children.size()) {
+                final ParserToken child = children.get(index);
+                parent.index = index + 1;
+
+                if (child.isParent()) {
+                    final ParserTokenExporterParent childParent = ParserTokenExporterParent.with(
+                        child,
+                        0
+                    );
+                    childParent.ordinal = count;
+                    parents.add(childParent);
+                    count++;
+                } else {
+                    parent.offset += leafLength(child);
+                }
+            } else {
+                parents.remove(depth - 1);
+
+                final int ordinal = parent.ordinal;
+                if (ordinal >= lengths.length) {
+                    final int[] grown = new int[Math.max(ordinal + 1, lengths.length * 2)];
+                    System.arraycopy(
+                        lengths,
+                        0,
+                        grown,
+                        0,
+                        lengths.length
+                    );
+                    lengths = grown;
+                }
+
+                // the offset after the last child is the length of the parent
+                final int length = parent.offset;
+                lengths[ordinal] = length;
+
+                if (depth > 1) {
+                    parents.get(depth - 2).offset += length;
+                }
+            }
+        }
+
+        return lengths;
+    }
+
+    /**
+     * Returns the length of the text of a leaf without building a {@link String}.
+     */
+    private static int leafLength(final ParserToken token) {
+        return token instanceof ValueParserToken ?
+            ((ValueParserToken<?>) token).textCharSequence()
+                .length() :
+            token.text()
+                .length();
+    }
+
+    private void token(final ParserToken token,
+                       final int offset,
+                       final int length,
+                       final List<ParserTokenExporterParent> parents,
+                       final Appendable output) throws IOException {
+        final int depth = parents.size();
+
+        if (token.isParent()) {
+            this.startParent(
+                token,
+                offset,
+                length,
+                depth,
+                output
+            );
+            parents.add(
+                ParserTokenExporterParent.with(
+                    token,
+                    offset
+                )
+            );
+        } else {
+            this.leaf(
+                token,
+                offset,
+                length,
+                depth,
+                output
+            );
+        }
+    }
+
+    abstract void leaf(final ParserToken token,
+                       final int offset,
+                       final int length,
+                       final int depth,
+                       final Appendable output) throws IOException;
+
+    abstract void startParent(final ParserToken token,
+                              final int offset,
+                              final int length,
+                              final int depth,
+                              final Appendable output) throws IOException;
+
+    abstract void endParent(final ParserToken token,
+                            final int depth,
+                            final Appendable output) throws IOException;
+
+    /**
+     * Invoked between siblings.
+     */
+    abstract void separator(final Appendable output) throws IOException;
+
+    private static void unicodeEscape(final char c,
+                                      final Appendable output) throws IOException {
+        output.append("\\u");
+
+        for (int shift = 12; shift >= 0; shift = shift - 4) {
+            output.append(Character.forDigit((c >> shift) & 0xf, 16));
+        }
+    }
+
+    /**
+     * Formats a leaf value, shared with {@link ParserToken#printTree(walkingkooka.text.printer.IndentingPrinter)}.
+     */
+    static CharSequence printTreeValue(final Object value) {
+        final CharSequence toString;
+
+        if (null != value) {
+            final String typeName = value.getClass().getName();
+            switch (typeName) {
+                case "java.lang.Boolean":
+                case "java.lang.Double":
+                case "java.lang.Integer":
+                    toString = value.toString();
+                    break;
+                case "java.lang.Character":
+                case "java.lang.String":
+                    toString = CharSequences.quoteIfChars(value);
+                    break;
+                case "java.lang.Float":
+                    toString = value + "F";
+                    break;
+                case "java.lang.Long":
+                    toString = value + "L";
+                    break;
+                default:
+                    toString = CharSequences.quoteIfChars(value) +
+                        " (" +
+                        typeName +
+                        ")";
+                    break;
+            }
+        } else {
+            toString = null;
+        }
+
+        return toString;
+    }
+}
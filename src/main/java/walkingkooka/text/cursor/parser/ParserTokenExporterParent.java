@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.List;
+
+/**
+ * Tracks the next child to be written and its offset for a parent {@link ParserToken} being written or measured by a
+ * {@link ParserTokenExporter}.
+ */
+final class ParserTokenExporterParent {
+
+    static ParserTokenExporterParent with(final ParserToken token,
+                                          final int offset) {
+        return new ParserTokenExporterParent(
+            token,
+            offset
+        );
+    }
+
+    private ParserTokenExporterParent(final ParserToken token,
+                                      final int offset) {
+        super();
+
+        this.token = token;
+        this.children = token.children();
+        this.offset = offset;
+    }
+
+    final ParserToken token;
+
+    final List<ParserToken> children;
+
+    /**
+     * The index of the next child.
+     */
+    int index;
+
+    /**
+     * The offset of the next child.
+     */
+    int offset;
+
+    /**
+     * The number of parents before this one in the order they are written, used when summing the lengths of parents.
+     */
+    int ordinal;
+
+    @Override
+    public String toString() {
+        return this.token + " " + this.index + " " + this.offset;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable index of a {@link ParserToken} and all its descendants by their {@link Class} and super classes, with
+ * tokens for each type held in document order. Building the index walks the graph once, after which each lookup only
+ * touches the tokens of the requested type.
+ * <br>
+ * Note that lookups match the {@link Class} of a token or any of its super classes, walking
+ * {@link Class#getSuperclass()} which is compatible with j2cl, but not interfaces.
+ */
+public final class ParserTokenIndex {
+
+    static ParserTokenIndex with(final ParserToken token) {
+        Objects.requireNonNull(token, "token");
+
+        final Map<Class<?>, List<ParserToken>> typeToTokens = new HashMap<>();
+
+        // walk the graph in document order without recursion
+        final List<ParserToken> stack = Lists.array();
+        stack.add(token);
+
+        while (false == stack.isEmpty()) {
+            final ParserToken next = stack.remove(stack.size() - 1);
+
+            // index by the class and all super classes, so abstract token types may be looked up
+            Class<?> type = next.getClass();
+            do {
+                typeToTokens.computeIfAbsent(
+                    type,
+                    (t) -> Lists.array()
+                ).add(next);
+
+                type = type.getSuperclass();
+            } while (Object.class != type);
+
+            final List<ParserToken> children = next.children();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.add(children.get(i));
+            }
+        }
+
+        for (final Map.Entry<Class<?>, List<ParserToken>> typeAndTokens : typeToTokens.entrySet()) {
+            typeAndTokens.setValue(
+                Lists.immutable(
+                    typeAndTokens.getValue()
+                )
+            );
+        }
+
+        return new ParserTokenIndex(typeToTokens);
+    }
+
+    private ParserTokenIndex(final Map<Class<?>, List<ParserToken>> typeToTokens) {
+        super();
+        this.typeToTokens = typeToTokens;
+    }
+
+    /**
+     * Returns all tokens with the given type or a sub class in document order.
+     */
+    public <T extends ParserToken> List<T> tokens(final Class<T> type) {
+        Objects.requireNonNull(type, "type");
+
+        return Cast.to(
+            this.typeToTokens.getOrDefault(
+                type,
+                ParserToken.EMPTY
+            )
+        );
+    }
+
+    /**
+     * Returns all tokens with the given type and text in document order.
+     */
+    public <T extends ParserToken> List<T> tokens(final Class<T> type,
+                                                  final String text) {
+        Objects.requireNonNull(text, "text");
+
+        final List<T> matches = Lists.array();
+        this.findIf(
+            type,
+            (t) -> text.equals(t.text()),
+            matches::add
+        );
+        return Lists.immutable(matches);
+    }
+
+    /**
+     * Returns the first token in document order with the given type.
+     */
+    public <T extends ParserToken> Optional<T> findFirst(final Class<T> type) {
+        final List<T> tokens = this.tokens(type);
+
+        return tokens.isEmpty() ?
+            Optional.empty() :
+            Optional.of(tokens.get(0));
+    }
+
+    /**
+     * Passes all tokens with the given type, that are also matched by the {@link Predicate} to the {@link Consumer}
+     * in document order.
+     */
+    public <T extends ParserToken> void findIf(final Class<T> type,
+                                               final Predicate<? super T> predicate,
+                                               final Consumer<? super T> consumer) {
+        Objects.requireNonNull(predicate, "predicate");
+        Objects.requireNonNull(consumer, "consumer");
+
+        for (final T token : this.tokens(type)) {
+            if (predicate.test(token)) {
+                consumer.accept(token);
+            }
+        }
+    }
+
+    private final Map<Class<?>, List<ParserToken>> typeToTokens;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.typeToTokens.toString();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A lazy {@link Spliterator} that walks a {@link ParserToken} graph in document order, returning either all leaves
+ * or all descendants. Only a stack of sibling ranges, one for each level being walked, is held, and splitting hands
+ * whole sibling subtrees to the new {@link Spliterator}, so parallel streams process separate subtrees.
+ */
+final class ParserTokenSpliterator implements Spliterator<ParserToken> {
+
+    /**
+     * Returns a {@link Spliterator} that returns all {@link ParserToken#isLeaf()} within the given token, including
+     * the token itself if it is a leaf.
+     */
+    static ParserTokenSpliterator leaves(final ParserToken token) {
+        Objects.requireNonNull(token, "token");
+
+        return new ParserTokenSpliterator(
+            ParserTokenSpliteratorSiblings.with(
+                Lists.of(token),
+                0,
+                1
+            ),
+            true
+        );
+    }
+
+    /**
+     * Returns a {@link Spliterator} that returns all descendants of the given token but not the token itself.
+     */
+    static ParserTokenSpliterator descendants(final ParserToken token) {
+        Objects.requireNonNull(token, "token");
+
+        final List<ParserToken> children = token.children();
+
+        return new ParserTokenSpliterator(
+            ParserTokenSpliteratorSiblings.with(
+                children,
+                0,
+                children.size()
+            ),
+            false
+        );
+    }
+
+    private ParserTokenSpliterator(final ParserTokenSpliteratorSiblings siblings,
+                                   final boolean leavesOnly) {
+        this(
+            Lists.array(),
+            leavesOnly
+        );
+        this.stack.add(siblings);
+    }
+
+    private ParserTokenSpliterator(final List<ParserTokenSpliteratorSiblings> stack,
+                                   final boolean leavesOnly) {
+        super();
+        this.stack = stack;
+        this.leavesOnly = leavesOnly;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ParserToken> action) {
+        Objects.requireNonNull(action, "action");
+
+        final List<ParserTokenSpliteratorSiblings> stack = this.stack;
+        boolean advanced = false;
+
+        while (false == stack.isEmpty()) {
+            final int top = stack.size() - 1;
+            final ParserTokenSpliteratorSiblings siblings = stack.get(top);
+
+            if (siblings.isEmpty()) {
+                stack.remove(top);
+                continue;
+            }
+
+            final ParserToken token = siblings.next();
+
+            // children follow their parent in document order
+            final List<ParserToken> children = token.children();
+            if (false == children.isEmpty()) {
+                stack.add(
+                    ParserTokenSpliteratorSiblings.with(
+                        children,
+                        0,
+                        children.size()
+                    )
+                );
+            }
+
+            if (false == this.leavesOnly || token.isLeaf()) {
+                action.accept(token);
+                advanced = true;
+                break;
+            }
+        }
+
+        return advanced;
+    }
+
+    /**
+     * The returned {@link Spliterator} takes all the deeper levels and the first half of the remaining siblings at the
+     * bottom of the stack, which together are a prefix of the remaining tokens in document order.
+     */
+    @Override
+    public Spliterator<ParserToken> trySplit() {
+        final List<ParserTokenSpliteratorSiblings> stack = this.stack;
+
+        Spliterator<ParserToken> prefix = null;
+
+        while (false == stack.isEmpty()) {
+            final ParserTokenSpliteratorSiblings bottom = stack.get(0);
+            final int count = bottom.count();
+
+            if (count >= 2) {
+                final int middle = bottom.from + count / 2;
+
+                final List<ParserTokenSpliteratorSiblings> prefixStack = Lists.array();
+                prefixStack.add(
+                    ParserTokenSpliteratorSiblings.with(
+                        bottom.tokens,
+                        bottom.from,
+                        middle
+                    )
+                );
+                prefixStack.addAll(stack.subList(1, stack.size()));
+
+                stack.clear();
+                stack.add(
+                    ParserTokenSpliteratorSiblings.with(
+                        bottom.tokens,
+                        middle,
+                        bottom.to
+                    )
+                );
+
+                prefix = new ParserTokenSpliterator(
+                    prefixStack,
+                    this.leavesOnly
+                );
+                break;
+            }
+
+            if (stack.size() >= 2) {
+                // the last bottom sibling follows everything above it
+                final List<ParserTokenSpliteratorSiblings> prefixStack = Lists.array();
+                prefixStack.addAll(stack.subList(1, stack.size()));
+
+                stack.subList(1, stack.size())
+                    .clear();
+
+                prefix = new ParserTokenSpliterator(
+                    prefixStack,
+                    this.leavesOnly
+                );
+                break;
+            }
+
+            if (0 == count) {
+                stack.clear();
+                break;
+            }
+
+            // a single token remains, if it is not returned itself continue splitting its children
+            final ParserToken token = bottom.tokens.get(bottom.from);
+            final List<ParserToken> children = token.children();
+            if (children.isEmpty() || false == this.leavesOnly || token.isLeaf()) {
+                break;
+            }
+
+            stack.clear();
+            stack.add(
+                ParserTokenSpliteratorSiblings.with(
+                    children,
+                    0,
+                    children.size()
+                )
+            );
+        }
+
+        return prefix;
+    }
+
+    /**
+     * The number of remaining siblings is a lower bound of the remaining tokens.
+     */
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (final ParserTokenSpliteratorSiblings siblings : this.stack) {
+            size = size + siblings.count();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * A stack of sibling ranges, the top holds the next siblings to be returned.
+     */
+    private final List<ParserTokenSpliteratorSiblings> stack;
+
+    /**
+     * When true only leaves are returned, otherwise all tokens are returned.
+     */
+    private final boolean leavesOnly;
+
+    @Override
+    public String toString() {
+        return this.stack.toString();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.List;
+
+/**
+ * A range of siblings within a {@link List} of tokens yet to be walked, used by {@link ParserTokenSpliterator} and
+ * {@link ParserTokenText}.
+ */
+final class ParserTokenSpliteratorSiblings {
+
+    static ParserTokenSpliteratorSiblings with(final List<ParserToken> tokens,
+                                               final int from,
+                                               final int to) {
+        return new ParserTokenSpliteratorSiblings(
+            tokens,
+            from,
+            to
+        );
+    }
+
+    private ParserTokenSpliteratorSiblings(final List<ParserToken> tokens,
+                                           final int from,
+                                           final int to) {
+        super();
+
+        this.tokens = tokens;
+        this.from = from;
+        this.to = to;
+    }
+
+    boolean isEmpty() {
+        return this.from >= this.to;
+    }
+
+    int count() {
+        return this.to - this.from;
+    }
+
+    ParserToken next() {
+        final ParserToken next = this.tokens.get(this.from);
+        this.from++;
+        return next;
+    }
+
+    final List<ParserToken> tokens;
+
+    /**
+     * The index of the next sibling.
+     */
+    int from;
+
+    /**
+     * The exclusive end index.
+     */
+    final int to;
+
+    @Override
+    public String toString() {
+        return this.tokens.subList(this.from, this.to).toString();
+    }
+}
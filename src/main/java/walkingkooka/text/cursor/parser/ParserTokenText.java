@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * A rope holding the text of a parent {@link ParserToken} as references to the text of its children. The offset of
+ * each child is computed once when the rope is created, from the already known lengths of the children, so neither
+ * {@link #length()} nor {@link #charAt(int)} walk nested ropes recursively. A {@link String} is only built by
+ * {@link #toString()}, so rewriting a deep graph with {@link ParserToken#setChildren(List)} no longer copies the
+ * text of every ancestor.
+ */
+final class ParserTokenText implements CharSequence {
+
+    static ParserTokenText with(final List<ParserToken> children) {
+        final int count = children.size();
+        final int[] offsets = new int[count + 1];
+
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offset;
+            offset = offset + text(children.get(i)).length();
+        }
+        offsets[count] = offset;
+
+        return new ParserTokenText(
+            children,
+            offsets
+        );
+    }
+
+    private ParserTokenText(final List<ParserToken> children,
+                            final int[] offsets) {
+        super();
+        this.children = children;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public int length() {
+        return this.offsets[this.children.size()];
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length());
+        }
+
+        // descend through nested ropes without recursion, each step a binary search of the child offsets
+        ParserTokenText rope = this;
+        int i = index;
+        CharSequence found = null;
+
+        while (null == found) {
+            final String string = rope.string;
+            if (null != string) {
+                found = string;
+            } else {
+                final int child = rope.child(i);
+                i = i - rope.offsets[child];
+
+                final CharSequence text = text(rope.children.get(child));
+                if (text instanceof ParserTokenText) {
+                    rope = (ParserTokenText) text;
+                } else {
+                    found = text;
+                }
+            }
+        }
+
+        return found.charAt(i);
+    }
+
+    /**
+     * Returns true if this rope holds the text of the given children.
+     */
+    boolean isChildren(final List<ParserToken> children) {
+        return this.children == children;
+    }
+
+    /**
+     * Returns the offset of the given child, or the total length when the child is the number of children.
+     */
+    int offset(final int child) {
+        return this.offsets[child];
+    }
+
+    /**
+     * Returns the index of the child holding the given index.
+     */
+    int child(final int index) {
+        final int[] offsets = this.offsets;
+        int low = 0;
+        int high = this.children.size() - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        return this.toString()
+            .subSequence(
+                start,
+                end
+            );
+    }
+
+    private final List<ParserToken> children;
+
+    /**
+     * The offset of each child, followed by the total length.
+     */
+    private final int[] offsets;
+
+    /**
+     * Builds and caches the {@link String} walking nested ropes without recursion.
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+
+        if (null == string) {
+            final StringBuilder b = new StringBuilder(this.length());
+
+            final List<ParserTokenSpliteratorSiblings> stack = Lists.array();
+            stack.add(
+                ParserTokenSpliteratorSiblings.with(
+                    this.children,
+                    0,
+                    this.children.size()
+                )
+            );
+
+            while (false == stack.isEmpty()) {
+                final int top = stack.size() - 1;
+                final ParserTokenSpliteratorSiblings siblings = stack.get(top);
+                if (siblings.isEmpty()) {
+                    stack.remove(top);
+                    continue;
+                }
+
+                final CharSequence text = text(siblings.next());
+                if (text instanceof ParserTokenText && null == ((ParserTokenText) text).string) {
+                    final List<ParserToken> children = ((ParserTokenText) text).children;
+                    stack.add(
+                        ParserTokenSpliteratorSiblings.with(
+                            children,
+                            0,
+                            children.size()
+                        )
+                    );
+                } else {
+                    b.append(text.toString());
+                }
+            }
+
+            string = b.toString();
+            this.string = string;
+        }
+
+        return string;
+    }
+
+    /**
+     * The flattened text, null until {@link #toString()} is called.
+     */
+    private String string;
+
+    /**
+     * Returns the text of the given token without flattening it if it is also a rope.
+     */
+    private static CharSequence text(final ParserToken token) {
+        return token instanceof ValueParserToken ?
+            ((ValueParserToken<?>) token).textCharSequence() :
+            token.text();
+    }
+}
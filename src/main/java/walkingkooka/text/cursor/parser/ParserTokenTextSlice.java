@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+/**
+ * Holds the text of a {@link ParserToken} given as a {@link CharSequence} other than a {@link String}, such as a slice
+ * of the text being parsed, building and caching its {@link String} when first requested, so the token text field may
+ * remain final.
+ */
+final class ParserTokenTextSlice implements CharSequence {
+
+    /**
+     * Returns the given text if it is a {@link String} or {@link ParserTokenText} which already cache their
+     * {@link String}, otherwise wraps it.
+     */
+    static CharSequence with(final CharSequence text) {
+        return text instanceof String || text instanceof ParserTokenText || text instanceof ParserTokenTextSlice ?
+            text :
+            new ParserTokenTextSlice(text);
+    }
+
+    private ParserTokenTextSlice(final CharSequence text) {
+        super();
+        this.text = text;
+    }
+
+    @Override
+    public int length() {
+        final String string = this.string;
+        return null != string ?
+            string.length() :
+            this.text.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final String string = this.string;
+        return null != string ?
+            string.charAt(index) :
+            this.text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        return this.toString()
+            .subSequence(
+                start,
+                end
+            );
+    }
+
+    private final CharSequence text;
+
+    @Override
+    public String toString() {
+        String string = this.string;
+        if (null == string) {
+            string = this.text.toString();
+            this.string = string;
+        }
+        return string;
+    }
+
+    /**
+     * The flattened text, null until {@link #toString()} is called. A {@link String} is immutable, so a race only
+     * builds an equal {@link String} again.
+     */
+    private String string;
+}
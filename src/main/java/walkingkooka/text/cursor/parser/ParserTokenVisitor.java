@@ -65,6 +65,10 @@ public abstract class ParserTokenVisitor extends Visitor<ParserToken> {
         // nop
     }
 
+    protected void visit(final ErrorParserToken token) {
+        // nop
+    }
+
     protected void visit(final LocalDateParserToken token) {
         // nop
     }
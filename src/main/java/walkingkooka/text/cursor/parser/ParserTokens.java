@@ -79,6 +79,13 @@ public final class ParserTokens implements PublicStaticHelper {
         return new FakeParserToken();
     }
 
+    /**
+     * {@see ErrorParserToken}
+     */
+    public static ErrorParserToken error(final String value, final String text) {
+        return ErrorParserToken.with(value, text);
+    }
+
     /**
      * {@see LocalDateParserToken}
      */
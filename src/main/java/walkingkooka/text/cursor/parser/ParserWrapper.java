@@ -39,6 +39,19 @@ abstract class ParserWrapper<C extends ParserContext> extends ParserSetToString<
 
     final Parser<C> parser;
 
+    /**
+     * Creates a new instance wrapping the given {@link Parser}, keeping all other properties and the {@link #toString()}.
+     */
+    abstract ParserWrapper<C> replaceParser(final Parser<C> parser);
+
+    /**
+     * By default a wrapper has the same {@link #toString()} as the wrapped {@link Parser}.
+     */
+    @Override
+    String buildToString() {
+        return this.parser.toString();
+    }
+
     // Object...........................................................................................................
 
     @Override //
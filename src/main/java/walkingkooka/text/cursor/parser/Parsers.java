@@ -24,7 +24,9 @@ import walkingkooka.text.CaseSensitivity;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A collection of factory methods to create parsers.
@@ -52,6 +54,13 @@ public final class Parsers implements PublicStaticHelper {
         return AndEmptyTextCursorParser.with(parser);
     }
 
+    /**
+     * {@see ParserBacktracking}
+     */
+    public static <C extends ParserContext> ParserBacktracking<C> backtracking(final Parser<C> parser) {
+        return ParserBacktracking.with(parser);
+    }
+
     /**
      * {@see BigDecimalParser}
      */
@@ -107,6 +116,19 @@ public final class Parsers implements PublicStaticHelper {
         return QuotedParserDouble.instance();
     }
 
+    /**
+     * {@see EventParser}
+     */
+    public static <C extends ParserContext> Parser<C> events(final Parser<C> parser,
+                                                             final long thresholdNanos,
+                                                             final Consumer<ParserEvent> events) {
+        return EventParser.events(
+            parser,
+            thresholdNanos,
+            events
+        );
+    }
+
     /**
      * {@see FakeParser}
      */
@@ -114,6 +136,13 @@ public final class Parsers implements PublicStaticHelper {
         return FakeParser.create();
     }
 
+    /**
+     * {@see FurthestFailureParser}
+     */
+    public static <C extends ParserContext> Parser<C> furthestFailure(final Parser<C> parser) {
+        return FurthestFailureParser.furthestFailure(parser);
+    }
+
     /**
      * {@see InitialAndPartCharPredicateStringParser}
      */
@@ -124,6 +153,13 @@ public final class Parsers implements PublicStaticHelper {
         return InitialAndPartCharPredicateStringParser.with(initial, part, minLength, maxLength);
     }
 
+    /**
+     * {@see InterningParser}
+     */
+    public static <C extends ParserContext> Parser<C> intern(final Parser<C> parser) {
+        return InterningParser.tree(parser);
+    }
+
     /**
      * {@see DateTimeFormatterParserLocalDate}
      */
@@ -173,6 +209,76 @@ public final class Parsers implements PublicStaticHelper {
         return DateTimeFormatterParserOffsetTime.with(formatter);
     }
 
+    /**
+     * {@see OperatorPrecedenceParser}
+     */
+    public static <C extends ParserContext> Parser<C> operatorPrecedence(final Parser<C> operand,
+                                                                         final Parser<C> operator,
+                                                                         final BinaryOperatorTransformer transformer) {
+        return OperatorPrecedenceParser.with(
+            operand,
+            operator,
+            transformer
+        );
+    }
+
+    /**
+     * {@see ParallelAlternativesParser}
+     */
+    public static <C extends ParserContext> Parser<C> parallelAlternatives(final List<Parser<C>> parsers,
+                                                                           final int threshold) {
+        return ParallelAlternativesParser.with(
+            parsers,
+            threshold
+        );
+    }
+
+    /**
+     * {@see ParserBatch}
+     */
+    public static <C extends ParserContext> List<ParserOutcome> parseAll(final Parser<C> parser,
+                                                                         final List<? extends CharSequence> texts,
+                                                                         final Supplier<C> context) {
+        return ParserBatch.parseAll(
+            parser,
+            texts,
+            context
+        );
+    }
+
+    /**
+     * {@see SeparatedParser}
+     */
+    public static <C extends ParserContext> ParserToken parseSeparated(final Parser<C> value,
+                                                                       final CharSequence text,
+                                                                       final int chunkSize,
+                                                                       final Supplier<C> context) {
+        return SeparatedParser.with(value)
+            .parseParallel(
+                text,
+                chunkSize,
+                context
+            );
+    }
+
+    /**
+     * {@see ParserProfile}
+     */
+    public static <C extends ParserContext> ParserProfile<C> profiling(final Parser<C> parser) {
+        return ParserProfile.with(parser);
+    }
+
+    /**
+     * {@see RecoveringParser}
+     */
+    public static <C extends ParserContext> Parser<C> recovering(final Parser<C> element,
+                                                                 final Parser<C> sync) {
+        return RecoveringParser.with(
+            element,
+            sync
+        );
+    }
+
     /**
      * {@see RepeatingParser}
      */
@@ -186,6 +292,13 @@ public final class Parsers implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see SeparatedParser}
+     */
+    public static <C extends ParserContext> Parser<C> separated(final Parser<C> value) {
+        return SeparatedParser.with(value);
+    }
+
     /**
      * {@see SequenceParser}
      */
@@ -224,6 +337,17 @@ public final class Parsers implements PublicStaticHelper {
         return SurroundStringParser.with(open, close);
     }
 
+    /**
+     * {@see TracingParser}
+     */
+    public static <C extends ParserContext> Parser<C> tracing(final Parser<C> parser,
+                                                              final long slowNanos) {
+        return TracingParser.tracing(
+            parser,
+            slowNanos
+        );
+    }
+
     /**
      * {@see TransformingParser}
      */
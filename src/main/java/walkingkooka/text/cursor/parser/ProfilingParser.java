@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that records each invocation of the wrapped {@link Parser} to a {@link ParserProfile}. The consumed
+ * text is measured by a {@link CountingTextCursor} after the duration is taken, so measuring adds nothing to the time
+ * recorded.
+ */
+final class ProfilingParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    static <C extends ParserContext> ProfilingParser<C> with(final Parser<C> parser,
+                                                             final ParserProfile<C> profile) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(profile, "profile");
+
+        return new ProfilingParser<>(
+            parser,
+            profile,
+            null // toString built lazily
+        );
+    }
+
+    private ProfilingParser(final Parser<C> parser,
+                            final ParserProfile<C> profile,
+                            final String toString) {
+        super(parser, toString);
+        this.profile = profile;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        final CountingTextCursor counting = CountingTextCursor.with(cursor);
+        final int start = counting.position();
+        final long begin = System.nanoTime();
+
+        Optional<ParserToken> token = Optional.empty();
+        try {
+            token = this.parser.parse(
+                counting,
+                context
+            );
+        } finally {
+            final long nanos = System.nanoTime() - begin;
+            final boolean success = token.isPresent();
+
+            this.profile.record(
+                success,
+                success ?
+                    counting.position() - start :
+                    0,
+                nanos
+            );
+        }
+
+        return token;
+    }
+
+    private final ParserProfile<C> profile;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    ProfilingParser<C> replaceToString(final String toString) {
+        return new ProfilingParser<>(
+            this.parser,
+            this.profile,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    ProfilingParser<C> replaceParser(final Parser<C> parser) {
+        return new ProfilingParser<>(
+            parser,
+            this.profile,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return System.identityHashCode(this.profile);
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        return this.profile == ((ProfilingParser<?>) other).profile;
+    }
+}
@@ -35,12 +35,13 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C>
     Optional<ParserToken> tryParse(final TextCursor cursor,
                                    final C context,
                                    final TextCursorSavePoint start) {
-        return this.quoteChar() == cursor.at() ? this.tryParseAfterQuoteChar(cursor, start) : Optional.empty();
+        return this.quoteChar() == cursor.at() ? this.tryParseAfterQuoteChar(cursor, context, start) : Optional.empty();
     }
 
     abstract char quoteChar();
 
     private Optional<ParserToken> tryParseAfterQuoteChar(final TextCursor cursor,
+                                                         final C context,
                                                          final TextCursorSavePoint start) {
         final char quote = this.quoteChar();
 
@@ -86,8 +87,9 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C>
                         unicodeCharValue = 0;
                         break;
                     default:
-                        throw new ParserException(
-                            invalidBackslashEscapeChar(c)
+                        throw context.parserException(
+                            invalidBackslashEscapeChar(c),
+                            null
                         );
                 }
                 continue;
@@ -95,8 +97,9 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C>
             if (unicodeDigitCounter >= 0) {
                 final int hex = Character.digit(c, 16);
                 if (-1 == hex) {
-                    throw new ParserException(
-                        invalidUnicodeEscapeChar(c)
+                    throw context.parserException(
+                        invalidUnicodeEscapeChar(c),
+                        null
                     );
                 }
                 unicodeCharValue = (char) (unicodeCharValue * 16 + hex);
@@ -125,8 +128,9 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C>
         }
 
         if (null == result) {
-            throw new ParserException(
-                missingClosingQuote(quote)
+            throw context.parserException(
+                missingClosingQuote(quote),
+                null
             );
         }
 
@@ -27,7 +27,9 @@ final class QuotedParserDouble<C extends ParserContext> extends QuotedParser<C>
         return INSTANCE.cast();
     }
 
-    private final static QuotedParserDouble<?> INSTANCE = new QuotedParserDouble<>("double quoted string");
+    private final static QuotedParserDouble<?> INSTANCE = new QuotedParserDouble<>(
+        null // toString built lazily
+    );
 
     private QuotedParserDouble(final String toString) {
         super(toString);
@@ -49,6 +51,11 @@ final class QuotedParserDouble<C extends ParserContext> extends QuotedParser<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "double quoted string";
+    }
+
     @Override
     QuotedParserDouble<C> replaceToString(final String toString) {
         return new QuotedParserDouble<>(
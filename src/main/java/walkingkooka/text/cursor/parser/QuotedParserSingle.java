@@ -27,7 +27,9 @@ final class QuotedParserSingle<C extends ParserContext> extends QuotedParser<C>
         return INSTANCE.cast();
     }
 
-    private final static QuotedParserSingle<?> INSTANCE = new QuotedParserSingle<>("single quoted string");
+    private final static QuotedParserSingle<?> INSTANCE = new QuotedParserSingle<>(
+        null // toString built lazily
+    );
 
     private QuotedParserSingle(final String toString) {
         super(toString);
@@ -49,6 +51,11 @@ final class QuotedParserSingle<C extends ParserContext> extends QuotedParser<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "single quoted string";
+    }
+
     @Override
     QuotedParserSingle<C> replaceToString(final String toString) {
         return new QuotedParserSingle<>(
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} that reads characters from a {@link Reader} as they are needed, keeping them in a buffer
+ * until {@link #compact()} is called. Calling {@link #compact()} between top level parses, when no
+ * {@link TextCursorSavePoint} is needed anymore, releases all characters before the current position, so very large
+ * text may be parsed without reading it all into memory.
+ * <br>
+ * {@link #text()} and {@link #lineInfo()} only include the buffered characters, so after a {@link #compact()} error
+ * positions, columns and line numbers are relative to the first buffered character.
+ */
+public final class ReaderTextCursor implements TextCursor {
+
+    static ReaderTextCursor with(final Reader reader,
+                                 final int bufferSize) {
+        Objects.requireNonNull(reader, "reader");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize + " <= 0");
+        }
+
+        return new ReaderTextCursor(
+            reader,
+            bufferSize
+        );
+    }
+
+    private ReaderTextCursor(final Reader reader,
+                             final int bufferSize) {
+        super();
+        this.reader = reader;
+        this.bufferSize = bufferSize;
+        this.buffer = new char[bufferSize];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.position == this.bufferOffset + this.bufferLength &&
+            false == this.fill();
+    }
+
+    @Override
+    public boolean isNotEmpty() {
+        return false == this.isEmpty();
+    }
+
+    @Override
+    public char at() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("Empty text cursor");
+        }
+        return this.buffer[this.index()];
+    }
+
+    @Override
+    public TextCursor next() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("Empty text cursor");
+        }
+        this.position++;
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        while (this.fill()) {
+            // read everything
+        }
+        this.position = this.bufferOffset + this.bufferLength;
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return ReaderTextCursorSavePoint.with(
+            this,
+            this.position
+        );
+    }
+
+    /**
+     * Returns the buffered text.
+     */
+    @Override
+    public String text() {
+        return new String(
+            this.buffer,
+            0,
+            this.bufferLength
+        );
+    }
+
+    /**
+     * Returns the {@link TextCursorLineInfo} for the current position within the buffered text.
+     */
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        final TextCursor cursor = TextCursors.charSequence(this.text());
+
+        final int count = this.index();
+        for (int i = 0; i < count; i++) {
+            cursor.next();
+        }
+        return cursor.lineInfo();
+    }
+
+    /**
+     * Releases all characters before the current position. Any {@link TextCursorSavePoint} taken before the current
+     * position may no longer be restored. A buffer that grew past the initial buffer size is reallocated to fit the
+     * remaining characters, so a single long token does not keep a large buffer alive.
+     */
+    public void compact() {
+        final int discard = this.index();
+        final int remaining = this.bufferLength - discard;
+
+        final char[] buffer = this.buffer;
+        final int capacity = Math.max(
+            this.bufferSize,
+            remaining
+        );
+        final char[] compacted = capacity < buffer.length ?
+            new char[capacity] :
+            buffer;
+
+        System.arraycopy(
+            buffer,
+            discard,
+            compacted,
+            0,
+            remaining
+        );
+
+        this.buffer = compacted;
+        this.bufferOffset = this.position;
+        this.bufferLength = remaining;
+    }
+
+    /**
+     * The index of the current character within {@link #buffer}.
+     */
+    private int index() {
+        return (int) (this.position - this.bufferOffset);
+    }
+
+    /**
+     * Reads more characters into the buffer, growing the buffer if it is full, returning false if the {@link Reader}
+     * has no more characters.
+     */
+    private boolean fill() {
+        boolean filled = false;
+
+        if (false == this.eof) {
+            char[] buffer = this.buffer;
+            final int length = this.bufferLength;
+
+            if (length == buffer.length) {
+                final char[] grown = new char[buffer.length * 2];
+                System.arraycopy(
+                    buffer,
+                    0,
+                    grown,
+                    0,
+                    length
+                );
+                buffer = grown;
+                this.buffer = buffer;
+            }
+
+            try {
+                final int read = this.reader.read(
+                    buffer,
+                    length,
+                    buffer.length - length
+                );
+                if (-1 == read) {
+                    this.eof = true;
+                } else {
+                    this.bufferLength = length + read;
+                    filled = read > 0 || this.fill();
+                }
+            } catch (final IOException cause) {
+                throw new ParserException(
+                    "Reading text failed: " + cause.getMessage(),
+                    cause
+                );
+            }
+        }
+
+        return filled;
+    }
+
+    /**
+     * Invoked by {@link ReaderTextCursorSavePoint#restore()}.
+     */
+    void restore(final long position) {
+        this.checkBuffered(position);
+        this.position = position;
+    }
+
+    /**
+     * Invoked by {@link ReaderTextCursorSavePoint#textBetween()}.
+     */
+    CharSequence textBetween(final long position) {
+        this.checkBuffered(position);
+
+        final long current = this.position;
+        final long start = Math.min(position, current);
+
+        return new String(
+            this.buffer,
+            (int) (start - this.bufferOffset),
+            (int) (Math.max(position, current) - start)
+        );
+    }
+
+    private void checkBuffered(final long position) {
+        if (position < this.bufferOffset) {
+            throw new IllegalStateException("Save point " + position + " before compacted position " + this.bufferOffset);
+        }
+    }
+
+    private final Reader reader;
+
+    /**
+     * The initial size of {@link #buffer}, which {@link #compact()} shrinks back towards.
+     */
+    private final int bufferSize;
+
+    /**
+     * The buffered characters, starting with the character at {@link #bufferOffset}.
+     */
+    // @VisibleForTesting
+    char[] buffer;
+
+    /**
+     * The offset of the first buffered character within all the text read, a long so text longer than
+     * {@link Integer#MAX_VALUE} may be read when {@link #compact()} is called regularly.
+     */
+    private long bufferOffset;
+
+    /**
+     * The number of characters in {@link #buffer}.
+     */
+    private int bufferLength;
+
+    /**
+     * The offset of the current character within all the text read.
+     */
+    private long position;
+
+    private boolean eof;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final int index = this.index();
+        return new String(this.buffer, 0, index) +
+            "[" +
+            new String(this.buffer, index, this.bufferLength - index) +
+            "]";
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.EndOfTextException;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that matches the element {@link Parser} until the {@link TextCursor} is empty. When the element
+ * fails or throws, the error message is recorded and text is skipped up to and including the next match of the
+ * synchronization {@link Parser}, such as a semi colon or newline, before continuing. All elements and an
+ * {@link ErrorParserToken} for each failure are returned within a {@link RepeatedParserToken}, so all errors within
+ * a text are found in a single pass, and may be gathered using {@link ParserToken#index()}.
+ */
+final class RecoveringParser<C extends ParserContext> extends ParserSetToString<C>
+    implements RequiredParser<C> {
+
+    static <C extends ParserContext> RecoveringParser<C> with(final Parser<C> element,
+                                                              final Parser<C> sync) {
+        Objects.requireNonNull(element, "element");
+        Objects.requireNonNull(sync, "sync");
+
+        return new RecoveringParser<>(
+            element,
+            sync,
+            null // toString built lazily
+        );
+    }
+
+    private RecoveringParser(final Parser<C> element,
+                             final Parser<C> sync,
+                             final String toString) {
+        super(toString);
+        this.element = element;
+        this.sync = sync;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        final CountingTextCursor counting = CountingTextCursor.with(cursor);
+        final TextCursorSavePoint start = counting.save();
+        final List<ParserToken> tokens = Lists.array();
+
+        while (counting.isNotEmpty()) {
+            final TextCursorSavePoint save = counting.save();
+            final int position = counting.position();
+
+            String message = null;
+            try {
+                final Optional<ParserToken> token = this.element.parse(
+                    counting,
+                    context
+                );
+
+                // an element that matches nothing would never advance
+                if (token.isPresent() && counting.position() > position) {
+                    tokens.add(token.get());
+                    continue;
+                }
+            } catch (final EndOfTextException cause) {
+                message = cause.getMessage();
+            } catch (final InvalidCharacterException cause) {
+                message = cause.getMessage();
+            } catch (final ParserException cause) {
+                message = cause.getMessage();
+            }
+
+            save.restore();
+            if (null == message) {
+                message = context.invalidCharacterMessage(
+                    this.element,
+                    counting
+                );
+            }
+
+            this.skip(
+                counting,
+                context
+            );
+
+            tokens.add(
+                ErrorParserToken.with(
+                    message,
+                    save.textBetween()
+                        .toString()
+                )
+            );
+        }
+
+        return tokens.isEmpty() ?
+            Optional.empty() :
+            Optional.of(
+                RepeatedParserToken.with(
+                    tokens,
+                    start.textBetween()
+                        .toString()
+                )
+            );
+    }
+
+    /**
+     * Advances the {@link TextCursor} until after the next match of the synchronization {@link Parser} or the end,
+     * always skipping at least one character.
+     */
+    private void skip(final CountingTextCursor cursor,
+                      final C context) {
+        while (cursor.isNotEmpty()) {
+            final TextCursorSavePoint save = cursor.save();
+            final int position = cursor.position();
+
+            if (this.sync.parse(cursor, context).isPresent() && cursor.position() > position) {
+                break;
+            }
+            save.restore();
+
+            cursor.next();
+        }
+    }
+
+    final Parser<C> element;
+
+    final Parser<C> sync;
+
+    /**
+     * Creates a new {@link RecoveringParser} with the given parsers keeping any custom {@link #toString()}.
+     */
+    RecoveringParser<C> replaceElementSync(final Parser<C> element,
+                                           final Parser<C> sync) {
+        return new RecoveringParser<>(
+            element,
+            sync,
+            this.toString
+        );
+    }
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    RecoveringParser<C> replaceToString(final String toString) {
+        return new RecoveringParser<>(
+            this.element,
+            this.sync,
+            toString
+        );
+    }
+
+    @Override
+    String buildToString() {
+        return "{" + this.element + "} recover " + this.sync;
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode0() {
+        return Objects.hash(
+            this.element,
+            this.sync
+        );
+    }
+
+    @Override //
+    boolean equalsParserSetToString(final ParserSetToString<?> other) {
+        final RecoveringParser<?> otherRecoveringParser = other.cast();
+
+        return this.element.equals(otherRecoveringParser.element) &&
+            this.sync.equals(otherRecoveringParser.sync);
+    }
+}
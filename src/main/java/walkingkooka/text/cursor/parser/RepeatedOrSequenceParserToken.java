@@ -21,6 +21,7 @@ import walkingkooka.collect.list.Lists;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 
 /**
  * A common base class for both {@link RepeatedParserToken} and {@link SequenceParserToken}.
@@ -32,7 +33,7 @@ abstract public class RepeatedOrSequenceParserToken extends ValueParserToken<Lis
     /**
      * Private ctor to limit subclassing.
      */
-    RepeatedOrSequenceParserToken(final List<ParserToken> value, final String text) {
+    RepeatedOrSequenceParserToken(final List<ParserToken> value, final CharSequence text) {
         super(value, text);
 
         if (value.isEmpty()) {
@@ -54,6 +55,26 @@ abstract public class RepeatedOrSequenceParserToken extends ValueParserToken<Lis
 
     abstract ValueParserToken<List<ParserToken>> replaceValue(final List<ParserToken> value);
 
+    /**
+     * Similar to {@link ParserToken#parentSetChildren(ParserToken, List, BiFunction)} but the new parent text is a
+     * {@link ParserTokenText} rope of the children, which is only flattened when {@link #text()} is called.
+     */
+    static <T extends RepeatedOrSequenceParserToken> T setChildrenRope(final T token,
+                                                                       final List<ParserToken> children,
+                                                                       final BiFunction<List<ParserToken>, CharSequence, T> factory) {
+        Objects.requireNonNull(token, "token");
+        Objects.requireNonNull(children, "children");
+
+        final List<ParserToken> copy = Lists.immutable(children);
+
+        return token.children().equals(copy) ?
+            token :
+            factory.apply(
+                copy,
+                ParserTokenText.with(copy)
+            );
+    }
+
     /**
      * Recursively flattens all embedded {@link RepeatedOrSequenceParserToken} into a single {@link RepeatedOrSequenceParserToken}.
      */
@@ -26,19 +26,19 @@ import java.util.Objects;
  */
 public final class RepeatedParserToken extends RepeatedOrSequenceParserToken {
 
-    static RepeatedParserToken with(final List<ParserToken> tokens, final String text) {
+    static RepeatedParserToken with(final List<ParserToken> tokens, final CharSequence text) {
         Objects.requireNonNull(tokens, "tokens");
         Objects.requireNonNull(text, "text");
 
         return new RepeatedParserToken(tokens, text);
     }
 
-    private RepeatedParserToken(final List<ParserToken> tokens, final String text) {
+    private RepeatedParserToken(final List<ParserToken> tokens, final CharSequence text) {
         super(tokens, text);
     }
 
     @Override RepeatedParserToken replaceValue(final List<ParserToken> value) {
-        return new RepeatedParserToken(value, this.text());
+        return new RepeatedParserToken(value, this.textCharSequence());
     }
 
     @Override
@@ -51,7 +51,7 @@ public final class RepeatedParserToken extends RepeatedOrSequenceParserToken {
 
     @Override
     public RepeatedParserToken setChildren(final List<ParserToken> children) {
-        return ParserToken.parentSetChildren(
+        return setChildrenRope(
             this,
             children,
             RepeatedParserToken::new
@@ -122,20 +122,19 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
             minCount,
             maxCount,
             parser,
-            buildRepeatingToString(
-                minCount,
-                maxCount,
-                parser
-            )
+            null // toString built lazily
         );
     }
 
     // [PARSER]
     // {PARSER}{1,*}
     // {PARSER}{2,3}
-    private static String buildRepeatingToString(final int minCount,
-                                                 final int maxCount,
-                                                 final Parser<?> parser) {
+    @Override
+    String buildToString() {
+        final int minCount = this.minCount;
+        final int maxCount = this.maxCount;
+        final Parser<C> parser = this.parser;
+
         final StringBuilder builder = new StringBuilder();
 
         if (0 == minCount && 1 == maxCount) {
@@ -234,7 +233,6 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
         return RepeatedParserToken.with(
             tokens,
             start.textBetween()
-                .toString()
         );
     }
 
@@ -254,7 +252,19 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
 
     private final int maxCount;
 
-    private final Parser<C> parser;
+    final Parser<C> parser;
+
+    /**
+     * Creates a new {@link RepeatingParser} with the given {@link Parser} keeping the counts and any custom {@link #toString()}.
+     */
+    RepeatingParser<C> replaceParser(final Parser<C> parser) {
+        return new RepeatingParser<>(
+            this.minCount,
+            this.maxCount,
+            parser,
+            this.toString
+        );
+    }
 
     // ParserSetToString................................................................................................
 
@@ -274,7 +284,8 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
     int hashCode0() {
         return Objects.hash(
             this.minCount,
-            this.maxCount
+            this.maxCount,
+            this.parser
         );
     }
 
@@ -283,6 +294,7 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
         final RepeatingParser<?> otherRepeatingParser = other.cast();
 
         return this.minCount == otherRepeatingParser.minCount &&
-            this.maxCount == otherRepeatingParser.maxCount;
+            this.maxCount == otherRepeatingParser.maxCount &&
+            this.parser.equals(otherRepeatingParser.parser);
     }
 }
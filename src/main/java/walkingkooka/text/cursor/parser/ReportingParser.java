@@ -52,7 +52,7 @@ final class ReportingParser<C extends ParserContext> extends ParserWrapper<C> {
             condition,
             reporter,
             wrapped,
-            wrapped + " | " + reporter
+            null // toString built lazily
         );
     }
 
@@ -103,6 +103,23 @@ final class ReportingParser<C extends ParserContext> extends ParserWrapper<C> {
         );
     }
 
+    @Override
+    String buildToString() {
+        return this.parser + " | " + this.reporter;
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    ReportingParser<C> replaceParser(final Parser<C> parser) {
+        return new ReportingParser<>(
+            this.condition,
+            this.reporter,
+            parser,
+            this.toString
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override //
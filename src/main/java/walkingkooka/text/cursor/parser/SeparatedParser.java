@@ -0,0 +1,280 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Parser} that matches one or more values separated by {@link ParserContext#valueSeparator()}, returning a
+ * {@link RepeatedParserToken} holding each value followed by a {@link CharacterParserToken} for each separator.
+ * <br>
+ * {@link #parseParallel(CharSequence, int, Supplier)} produces the same {@link ParserToken} for large text, by splitting
+ * the text into chunks at separators outside quotes and parsing the chunks in parallel. This assumes the value
+ * {@link Parser} never consumes a separator outside single or double quotes.
+ */
+final class SeparatedParser<C extends ParserContext> extends NonEmptyParser<C>
+    implements RequiredParser<C> {
+
+    static <C extends ParserContext> SeparatedParser<C> with(final Parser<C> value) {
+        Objects.requireNonNull(value, "value");
+
+        return new SeparatedParser<>(
+            value,
+            null
+        );
+    }
+
+    private SeparatedParser(final Parser<C> value,
+                            final String toString) {
+        super(toString);
+
+        this.value = value;
+    }
+
+    @Override
+    Optional<ParserToken> tryParse(final TextCursor cursor,
+                                   final C context,
+                                   final TextCursorSavePoint start) {
+        final Parser<C> value = this.value;
+        final char separator = context.valueSeparator();
+
+        ParserToken token = null;
+
+        Optional<ParserToken> first = value.parse(
+            cursor,
+            context
+        );
+        if (first.isPresent()) {
+            final List<ParserToken> tokens = Lists.array();
+            tokens.add(first.get());
+
+            while (cursor.isNotEmpty() && separator == cursor.at()) {
+                final TextCursorSavePoint beforeSeparator = cursor.save();
+                cursor.next();
+
+                final Optional<ParserToken> next = value.parse(
+                    cursor,
+                    context
+                );
+                if (false == next.isPresent()) {
+                    beforeSeparator.restore();
+                    break;
+                }
+
+                tokens.add(separator(separator));
+                tokens.add(next.get());
+            }
+
+            token = RepeatedParserToken.with(
+                tokens,
+                start.textBetween()
+            );
+        }
+
+        return Optional.ofNullable(token);
+    }
+
+    private final Parser<C> value;
+
+    // parseParallel....................................................................................................
+
+    /**
+     * Parses the entire text, failing if any text is left over, returning the same {@link ParserToken} as
+     * {@link Parser#parseText(String, ParserContext)}. The text is split into chunks of at least the given number of
+     * characters. Chunks are parsed in parallel each with a new
+     * {@link ParserContext}, and any chunk that fails causes the entire text to be parsed again serially so errors
+     * are reported exactly as a serial parse would.
+     */
+    ParserToken parseParallel(final CharSequence text,
+                              final int chunkSize,
+                              final Supplier<C> context) {
+        Objects.requireNonNull(text, "text");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size " + chunkSize + " < 1");
+        }
+        Objects.requireNonNull(context, "context");
+
+        final char separator = context.get()
+            .valueSeparator();
+        final List<Integer> splits = splits(
+            text,
+            chunkSize,
+            separator
+        );
+
+        final Parser<C> textParser = ParserBatch.textParser(this);
+
+        final ParserToken token;
+        if (splits.isEmpty()) {
+            token = ParserBatch.parseText(
+                textParser,
+                text,
+                context.get()
+            );
+        } else {
+            final int chunkCount = splits.size() + 1;
+
+            final List<ParserToken> chunks = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(i -> parseChunk(
+                    textParser,
+                    text.subSequence(
+                        0 == i ?
+                            0 :
+                            splits.get(i - 1) + 1,
+                        chunkCount - 1 == i ?
+                            text.length() :
+                            splits.get(i)
+                    ),
+                    context.get()
+                )).collect(Collectors.toList());
+
+            if (chunks.contains(null)) {
+                token = ParserBatch.parseText(
+                    textParser,
+                    text,
+                    context.get()
+                );
+            } else {
+                final List<ParserToken> tokens = Lists.array();
+                for (final ParserToken chunk : chunks) {
+                    if (false == tokens.isEmpty()) {
+                        tokens.add(separator(separator));
+                    }
+                    tokens.addAll(chunk.children());
+                }
+
+                // the text is kept as given rather than copied
+                token = RepeatedParserToken.with(
+                    tokens,
+                    text
+                );
+            }
+        }
+
+        return token;
+    }
+
+    /**
+     * Scans the text once, returning the index of the first separator outside quotes after each chunk size
+     * characters.
+     */
+    private static List<Integer> splits(final CharSequence text,
+                                        final int chunkSize,
+                                        final char separator) {
+        final List<Integer> splits = Lists.array();
+        final int length = text.length();
+
+        int next = chunkSize;
+        char quote = 0;
+        boolean backslashed = false;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            if (0 != quote) {
+                if (backslashed) {
+                    backslashed = false;
+                } else {
+                    if ('\\' == c) {
+                        backslashed = true;
+                    } else {
+                        if (quote == c) {
+                            quote = 0;
+                        }
+                    }
+                }
+            } else {
+                if ('"' == c || '\'' == c) {
+                    quote = c;
+                } else {
+                    if (separator == c && i >= next) {
+                        splits.add(i);
+                        next = i + chunkSize;
+                    }
+                }
+            }
+        }
+
+        return splits;
+    }
+
+    /**
+     * Parses a single chunk returning null if it failed.
+     */
+    private static <C extends ParserContext> ParserToken parseChunk(final Parser<C> parser,
+                                                                  final CharSequence chunk,
+                                                                  final C context) {
+        ParserToken token;
+        try {
+            token = ParserBatch.parseText(
+                parser,
+                chunk,
+                context
+            );
+        } catch (final RuntimeException cause) {
+            token = null;
+        }
+        return token;
+    }
+
+    private static ParserToken separator(final char separator) {
+        return ParserTokens.character(
+            separator,
+            String.valueOf(separator)
+        );
+    }
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    SeparatedParser<C> replaceToString(final String toString) {
+        return new SeparatedParser<>(
+            this.value,
+            toString
+        );
+    }
+
+    @Override
+    String buildToString() {
+        return this.value + ", {valueSeparator, " + this.value + "}";
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode0() {
+        return this.value.hashCode();
+    }
+
+    @Override //
+    boolean equalsParserSetToString(final ParserSetToString<?> other) {
+        final SeparatedParser<?> otherSeparatedParser = other.cast();
+
+        return this.value.equals(otherSeparatedParser.value);
+    }
+}
@@ -55,7 +55,7 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C>
             default:
                 result = new SequenceParser<>(
                     flat,
-                    buildToString(flat)
+                    null // toString built lazily
                 );
         }
 
@@ -87,8 +87,9 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C>
      * (A, B, C)
      * </pre>
      */
-    static <C extends ParserContext> String buildToString(final List<Parser<C>> parsers) {
-        return parsers.stream()
+    @Override
+    String buildToString() {
+        return this.parsers.stream()
             .map(SequenceParser::parserToString)
             .collect(Collectors.joining(
                     ", "
@@ -143,7 +144,6 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C>
                 SequenceParserToken.with(
                     tokens,
                     start.textBetween()
-                        .toString()
                 )
             );
         }
@@ -155,6 +155,16 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C>
     // @VisibleForTesting
     final List<Parser<C>> parsers;
 
+    /**
+     * Creates a new {@link SequenceParser} with the given parsers keeping any custom {@link #toString()}.
+     */
+    SequenceParser<C> replaceParsers(final List<Parser<C>> parsers) {
+        return new SequenceParser<>(
+            parsers,
+            this.toString
+        );
+    }
+
     // ParserSetToString..........................................................................................................
 
     @Override
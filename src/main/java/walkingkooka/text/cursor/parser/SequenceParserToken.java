@@ -30,20 +30,20 @@ public final class SequenceParserToken extends RepeatedOrSequenceParserToken {
     /**
      * Factory that wraps many tokens in a {@link SequenceParserToken}.
      */
-    static SequenceParserToken with(final List<ParserToken> tokens, final String text) {
+    static SequenceParserToken with(final List<ParserToken> tokens, final CharSequence text) {
         Objects.requireNonNull(tokens, "tokens");
         Objects.requireNonNull(text, "text");
 
         return new SequenceParserToken(tokens, text);
     }
 
-    private SequenceParserToken(final List<ParserToken> tokens, final String text) {
+    private SequenceParserToken(final List<ParserToken> tokens, final CharSequence text) {
         super(tokens, text);
     }
 
     @Override //
     SequenceParserToken replaceValue(final List<ParserToken> value) {
-        return new SequenceParserToken(value, this.text());
+        return new SequenceParserToken(value, this.textCharSequence());
     }
 
     @Override
@@ -150,7 +150,7 @@ public final class SequenceParserToken extends RepeatedOrSequenceParserToken {
 
     @Override
     public SequenceParserToken setChildren(final List<ParserToken> children) {
-        return ParserToken.parentSetChildren(
+        return setChildrenRope(
             this,
             children,
             SequenceParserToken::new
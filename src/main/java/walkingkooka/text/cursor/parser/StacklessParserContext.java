@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.Objects;
+
+/**
+ * A {@link ParserContext} that creates {@link ParserException} without a stack trace, delegating everything else.
+ * Note that the {@link walkingkooka.InvalidCharacterException} created by a {@link ParserReporter} still has a
+ * stack trace, {@link Parser#parseOutcome(CharSequence, ParserContext)} avoids creating those unless requested.
+ */
+final class StacklessParserContext implements ParserContextDelegator {
+
+    static StacklessParserContext with(final ParserContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return context instanceof StacklessParserContext ?
+            (StacklessParserContext) context :
+            new StacklessParserContext(context);
+    }
+
+    private StacklessParserContext(final ParserContext context) {
+        super();
+        this.context = context;
+    }
+
+    @Override
+    public ParserException parserException(final String message,
+                                           final Throwable cause) {
+        return StacklessParserException.with(
+            message,
+            cause
+        );
+    }
+
+    @Override
+    public ParserContext parserContext() {
+        return this.context;
+    }
+
+    private final ParserContext context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.context.toString();
+    }
+}
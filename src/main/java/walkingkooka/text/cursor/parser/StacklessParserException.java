@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+/**
+ * A {@link ParserException} that does not capture a stack trace, making it cheap to create when many inputs are
+ * expected to fail, such as batch validation.
+ */
+final class StacklessParserException extends ParserException {
+
+    private final static long serialVersionUID = 1L;
+
+    static StacklessParserException with(final String message,
+                                         final Throwable cause) {
+        return null == cause ?
+            new StacklessParserException(message) :
+            new StacklessParserException(
+                message,
+                cause
+            );
+    }
+
+    private StacklessParserException(final String message) {
+        super(message);
+    }
+
+    private StacklessParserException(final String message,
+                                     final Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Skips capturing the stack trace, which is called by the {@link Throwable} ctor.
+     */
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
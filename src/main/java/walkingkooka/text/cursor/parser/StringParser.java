@@ -34,17 +34,10 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C>
         CharSequences.failIfNullOrEmpty(string, "string");
         Objects.requireNonNull(caseSensitivity, "caseSensitivity");
 
-        final StringBuilder b = new StringBuilder();
-
-        b.append(CharSequences.quoteAndEscape(string));
-        if (CaseSensitivity.INSENSITIVE == caseSensitivity) {
-            b.append(" (CaseInsensitive)");
-        }
-
         return new StringParser<>(
             string,
             caseSensitivity,
-            b.toString()
+            null // toString built lazily
         );
     }
 
@@ -75,7 +68,10 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C>
             cursor.next();
 
             if (string.length() == matched) {
-                final String text = start.textBetween().toString();
+                // case sensitive matches are always the literal, avoid copying the text from the cursor
+                final String text = CaseSensitivity.SENSITIVE == caseSensitivity ?
+                    string :
+                    start.textBetween().toString();
                 result = StringParserToken.with(text, text);
                 break;
             }
@@ -89,6 +85,18 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C>
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        final StringBuilder b = new StringBuilder();
+
+        b.append(CharSequences.quoteAndEscape(this.string));
+        if (CaseSensitivity.INSENSITIVE == this.caseSensitivity) {
+            b.append(" (CaseInsensitive)");
+        }
+
+        return b.toString();
+    }
+
     @Override
     StringParser<C> replaceToString(final String toString) {
         return new StringParser<>(
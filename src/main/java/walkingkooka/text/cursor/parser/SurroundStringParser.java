@@ -33,9 +33,7 @@ final class SurroundStringParser<C extends ParserContext> extends NonEmptyParser
         return new SurroundStringParser<>(
             CharSequences.failIfNullOrEmpty(open, "open"),
             CharSequences.failIfNullOrEmpty(close, "close"),
-            CharSequences.quoteAndEscape(open) +
-                "*" +
-                CharSequences.quoteAndEscape(close)
+            null // toString built lazily
         );
     }
 
@@ -114,6 +112,13 @@ final class SurroundStringParser<C extends ParserContext> extends NonEmptyParser
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return CharSequences.quoteAndEscape(this.open) +
+            "*" +
+            CharSequences.quoteAndEscape(this.close);
+    }
+
     @Override
     SurroundStringParser<C> replaceToString(final String toString) {
         return new SurroundStringParser<>(
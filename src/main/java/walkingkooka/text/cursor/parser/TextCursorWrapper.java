@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+/**
+ * A {@link TextCursor} that wraps another, delegating every move to it, so all cursors along a chain of wrappers
+ * always agree on the current character. This allows a {@link Parser} to find a wrapper it needs anywhere along the
+ * chain, rather than wrapping the cursor again and losing what an outer wrapper recorded.
+ */
+interface TextCursorWrapper extends TextCursor {
+
+    /**
+     * Returns the wrapped {@link TextCursor} if the given cursor is a {@link TextCursorWrapper}, otherwise null.
+     */
+    static TextCursor unwrap(final TextCursor cursor) {
+        return cursor instanceof TextCursorWrapper ?
+            ((TextCursorWrapper) cursor).wrappedTextCursor() :
+            null;
+    }
+
+    /**
+     * The wrapped {@link TextCursor}.
+     */
+    TextCursor wrappedTextCursor();
+}
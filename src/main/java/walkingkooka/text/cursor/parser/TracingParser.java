@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Parser} that records each attempt of the wrapped {@link Parser} into a {@link TracingParserContext}, and
+ * simply delegates when given any other {@link ParserContext}. The root parser dumps the trace when the parse failed,
+ * either returning empty or throwing, or took at least the slow threshold.
+ * <br>
+ * A grammar typed with a {@link ParserContext} sub type may be traced if its context is a {@link ParserContextDelegator}
+ * whose {@link ParserContextDelegator#parserContext()} is, or itself delegates to, a {@link TracingParserContext}.
+ * Offsets are counted by a {@link CountingTextCursor} shared by all parsers of the graph, so recording an attempt
+ * never calls {@link TextCursor#lineInfo()}.
+ */
+final class TracingParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    /**
+     * Marks a parser that is not the root and therefore never checks if the parse was slow.
+     */
+    final static long NOT_ROOT = -1;
+
+    /**
+     * Wraps every node of the given {@link Parser} graph assigning each an id, which is the index of its label.
+     */
+    static <C extends ParserContext> Parser<C> tracing(final Parser<C> parser,
+                                                       final long slowNanos) {
+        Objects.requireNonNull(parser, "parser");
+        if (slowNanos < 0) {
+            throw new IllegalArgumentException("Invalid slow " + slowNanos + " < 0");
+        }
+
+        return wrap(
+            parser,
+            slowNanos,
+            Lists.array()
+        );
+    }
+
+    private static <C extends ParserContext> Parser<C> wrap(final Parser<C> parser,
+                                                            final long slowNanos,
+                                                            final List<String> labels) {
+        final int id = labels.size();
+        labels.add(parser.toString());
+
+        return with(
+            ParserRewriter.replaceChildren(
+                parser,
+                (p) -> wrap(
+                    p,
+                    NOT_ROOT,
+                    labels
+                )
+            ),
+            id,
+            slowNanos,
+            labels
+        );
+    }
+
+    static <C extends ParserContext> TracingParser<C> with(final Parser<C> parser,
+                                                           final int id,
+                                                           final long slowNanos,
+                                                           final List<String> labels) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(labels, "labels");
+
+        return new TracingParser<>(
+            parser,
+            id,
+            slowNanos,
+            labels,
+            null // toString built lazily
+        );
+    }
+
+    private TracingParser(final Parser<C> parser,
+                          final int id,
+                          final long slowNanos,
+                          final List<String> labels,
+                          final String toString) {
+        super(parser, toString);
+        this.id = id;
+        this.slowNanos = slowNanos;
+        this.labels = labels;
+    }
+
+    @Override
+    public Optional<ParserToken> parse(final TextCursor cursor,
+                                       final C context) {
+        final TracingParserContext tracing = TracingParserContext.find(context);
+
+        return null != tracing ?
+            this.trace(
+                cursor,
+                context,
+                tracing
+            ) :
+            this.parser.parse(
+                cursor,
+                context
+            );
+    }
+
+    private Optional<ParserToken> trace(final TextCursor cursor,
+                                        final C context,
+                                        final TracingParserContext tracing) {
+        final boolean root = NOT_ROOT != this.slowNanos;
+
+        // the root wraps the cursor once, all other parsers of the graph find and share it
+        final CountingTextCursor counting = CountingTextCursor.with(cursor);
+        final int start = counting.position();
+        final long begin = root ?
+            System.nanoTime() :
+            0;
+
+        byte outcome = TracingParserContext.THROWN;
+        try {
+            final Optional<ParserToken> token = this.parser.parse(
+                counting,
+                context
+            );
+            outcome = token.isPresent() ?
+                TracingParserContext.SUCCESS :
+                TracingParserContext.FAILURE;
+            return token;
+        } finally {
+            tracing.record(
+                this.labels,
+                this.id,
+                start,
+                counting.position(),
+                outcome
+            );
+
+            if (root && (TracingParserContext.SUCCESS != outcome || System.nanoTime() - begin >= this.slowNanos)) {
+                tracing.dump();
+            }
+        }
+    }
+
+    private final int id;
+
+    private final long slowNanos;
+
+    /**
+     * The labels of all parsers in the graph, shared by all {@link TracingParser}.
+     */
+    private final List<String> labels;
+
+    // ParserSetToString................................................................................................
+
+    @Override
+    TracingParser<C> replaceToString(final String toString) {
+        return new TracingParser<>(
+            this.parser,
+            this.id,
+            this.slowNanos,
+            this.labels,
+            toString
+        );
+    }
+
+    // ParserWrapper....................................................................................................
+
+    @Override
+    TracingParser<C> replaceParser(final Parser<C> parser) {
+        return new TracingParser<>(
+            parser,
+            this.id,
+            this.slowNanos,
+            this.labels,
+            this.toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override //
+    int hashCode1() {
+        return Objects.hash(
+            this.id,
+            this.slowNanos,
+            this.labels
+        );
+    }
+
+    @Override //
+    boolean equalsParserWrapper(final ParserWrapper<?> other) {
+        final TracingParser<?> otherTracingParser = (TracingParser<?>) other;
+
+        return this.id == otherTracingParser.id &&
+            this.slowNanos == otherTracingParser.slowNanos &&
+            this.labels.equals(otherTracingParser.labels);
+    }
+}
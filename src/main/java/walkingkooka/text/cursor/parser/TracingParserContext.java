@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Cast;
+import walkingkooka.InvalidCharacterException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ParserContext} that records the attempts of a {@link Parser} graph prepared by
+ * {@link Parsers#tracing(Parser, long)} into a fixed size ring buffer of primitive arrays, holding the parser id,
+ * start offset, end offset and outcome of the most recent attempts. Recording an attempt never allocates. The
+ * buffer is formatted as text and passed to the dump {@link Consumer} only when the root parser failed, returning
+ * empty or throwing for example an {@link InvalidCharacterException}, or was slow.
+ * <br>
+ * Attempts are recorded when they complete, and the root completes last, so a dump includes every parser that was
+ * active when a failure was thrown. Instances hold mutable state and should not be shared between concurrent parses.
+ */
+final class TracingParserContext implements ParserContextDelegator {
+
+    final static byte SUCCESS = 0;
+
+    final static byte FAILURE = 1;
+
+    final static byte THROWN = 2;
+
+    private final static String[] OUTCOMES = {
+        "success",
+        "failure",
+        "thrown"
+    };
+
+    static TracingParserContext with(final ParserContext context,
+                                     final int capacity,
+                                     final Consumer<String> dump) {
+        Objects.requireNonNull(context, "context");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " <= 0");
+        }
+        Objects.requireNonNull(dump, "dump");
+
+        return new TracingParserContext(
+            context,
+            capacity,
+            dump
+        );
+    }
+
+    /**
+     * Returns the {@link TracingParserContext} that is the given {@link ParserContext} or any context it delegates to
+     * with {@link ParserContextDelegator#parserContext()}, or null.
+     */
+    static TracingParserContext find(final ParserContext context) {
+        ParserContext delegate = context;
+        while (delegate instanceof ParserContextDelegator) {
+            if (delegate instanceof TracingParserContext) {
+                break;
+            }
+            delegate = ((ParserContextDelegator) delegate).parserContext();
+        }
+        return delegate instanceof TracingParserContext ?
+            (TracingParserContext) delegate :
+            null;
+    }
+
+    private TracingParserContext(final ParserContext context,
+                                 final int capacity,
+                                 final Consumer<String> dump) {
+        super();
+        this.context = context;
+        this.dump = dump;
+
+        this.labels = Cast.to(new List[capacity]);
+        this.ids = new int[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.outcomes = new byte[capacity];
+    }
+
+    /**
+     * Records a completed attempt, overwriting the oldest attempt when the buffer is full. The labels are shared by
+     * all parsers of a graph, with the id being the index of the label of the parser.
+     */
+    void record(final List<String> labels,
+                final int id,
+                final int start,
+                final int end,
+                final byte outcome) {
+        final int next = this.next;
+
+        this.labels[next] = labels;
+        this.ids[next] = id;
+        this.starts[next] = start;
+        this.ends[next] = end;
+        this.outcomes[next] = outcome;
+
+        this.next = next + 1 == this.ids.length ?
+            0 :
+            next + 1;
+        this.count++;
+    }
+
+    /**
+     * Passes the current {@link #trace()} to the dump {@link Consumer}.
+     */
+    void dump() {
+        this.dump.accept(
+            this.trace()
+        );
+    }
+
+    /**
+     * Formats the recorded attempts, oldest first, with one attempt per line.
+     * <pre>
+     * Last 3 of 3 attempts
+     * 0..2 success [0-9]{1,10}
+     * 2..2 failure ";"
+     * 2..2 failure ","
+     * </pre>
+     */
+    String trace() {
+        final int capacity = this.ids.length;
+        final long count = this.count;
+        final int size = (int) Math.min(
+            count,
+            capacity
+        );
+
+        final StringBuilder b = new StringBuilder();
+        b.append("Last ")
+            .append(size)
+            .append(" of ")
+            .append(count)
+            .append(" attempts");
+
+        int i = count > capacity ?
+            this.next :
+            0;
+        for (int j = 0; j < size; j++) {
+            b.append('\n')
+                .append(this.starts[i])
+                .append("..")
+                .append(this.ends[i])
+                .append(' ')
+                .append(OUTCOMES[this.outcomes[i]])
+                .append(' ')
+                .append(
+                    this.labels[i].get(
+                        this.ids[i]
+                    )
+                );
+
+            i++;
+            if (capacity == i) {
+                i = 0;
+            }
+        }
+
+        return b.toString();
+    }
+
+    private final List<String>[] labels;
+
+    private final int[] ids;
+
+    private final int[] starts;
+
+    private final int[] ends;
+
+    private final byte[] outcomes;
+
+    /**
+     * The index of the slot that will be written next.
+     */
+    private int next;
+
+    /**
+     * The total number of attempts recorded, which may be larger than the capacity.
+     */
+    private long count;
+
+    private final Consumer<String> dump;
+
+    // ParserContextDelegator...........................................................................................
+
+    /**
+     * The ring buffer is not synchronized.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public ParserContext parserContext() {
+        return this.context;
+    }
+
+    private final ParserContext context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.context.toString();
+    }
+}
@@ -36,7 +36,7 @@ final class TransformingParser<C extends ParserContext> extends ParserWrapper<C>
         return new TransformingParser<>(
             parser,
             transformer,
-            parser.toString()
+            null // toString built lazily
         );
     }
 
@@ -72,6 +72,17 @@ final class TransformingParser<C extends ParserContext> extends ParserWrapper<C>
         );
     }
 
+    // ParserWrapper....................................................................................................
+
+    @Override
+    TransformingParser<C> replaceParser(final Parser<C> parser) {
+        return new TransformingParser<>(
+            parser,
+            this.transformer,
+            this.toString
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override //
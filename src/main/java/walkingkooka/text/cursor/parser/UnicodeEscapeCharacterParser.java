@@ -39,7 +39,7 @@ final class UnicodeEscapeCharacterParser<C extends ParserContext> extends NonEmp
      * Singleton
      */
     private final static UnicodeEscapeCharacterParser<?> INSTANCE = new UnicodeEscapeCharacterParser<>(
-        "Unicode escape char sequence"
+        null // toString built lazily
     );
 
     private UnicodeEscapeCharacterParser(final String toString) {
@@ -92,6 +92,11 @@ final class UnicodeEscapeCharacterParser<C extends ParserContext> extends NonEmp
 
     // ParserSetToString..........................................................................................................
 
+    @Override
+    String buildToString() {
+        return "Unicode escape char sequence";
+    }
+
     @Override
     UnicodeEscapeCharacterParser<C> replaceToString(final String toString) {
         return new UnicodeEscapeCharacterParser<>(
@@ -27,9 +27,9 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
     /**
      * Package private ctor to limit subclassing.
      */
-    ValueParserToken(final V value, final String text) {
+    ValueParserToken(final V value, final CharSequence text) {
         this.value = value;
-        this.text = text;
+        this.text = ParserTokenTextSlice.with(text);
     }
 
     @Override
@@ -40,14 +40,29 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
     private final V value;
 
     /**
-     * The text matched by the {@link Parser}.
+     * The text matched by the {@link Parser}. Text held as any other {@link CharSequence} is flattened on first
+     * access and cached by its holder.
      */
     @Override
     public final String text() {
+        final CharSequence text = this.text;
+        return text instanceof String ?
+            (String) text :
+            text.toString();
+    }
+
+    /**
+     * Returns the text without flattening it, for use by {@link ParserTokenText}.
+     */
+    final CharSequence textCharSequence() {
         return this.text;
     }
 
-    private final String text;
+    /**
+     * Either a {@link String}, a {@link ParserTokenText} or a {@link ParserTokenTextSlice}, all of which build their
+     * {@link String} once, keeping this field final.
+     */
+    private final CharSequence text;
 
     @Override
     public final boolean isLeaf() {
@@ -71,7 +86,7 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
 
     @Override
     public final int hashCode() {
-        return this.text.hashCode();
+        return this.text().hashCode();
     }
 
     @Override
@@ -86,7 +101,7 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
 
     private boolean equals0(final ValueParserToken<?> other) {
         return this.value.equals(other.value) &&
-            this.text.equals(other.text);
+            this.text().equals(other.text());
     }
 
     @Override
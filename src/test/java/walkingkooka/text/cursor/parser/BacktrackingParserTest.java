@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.text.CaseSensitivity;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BacktrackingParserTest extends ParserWrapperTestCase<BacktrackingParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<BacktrackingParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    private final static ParserBacktracking<ParserContext> BACKTRACKING = Parsers.backtracking(WRAPPED);
+
+    @Test
+    public void testWithNullBacktrackingFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BacktrackingParser.with(
+                WRAPPED,
+                null
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(WRAPPED);
+
+        this.parseAndCheck(
+            BacktrackingParser.with(
+                WRAPPED,
+                backtracking
+            ),
+            STRING + "!",
+            ParserTokens.string(STRING, STRING),
+            STRING,
+            "!"
+        );
+
+        this.checkEquals(
+            (long) STRING.length(),
+            backtracking.consumed(),
+            "consumed"
+        );
+        this.checkEquals(
+            (long) STRING.length(),
+            backtracking.examined(),
+            "examined"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(WRAPPED);
+
+        this.parseFailAndCheck(
+            BacktrackingParser.with(
+                WRAPPED,
+                backtracking
+            ),
+            "abX"
+        );
+
+        this.checkEquals(
+            1L,
+            backtracking.restores(),
+            "restores"
+        );
+        this.checkEquals(
+            2L,
+            backtracking.restored(),
+            "restored"
+        );
+    }
+
+    @Override
+    BacktrackingParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return BacktrackingParser.with(
+            parser,
+            BACKTRACKING
+        );
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            BacktrackingParser.with(
+                Parsers.fake(),
+                BACKTRACKING
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentBacktracking() {
+        this.checkNotEquals(
+            BacktrackingParser.with(
+                WRAPPED,
+                Parsers.backtracking(WRAPPED)
+            )
+        );
+    }
+
+    @Override
+    public BacktrackingParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            WRAPPED.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BacktrackingParser<ParserContext>> type() {
+        return Cast.to(BacktrackingParser.class);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BacktrackingTextCursorTest implements ClassTesting<BacktrackingTextCursor>,
+    ToStringTesting<BacktrackingTextCursor> {
+
+    private final static String TEXT = "abcde";
+
+    @Test
+    public void testWithNullCursorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BacktrackingTextCursor.with(null)
+        );
+    }
+
+    @Test
+    public void testNextWithoutActive() {
+        final BacktrackingTextCursor cursor = this.createCursor();
+        cursor.next();
+
+        this.checkEquals(
+            1,
+            cursor.position,
+            "position"
+        );
+        this.checkEquals(
+            'b',
+            cursor.at(),
+            "at"
+        );
+    }
+
+    @Test
+    public void testNextAndRestore() {
+        final ParserBacktracking<ParserContext> backtracking = backtracking();
+
+        final BacktrackingTextCursor cursor = this.createCursor();
+        cursor.active = backtracking;
+
+        cursor.next();
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(
+            "bc",
+            save.textBetween()
+                .toString(),
+            "textBetween"
+        );
+
+        save.restore();
+
+        this.checkEquals(
+            1,
+            cursor.position,
+            "position"
+        );
+        this.checkEquals(
+            'b',
+            cursor.at(),
+            "at"
+        );
+        this.checkEquals(
+            3L,
+            backtracking.examined(),
+            "examined"
+        );
+        this.checkEquals(
+            1L,
+            backtracking.restores(),
+            "restores"
+        );
+        this.checkEquals(
+            2L,
+            backtracking.restored(),
+            "restored"
+        );
+    }
+
+    @Test
+    public void testRestoreWithoutMoving() {
+        final ParserBacktracking<ParserContext> backtracking = backtracking();
+
+        final BacktrackingTextCursor cursor = this.createCursor();
+        cursor.active = backtracking;
+
+        cursor.save()
+            .restore();
+
+        this.checkEquals(
+            0L,
+            backtracking.restores(),
+            "restores"
+        );
+    }
+
+    @Test
+    public void testEnd() {
+        final ParserBacktracking<ParserContext> backtracking = backtracking();
+
+        final BacktrackingTextCursor cursor = this.createCursor();
+        cursor.active = backtracking;
+
+        cursor.next();
+        cursor.end();
+
+        this.checkEquals(
+            true,
+            cursor.isEmpty(),
+            "isEmpty"
+        );
+        this.checkEquals(
+            TEXT.length(),
+            cursor.position,
+            "position"
+        );
+        this.checkEquals(
+            (long) TEXT.length(),
+            backtracking.examined(),
+            "examined"
+        );
+    }
+
+    private BacktrackingTextCursor createCursor() {
+        return BacktrackingTextCursor.with(
+            TextCursors.charSequence(TEXT)
+        );
+    }
+
+    private static ParserBacktracking<ParserContext> backtracking() {
+        return Parsers.backtracking(
+            Parsers.string(
+                TEXT,
+                CaseSensitivity.SENSITIVE
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final TextCursor cursor = TextCursors.charSequence(TEXT);
+
+        this.toStringAndCheck(
+            BacktrackingTextCursor.with(cursor),
+            cursor.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<BacktrackingTextCursor> type() {
+        return BacktrackingTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
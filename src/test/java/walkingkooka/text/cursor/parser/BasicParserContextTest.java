@@ -113,6 +113,15 @@ public final class BasicParserContextTest implements ClassTesting2<BasicParserCo
         );
     }
 
+    @Test
+    public void testIsThreadSafe() {
+        this.checkEquals(
+            true,
+            this.createContext()
+                .isThreadSafe()
+        );
+    }
+
     @Test
     public void testLocale() {
         this.localeAndCheck(
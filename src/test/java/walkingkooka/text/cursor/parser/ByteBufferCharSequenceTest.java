@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ByteBufferCharSequenceTest implements ClassTesting<ByteBufferCharSequence>,
+    ToStringTesting<ByteBufferCharSequence> {
+
+    // ascii, latin, 3 byte and 4 byte (surrogate pair) characters
+    private final static String TEXT = "a\u00e9\u20ac\ud83d\ude00z";
+
+    @Test
+    public void testWithNullBufferFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ByteBufferCharSequence.with(null)
+        );
+    }
+
+    @Test
+    public void testLength() {
+        this.checkEquals(
+            TEXT.length(),
+            this.createCharSequence()
+                .length()
+        );
+    }
+
+    @Test
+    public void testLengthEmpty() {
+        this.checkEquals(
+            0,
+            ByteBufferCharSequence.with(buffer(""))
+                .length()
+        );
+    }
+
+    @Test
+    public void testBufferPosition() {
+        final ByteBuffer buffer = buffer("\u00e9!" + TEXT);
+        buffer.position(3);
+
+        this.checkEquals(
+            TEXT,
+            ByteBufferCharSequence.with(buffer)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testCharAt() {
+        this.charAtAndCheck(TEXT);
+    }
+
+    @Test
+    public void testCharAtBackwards() {
+        final ByteBufferCharSequence chars = this.createCharSequence();
+
+        for (int i = TEXT.length() - 1; i >= 0; i--) {
+            this.checkEquals(
+                TEXT.charAt(i),
+                chars.charAt(i),
+                "charAt " + i
+            );
+        }
+    }
+
+    @Test
+    public void testCharAtManyCheckpoints() {
+        final StringBuilder b = new StringBuilder();
+        while (b.length() < ByteBufferCharSequence.CHECKPOINT * 3) {
+            b.append(TEXT);
+        }
+
+        final String text = b.toString();
+        final ByteBufferCharSequence chars = ByteBufferCharSequence.with(buffer(text));
+
+        // jump around so checkpoints are used rather than the last code point
+        for (int i = text.length() - 1; i >= 0; i -= ByteBufferCharSequence.CHECKPOINT - 1) {
+            this.checkEquals(
+                text.charAt(i),
+                chars.charAt(i),
+                "charAt " + i
+            );
+        }
+
+        this.checkEquals(
+            text,
+            chars.toString()
+        );
+    }
+
+    @Test
+    public void testCharAtMalformed() {
+        this.checkEquals(
+            "a" + ByteBufferCharSequence.REPLACEMENT + ByteBufferCharSequence.REPLACEMENT + "b",
+            ByteBufferCharSequence.with(
+                ByteBuffer.wrap(
+                    new byte[]{'a', (byte) 0xe2, (byte) 0x82, 'b'}
+                )
+            ).toString()
+        );
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> this.createCharSequence()
+                .charAt(TEXT.length())
+        );
+    }
+
+    private void charAtAndCheck(final String text) {
+        final ByteBufferCharSequence chars = ByteBufferCharSequence.with(buffer(text));
+
+        for (int i = 0; i < text.length(); i++) {
+            this.checkEquals(
+                text.charAt(i),
+                chars.charAt(i),
+                "charAt " + i
+            );
+        }
+    }
+
+    @Test
+    public void testSubSequence() {
+        final CharSequence sub = this.createCharSequence()
+            .subSequence(1, 5);
+
+        this.checkEquals(ByteBufferCharSequence.class, sub.getClass(), "class");
+        this.checkEquals(TEXT.substring(1, 5), sub.toString());
+    }
+
+    @Test
+    public void testSubSequenceSubSequence() {
+        this.checkEquals(
+            TEXT.substring(2, 4),
+            this.createCharSequence()
+                .subSequence(1, 5)
+                .subSequence(1, 3)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testSubSequenceAll() {
+        final ByteBufferCharSequence chars = this.createCharSequence();
+
+        assertSame(
+            chars,
+            chars.subSequence(0, TEXT.length())
+        );
+    }
+
+    @Test
+    public void testSubSequenceInvalidFails() {
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> this.createCharSequence()
+                .subSequence(2, 1)
+        );
+    }
+
+    @Test
+    public void testParse() {
+        final String text = "\u00e9t\u00e9123";
+
+        this.checkEquals(
+            Optional.of(
+                ParserTokens.repeated(
+                    Lists.of(
+                        ParserTokens.string("\u00e9t\u00e9", "\u00e9t\u00e9"),
+                        ParserTokens.string("123", "123")
+                    ),
+                    text
+                )
+            ),
+            Parsers.charPredicateString(CharPredicates.letter(), 1, 10)
+                .or(Parsers.charPredicateString(CharPredicates.digit(), 1, 10))
+                .repeating()
+                .parse(
+                    ParserByteBuffers.utf8TextCursor(buffer(text)),
+                    ParserContexts.fake()
+                )
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createCharSequence(),
+            TEXT
+        );
+    }
+
+    private ByteBufferCharSequence createCharSequence() {
+        return ByteBufferCharSequence.with(
+            buffer(TEXT)
+        );
+    }
+
+    private static ByteBuffer buffer(final String text) {
+        return ByteBuffer.wrap(
+            text.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ByteBufferCharSequence> type() {
+        return ByteBufferCharSequence.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CountingTextCursorTest implements ClassTesting<CountingTextCursor>,
+    ToStringTesting<CountingTextCursor> {
+
+    private final static String TEXT = "abcde";
+
+    @Test
+    public void testWithNullCursorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CountingTextCursor.with(null)
+        );
+    }
+
+    @Test
+    public void testWithStartsAtTextOffset() {
+        final TextCursor wrapped = TextCursors.charSequence(TEXT);
+        wrapped.next();
+        wrapped.next();
+
+        this.checkEquals(
+            2,
+            CountingTextCursor.with(wrapped).position(),
+            "position"
+        );
+    }
+
+    @Test
+    public void testWithCountingTextCursor() {
+        final CountingTextCursor cursor = this.createCursor();
+
+        assertSame(
+            cursor,
+            CountingTextCursor.with(cursor)
+        );
+    }
+
+    @Test
+    public void testWithWrappedCountingTextCursor() {
+        final CountingTextCursor inner = this.createCursor();
+        final FurthestFailureTextCursor furthestFailure = FurthestFailureTextCursor.with(inner);
+
+        final CountingTextCursor cursor = CountingTextCursor.with(furthestFailure);
+        assertSame(
+            furthestFailure,
+            cursor.wrappedTextCursor(),
+            "outer wrapper kept"
+        );
+
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(
+            2,
+            cursor.position(),
+            "position"
+        );
+        this.checkEquals(
+            2,
+            inner.position(),
+            "inner position"
+        );
+    }
+
+    @Test
+    public void testWithWrappedCountingTextCursorSaveRestoreEnd() {
+        final CountingTextCursor inner = this.createCursor();
+        final CountingTextCursor cursor = CountingTextCursor.with(
+            FurthestFailureTextCursor.with(inner)
+        );
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+
+        this.checkEquals(
+            TEXT.length(),
+            cursor.position(),
+            "position after end"
+        );
+
+        save.restore();
+
+        this.checkEquals(
+            1,
+            cursor.position(),
+            "position after restore"
+        );
+    }
+
+    @Test
+    public void testNext() {
+        final CountingTextCursor cursor = this.createCursor();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(
+            2,
+            cursor.position(),
+            "position"
+        );
+        this.checkEquals(
+            'c',
+            cursor.at(),
+            "at"
+        );
+    }
+
+    @Test
+    public void testSaveRestore() {
+        final CountingTextCursor cursor = this.createCursor();
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(
+            "bc",
+            save.textBetween()
+                .toString(),
+            "textBetween"
+        );
+
+        save.restore();
+
+        this.checkEquals(
+            1,
+            cursor.position(),
+            "position"
+        );
+        this.checkEquals(
+            'b',
+            cursor.at(),
+            "at"
+        );
+    }
+
+    @Test
+    public void testEnd() {
+        final CountingTextCursor cursor = this.createCursor();
+        cursor.next();
+        cursor.end();
+
+        this.checkEquals(
+            TEXT.length(),
+            cursor.position(),
+            "position"
+        );
+        this.checkEquals(
+            true,
+            cursor.isEmpty(),
+            "isEmpty"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final TextCursor wrapped = TextCursors.charSequence(TEXT);
+
+        this.toStringAndCheck(
+            CountingTextCursor.with(wrapped),
+            wrapped.toString()
+        );
+    }
+
+    private CountingTextCursor createCursor() {
+        return CountingTextCursor.with(
+            TextCursors.charSequence(TEXT)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CountingTextCursor> type() {
+        return CountingTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
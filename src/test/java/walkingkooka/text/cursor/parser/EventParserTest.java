@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class EventParserTest extends ParserWrapperTestCase<EventParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<EventParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    private final static int DEPTH = 1;
+    private final static long THRESHOLD = 0;
+    private final static Consumer<ParserEvent> EVENTS = (e) -> {
+    };
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> SEPARATOR = SEMI_COLON.or(COMMA);
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            SEPARATOR
+        )
+    );
+
+    // events...........................................................................................................
+
+    @Test
+    public void testEventsNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.events(
+                null,
+                THRESHOLD,
+                EVENTS
+            )
+        );
+    }
+
+    @Test
+    public void testEventsNegativeThresholdFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Parsers.events(
+                ELEMENT,
+                -1,
+                EVENTS
+            )
+        );
+    }
+
+    @Test
+    public void testEventsNullEventsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.events(
+                ELEMENT,
+                THRESHOLD,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testEventsToString() {
+        this.checkEquals(
+            ELEMENT.toString(),
+            Parsers.events(
+                ELEMENT,
+                THRESHOLD,
+                EVENTS
+            ).toString()
+        );
+    }
+
+    @Test
+    public void testEventsRootOnlyAboveThreshold() {
+        this.eventsAndCheck(
+            Long.MAX_VALUE,
+            "12;",
+            ELEMENT + " 0 0 3 true"
+        );
+    }
+
+    @Test
+    public void testEventsAll() {
+        this.eventsAndCheck(
+            0,
+            "12;",
+            DIGITS + " 1 0 2 true",
+            SEMI_COLON + " 2 2 1 true",
+            SEPARATOR + " 1 2 1 true",
+            ELEMENT + " 0 0 3 true"
+        );
+    }
+
+    @Test
+    public void testEventsFailure() {
+        this.eventsAndCheck(
+            0,
+            "12!",
+            DIGITS + " 1 0 2 true",
+            SEMI_COLON + " 2 2 0 false",
+            COMMA + " 2 2 0 false",
+            SEPARATOR + " 1 2 0 false",
+            ELEMENT + " 0 0 0 false"
+        );
+    }
+
+    @Test
+    public void testEventsOffsetAfterStart() {
+        final TextCursor cursor = TextCursors.charSequence("!12;");
+        cursor.next();
+
+        this.eventsAndCheck(
+            0,
+            cursor,
+            DIGITS + " 1 1 2 true",
+            SEMI_COLON + " 2 3 1 true",
+            SEPARATOR + " 1 3 1 true",
+            ELEMENT + " 0 1 3 true"
+        );
+    }
+
+    private void eventsAndCheck(final long threshold,
+                                final String text,
+                                final String... expected) {
+        this.eventsAndCheck(
+            threshold,
+            TextCursors.charSequence(text),
+            expected
+        );
+    }
+
+    private void eventsAndCheck(final long threshold,
+                                final TextCursor cursor,
+                                final String... expected) {
+        final List<String> events = Lists.array();
+
+        Parsers.events(
+            ELEMENT,
+            threshold,
+            (e) -> events.add(
+                e.label() +
+                    " " +
+                    e.depth() +
+                    " " +
+                    e.offset() +
+                    " " +
+                    e.length() +
+                    " " +
+                    e.isSuccess()
+            )
+        ).parse(
+            cursor,
+            this.createContext()
+        );
+
+        this.checkEquals(
+            Lists.of(expected),
+            events
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+            STRING + "!",
+            ParserTokens.string(STRING, STRING),
+            STRING,
+            "!"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("xyz");
+    }
+
+    @Override
+    EventParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return EventParser.with(
+            parser,
+            DEPTH,
+            THRESHOLD,
+            EVENTS
+        );
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            EventParser.with(
+                Parsers.fake(),
+                DEPTH,
+                THRESHOLD,
+                EVENTS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentDepth() {
+        this.checkNotEquals(
+            EventParser.with(
+                WRAPPED,
+                DEPTH + 1,
+                THRESHOLD,
+                EVENTS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentThreshold() {
+        this.checkNotEquals(
+            EventParser.with(
+                WRAPPED,
+                DEPTH,
+                THRESHOLD + 1,
+                EVENTS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentEvents() {
+        this.checkNotEquals(
+            EventParser.with(
+                WRAPPED,
+                DEPTH,
+                THRESHOLD,
+                (e) -> {
+                }
+            )
+        );
+    }
+
+    @Override
+    public EventParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            WRAPPED.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<EventParser<ParserContext>> type() {
+        return Cast.to(EventParser.class);
+    }
+}
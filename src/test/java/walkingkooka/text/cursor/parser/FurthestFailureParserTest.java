@@ -0,0 +1,356 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FurthestFailureParserTest extends ParserWrapperTestCase<FurthestFailureParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<FurthestFailureParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    private final static int ID = 0;
+    private final static List<String> LABELS = Lists.of(STRING);
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            SEMI_COLON.or(COMMA)
+        )
+    );
+
+    // furthestFailure..................................................................................................
+
+    @Test
+    public void testFurthestFailureNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.furthestFailure(null)
+        );
+    }
+
+    @Test
+    public void testFurthestFailureToString() {
+        this.checkEquals(
+            ELEMENT.toString(),
+            Parsers.furthestFailure(ELEMENT)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureSuccess() {
+        this.checkEquals(
+            ELEMENT.parse(
+                TextCursors.charSequence("12;"),
+                this.createContext()
+            ),
+            Parsers.furthestFailure(ELEMENT)
+                .parse(
+                    TextCursors.charSequence("12;"),
+                    this.createContext()
+                )
+        );
+    }
+
+    @Test
+    public void testFurthestFailureExpected() {
+        this.furthestFailureAndCheck(
+            "12!",
+            2,
+            SEMI_COLON + ", " + COMMA
+        );
+    }
+
+    @Test
+    public void testFurthestFailureFirstLeaf() {
+        this.furthestFailureAndCheck(
+            "!",
+            0,
+            DIGITS.toString()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureSingleLeaf() {
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.furthestFailure(
+                SEMI_COLON.orFailIfCursorNotEmpty(ParserReporters.basic())
+            ).parse(
+                TextCursors.charSequence("!"),
+                this.createExpectedContext()
+            )
+        );
+
+        this.checkEquals(
+            new InvalidCharacterException(
+                "!",
+                0
+            ).appendToMessage("expected " + SEMI_COLON)
+                .getMessage(),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureProfiled() {
+        final String text = "12!";
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.profiling(
+                Parsers.furthestFailure(
+                    ELEMENT.orFailIfCursorNotEmpty(ParserReporters.basic())
+                )
+            ).parser()
+                .parse(
+                    TextCursors.charSequence(text),
+                    this.createExpectedContext()
+                )
+        );
+
+        this.checkEquals(
+            new InvalidCharacterException(
+                text,
+                2
+            ).appendToMessage("expected " + SEMI_COLON + ", " + COMMA)
+                .getMessage(),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureProfiledInsideAndOutside() {
+        final String text = "12!";
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.profiling(
+                Parsers.furthestFailure(
+                    Parsers.profiling(ELEMENT)
+                        .parser()
+                        .orFailIfCursorNotEmpty(ParserReporters.basic())
+                )
+            ).parser()
+                .parse(
+                    TextCursors.charSequence(text),
+                    this.createExpectedContext()
+                )
+        );
+
+        this.checkEquals(
+            new InvalidCharacterException(
+                text,
+                2
+            ).appendToMessage("expected " + SEMI_COLON + ", " + COMMA)
+                .getMessage(),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureParseText() {
+        final String text = "12!";
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.furthestFailure(ELEMENT)
+                .parseText(
+                    text,
+                    this.createExpectedContext()
+                )
+        );
+
+        this.checkEquals(
+            new InvalidCharacterException(
+                text,
+                2
+            ).appendToMessage("expected " + SEMI_COLON + ", " + COMMA)
+                .getMessage(),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testFurthestFailureParseTextSuccess() {
+        this.checkEquals(
+            ELEMENT.parseText(
+                "12;",
+                this.createExpectedContext()
+            ),
+            Parsers.furthestFailure(ELEMENT)
+                .parseText(
+                    "12;",
+                    this.createExpectedContext()
+                )
+        );
+    }
+
+    private void furthestFailureAndCheck(final String text,
+                                         final int position,
+                                         final String expected) {
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.furthestFailure(
+                ELEMENT.orFailIfCursorNotEmpty(ParserReporters.basic())
+            ).parse(
+                TextCursors.charSequence(text),
+                this.createExpectedContext()
+            )
+        );
+
+        this.checkEquals(
+            new InvalidCharacterException(
+                text,
+                position
+            ).appendToMessage("expected " + expected)
+                .getMessage(),
+            thrown.getMessage()
+        );
+    }
+
+    private ParserContext createExpectedContext() {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION_EXPECTED,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+            STRING + "!",
+            ParserTokens.string(STRING, STRING),
+            STRING,
+            "!"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("xyz");
+    }
+
+    @Override
+    FurthestFailureParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return FurthestFailureParser.with(
+            parser,
+            ID,
+            LABELS
+        );
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            FurthestFailureParser.with(
+                Parsers.fake(),
+                ID,
+                LABELS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentId() {
+        this.checkNotEquals(
+            FurthestFailureParser.with(
+                WRAPPED,
+                FurthestFailureParser.NO_ID,
+                LABELS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLabels() {
+        this.checkNotEquals(
+            FurthestFailureParser.with(
+                WRAPPED,
+                ID,
+                Lists.of("different")
+            )
+        );
+    }
+
+    @Override
+    public FurthestFailureParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            WRAPPED.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<FurthestFailureParser<ParserContext>> type() {
+        return Cast.to(FurthestFailureParser.class);
+    }
+}
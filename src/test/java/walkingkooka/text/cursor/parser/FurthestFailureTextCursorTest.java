@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FurthestFailureTextCursorTest implements ClassTesting<FurthestFailureTextCursor> {
+
+    private final static List<String> LABELS = Lists.of(
+        "A",
+        "B",
+        "C"
+    );
+
+    @Test
+    public void testWithNullCursorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> FurthestFailureTextCursor.with(null)
+        );
+    }
+
+    @Test
+    public void testFindFurthestFailureTextCursor() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+
+        assertSame(
+            cursor,
+            FurthestFailureTextCursor.find(cursor)
+        );
+    }
+
+    @Test
+    public void testFindWrapped() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+
+        assertSame(
+            cursor,
+            FurthestFailureTextCursor.find(
+                CountingTextCursor.with(cursor)
+            )
+        );
+    }
+
+    @Test
+    public void testFindMissing() {
+        this.checkEquals(
+            null,
+            FurthestFailureTextCursor.find(
+                CountingTextCursor.with(
+                    TextCursors.charSequence("abc")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testNoFailures() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+
+        this.checkEquals(
+            FurthestFailureTextCursor.NONE,
+            cursor.furthest(),
+            "furthest"
+        );
+        this.checkEquals(
+            "",
+            cursor.expected(),
+            "expected"
+        );
+    }
+
+    @Test
+    public void testNextAndEnd() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+
+        cursor.next();
+        this.checkEquals(
+            'b',
+            cursor.at()
+        );
+
+        cursor.end();
+        this.checkEquals(
+            true,
+            cursor.isEmpty()
+        );
+    }
+
+    @Test
+    public void testFailedSameOffset() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+        cursor.next();
+
+        cursor.failed(LABELS, 2);
+        cursor.failed(LABELS, 0);
+
+        this.failedAndCheck(
+            cursor,
+            1,
+            "C, A"
+        );
+    }
+
+    @Test
+    public void testFailedSameParserTwice() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+
+        cursor.failed(LABELS, 1);
+        cursor.failed(LABELS, 1);
+
+        this.failedAndCheck(
+            cursor,
+            0,
+            "B"
+        );
+    }
+
+    @Test
+    public void testFailedFurtherDiscardsPrevious() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+        final TextCursorSavePoint save = cursor.save();
+
+        cursor.failed(LABELS, 0);
+        cursor.next()
+            .next();
+        cursor.failed(LABELS, 1);
+        cursor.failed(LABELS, 2);
+
+        save.restore();
+        cursor.failed(LABELS, 0);
+
+        this.failedAndCheck(
+            cursor,
+            2,
+            "B, C"
+        );
+    }
+
+    @Test
+    public void testFailedMany() {
+        final FurthestFailureTextCursor cursor = this.createCursor();
+        final List<String> labels = Lists.of(
+            "1",
+            "2",
+            "3",
+            "4",
+            "5",
+            "6"
+        );
+
+        for (int i = 0; i < labels.size(); i++) {
+            cursor.failed(labels, i);
+        }
+
+        this.failedAndCheck(
+            cursor,
+            0,
+            "1, 2, 3, 4, 5, 6"
+        );
+    }
+
+    private void failedAndCheck(final FurthestFailureTextCursor cursor,
+                                final int furthest,
+                                final String expected) {
+        this.checkEquals(
+            furthest,
+            cursor.furthest(),
+            "furthest"
+        );
+        this.checkEquals(
+            expected,
+            cursor.expected(),
+            "expected"
+        );
+    }
+
+    private FurthestFailureTextCursor createCursor() {
+        return FurthestFailureTextCursor.with(
+            TextCursors.charSequence("abc")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final TextCursor cursor = TextCursors.charSequence("abc");
+
+        this.checkEquals(
+            cursor.toString(),
+            FurthestFailureTextCursor.with(cursor)
+                .toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<FurthestFailureTextCursor> type() {
+        return FurthestFailureTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class InterningParserTest extends ParserWrapperTestCase<InterningParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<InterningParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.INSENSITIVE);
+
+    @Test
+    public void testWithInterningParserSame() {
+        final InterningParser<ParserContext> parser = this.createParser();
+
+        assertSame(
+            parser,
+            InterningParser.with(parser)
+        );
+    }
+
+    @Test
+    public void testInternSame() {
+        final InterningParser<ParserContext> parser = this.createParser();
+
+        assertSame(
+            parser,
+            parser.intern()
+        );
+    }
+
+    @Test
+    public void testInternDefaultMethod() {
+        final Parser<ParserContext> parser = WRAPPED.intern();
+
+        this.checkEquals(
+            InterningParser.class,
+            parser.getClass(),
+            () -> "" + parser
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+            STRING,
+            ParserTokens.string(STRING, STRING),
+            STRING
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("xyz");
+    }
+
+    @Test
+    public void testParseSameTokenShared() {
+        final InterningParser<ParserContext> parser = this.createParser();
+        final ParserContext context = this.createContext();
+
+        final ParserToken first = parser.parse(
+            TextCursors.charSequence(STRING),
+            context
+        ).get();
+        final ParserToken second = parser.parse(
+            TextCursors.charSequence(STRING),
+            context
+        ).get();
+
+        assertSame(
+            first,
+            second
+        );
+    }
+
+    @Test
+    public void testParseDifferentTextNotShared() {
+        final InterningParser<ParserContext> parser = this.createParser();
+        final ParserContext context = this.createContext();
+
+        final ParserToken first = parser.parse(
+            TextCursors.charSequence(STRING),
+            context
+        ).get();
+        final ParserToken second = parser.parse(
+            TextCursors.charSequence("ABC"),
+            context
+        ).get();
+
+        assertNotSame(
+            first,
+            second
+        );
+        this.checkEquals(
+            ParserTokens.string("ABC", "ABC"),
+            second
+        );
+    }
+
+    @Test
+    public void testParseCharacterSharedAcrossParsers() {
+        final ParserContext context = this.createContext();
+
+        final ParserToken first = InterningParser.with(Parsers.character(CharPredicates.is('+')))
+            .parse(
+                TextCursors.charSequence("+"),
+                context
+            ).get();
+        final ParserToken second = InterningParser.with(Parsers.character(CharPredicates.is('+')))
+            .parse(
+                TextCursors.charSequence("+"),
+                context
+            ).get();
+
+        assertSame(
+            first,
+            second
+        );
+    }
+
+    @Test
+    public void testTreeInterningParserSame() {
+        final InterningParser<ParserContext> parser = this.createParser();
+
+        assertSame(
+            parser,
+            InterningParser.tree(parser)
+        );
+    }
+
+    @Test
+    public void testParseSequenceLeavesShared() {
+        final Parser<ParserContext> parser = WRAPPED.and(WRAPPED)
+            .intern();
+
+        final ParserToken token = parser.parse(
+            TextCursors.charSequence(STRING + STRING),
+            this.createContext()
+        ).get();
+        final List<ParserToken> children = token.children();
+
+        this.checkEquals(
+            2,
+            children.size(),
+            () -> "" + token
+        );
+        assertSame(
+            children.get(0),
+            children.get(1)
+        );
+    }
+
+    @Test
+    public void testParseRepeatingLeavesShared() {
+        final Parser<ParserContext> parser = WRAPPED.repeating()
+            .intern();
+        final ParserContext context = this.createContext();
+
+        final ParserToken first = parser.parse(
+            TextCursors.charSequence(STRING + STRING + STRING),
+            context
+        ).get();
+        final ParserToken second = parser.parse(
+            TextCursors.charSequence(STRING),
+            context
+        ).get();
+
+        final List<ParserToken> children = first.children();
+        this.checkEquals(
+            3,
+            children.size(),
+            () -> "" + first
+        );
+
+        for (final ParserToken child : children) {
+            assertSame(
+                second.children().get(0),
+                child
+            );
+        }
+    }
+
+    @Test
+    public void testInternParentNotInterned() {
+        final ParserToken parent = ParserTokens.sequence(
+            Lists.of(
+                ParserTokens.string(STRING, STRING),
+                ParserTokens.string(STRING, STRING)
+            ),
+            STRING + STRING
+        );
+
+        assertSame(
+            parent,
+            this.createParser()
+                .intern(parent)
+        );
+    }
+
+    @Test
+    public void testInternSignShared() {
+        final InterningParser<ParserContext> parser = this.createParser();
+
+        final ParserToken first = parser.intern(ParserTokens.sign(true, "-"));
+
+        assertSame(
+            first,
+            parser.intern(ParserTokens.sign(true, "-"))
+        );
+    }
+
+    @Test
+    public void testInternPoolBounded() {
+        final InterningParser<ParserContext> parser = this.createParser();
+
+        for (int i = 0; i < InterningParser.POOL_MAX_SIZE; i++) {
+            final String text = "" + i;
+            parser.intern(ParserTokens.string(text, text));
+        }
+
+        final String text = "overflow";
+        final ParserToken token = ParserTokens.string(text, text);
+        assertSame(
+            token,
+            parser.intern(token)
+        );
+        assertNotSame(
+            token,
+            parser.intern(ParserTokens.string(text, text))
+        );
+    }
+
+    @Override
+    InterningParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return InterningParser.with(parser);
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            InterningParser.with(Parsers.fake()),
+            InterningParser.with(Parsers.fake())
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentToString() {
+        this.checkNotEquals(
+            InterningParser.with(WRAPPED),
+            InterningParser.with(WRAPPED).setToString("different")
+        );
+    }
+
+    @Override
+    public InterningParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), WRAPPED.toString());
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<InterningParser<ParserContext>> type() {
+        return Cast.to(InterningParser.class);
+    }
+}
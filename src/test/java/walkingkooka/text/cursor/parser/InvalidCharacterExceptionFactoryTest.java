@@ -19,11 +19,15 @@ package walkingkooka.text.cursor.parser;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 import walkingkooka.text.cursor.TextCursors;
 import walkingkooka.util.BiFunctionTesting;
 
+import java.util.List;
+
 public final class InvalidCharacterExceptionFactoryTest implements BiFunctionTesting<InvalidCharacterExceptionFactory, Parser<?>, TextCursor, InvalidCharacterException> {
 
     @Test
@@ -193,6 +197,252 @@ public final class InvalidCharacterExceptionFactoryTest implements BiFunctionTes
         );
     }
 
+    @Test
+    public void testColumnAndLineApplyLineIndexTextCursor() {
+        final String text = "xyz\nabc\n";
+
+        final TextCursor cursor = ParserTextCursors.lineIndexTextCursor(text);
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.COLUMN_AND_LINE,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                5
+            ).setColumnAndLine(
+                2,
+                2
+            )
+        );
+
+        cursor.next();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.COLUMN_AND_LINE,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                6
+            ).setColumnAndLine(
+                3,
+                2
+            )
+        );
+    }
+
+    @Test
+    public void testPositionApplyWhenFurthestFailureTextCursor() {
+        final String text = "abcdef";
+
+        final FurthestFailureTextCursor cursor = FurthestFailureTextCursor.with(
+            TextCursors.charSequence(text)
+        );
+
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+
+        cursor.next();
+        cursor.next();
+        cursor.failed(
+            Lists.of("PARSER1"),
+            0
+        );
+
+        save.restore();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.POSITION,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                3
+            )
+        );
+    }
+
+    @Test
+    public void testPositionAndExpectedApplyWhenFurthestFailureTextCursor() {
+        final String text = "abcdef";
+
+        final FurthestFailureTextCursor cursor = FurthestFailureTextCursor.with(
+            TextCursors.charSequence(text)
+        );
+
+        final List<String> labels = Lists.of(
+            "PARSER1",
+            "PARSER2"
+        );
+
+        cursor.failed(
+            labels,
+            0
+        );
+        cursor.next();
+        cursor.failed(
+            labels,
+            1
+        );
+        cursor.failed(
+            labels,
+            0
+        );
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.POSITION_EXPECTED,
+            new FakeParser() {
+                @Override
+                public String toString() {
+                    return "PARSER123";
+                }
+            },
+            cursor,
+            new InvalidCharacterException(
+                text,
+                1
+            ).appendToMessage("expected PARSER2, PARSER1")
+        );
+    }
+
+    @Test
+    public void testColumnAndLineApplyWhenFurthestFailureTextCursorAfterCursor() {
+        final String text = "abc\ndef\n";
+
+        final FurthestFailureTextCursor cursor = FurthestFailureTextCursor.with(
+            TextCursors.charSequence(text)
+        );
+
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.failed(
+            Lists.of("PARSER1"),
+            0
+        );
+
+        save.restore();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.COLUMN_AND_LINE,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                6
+            ).setColumnAndLine(
+                3,
+                2
+            )
+        );
+    }
+
+    @Test
+    public void testColumnAndLineApplyWhenFurthestFailureTextCursorAfterCursorMixedLineEndings() {
+        final String text = "a\r\nb\rc\nd\n\re";
+        final int furthest = text.length() - 1;
+
+        final FurthestFailureTextCursor cursor = FurthestFailureTextCursor.with(
+            TextCursors.charSequence(text)
+        );
+
+        final TextCursorSavePoint save = cursor.save();
+        for (int i = 0; i < furthest; i++) {
+            cursor.next();
+        }
+        cursor.failed(
+            Lists.of("PARSER1"),
+            0
+        );
+
+        save.restore();
+
+        // the column and line must be the same as a TextCursor at the furthest failure
+        final TextCursor expected = TextCursors.charSequence(text);
+        for (int i = 0; i < furthest; i++) {
+            expected.next();
+        }
+        final TextCursorLineInfo lineInfo = expected.lineInfo();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.COLUMN_AND_LINE,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                furthest
+            ).setColumnAndLine(
+                lineInfo.column(),
+                lineInfo.lineNumber()
+            )
+        );
+    }
+
+    @Test
+    public void testColumnAndLineApplyWhenMaxTextCursorAfterCursorUsesCursorColumnAndLine() {
+        final String text = "abc\ndef\n";
+
+        final TextCursor cursor = TextCursors.maxPosition(
+            TextCursors.charSequence(text)
+        );
+
+        final TextCursorSavePoint save = cursor.save();
+
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+
+        save.restore();
+
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.COLUMN_AND_LINE,
+            Parsers.fake(),
+            cursor,
+            new InvalidCharacterException(
+                text,
+                5
+            ).setColumnAndLine(
+                1,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testPositionAndExpectedApplyWhenFurthestFailureTextCursorNoFailures() {
+        this.applyAndCheck(
+            InvalidCharacterExceptionFactory.POSITION_EXPECTED,
+            new FakeParser() {
+                @Override
+                public String toString() {
+                    return "PARSER123";
+                }
+            },
+            FurthestFailureTextCursor.with(
+                TextCursors.charSequence("xyz")
+            ),
+            new InvalidCharacterException(
+                "xyz",
+                0
+            ).appendToMessage("expected PARSER123")
+        );
+    }
+
     @Override
     public InvalidCharacterExceptionFactory createBiFunction() {
         return InvalidCharacterExceptionFactory.POSITION;
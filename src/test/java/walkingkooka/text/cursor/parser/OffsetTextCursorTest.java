@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class OffsetTextCursorTest implements ClassTesting<OffsetTextCursor>,
+    ToStringTesting<OffsetTextCursor> {
+
+    private final static String TEXT = "abc\ndef\nghi";
+
+    @Test
+    public void testWithNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> OffsetTextCursor.with(
+                null,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeOffsetFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> OffsetTextCursor.with(
+                TEXT,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testWithOffsetAfterTextFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> OffsetTextCursor.with(
+                TEXT,
+                TEXT.length() + 1
+            )
+        );
+    }
+
+    @Test
+    public void testWithOffsetEndEmpty() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            TEXT.length()
+        );
+
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+        assertThrows(
+            IllegalStateException.class,
+            cursor::at
+        );
+    }
+
+    @Test
+    public void testAtNext() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            4
+        );
+
+        final StringBuilder b = new StringBuilder();
+        while (cursor.isNotEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+        }
+
+        this.checkEquals("def\nghi", b.toString());
+    }
+
+    @Test
+    public void testSaveRestoreTextBetween() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            4
+        );
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals("de", save.textBetween().toString(), "textBetween");
+
+        save.restore();
+        this.checkEquals('d', cursor.at(), "at after restore");
+    }
+
+    @Test
+    public void testEnd() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            8
+        );
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+        this.checkEquals("ghi", save.textBetween().toString(), "textBetween");
+    }
+
+    @Test
+    public void testText() {
+        this.checkEquals(
+            TEXT,
+            OffsetTextCursor.with(
+                TEXT,
+                4
+            ).text()
+        );
+    }
+
+    @Test
+    public void testLineInfoSameAsTextCursor() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            2
+        );
+        final TextCursor expected = TextCursors.charSequence(TEXT);
+        expected.next();
+        expected.next();
+
+        while (cursor.isNotEmpty()) {
+            this.lineInfoAndCheck(
+                cursor,
+                expected
+            );
+
+            cursor.next();
+            expected.next();
+        }
+    }
+
+    @Test
+    public void testLineInfoAfterRestore() {
+        final OffsetTextCursor cursor = OffsetTextCursor.with(
+            TEXT,
+            5
+        );
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+        cursor.lineInfo();
+
+        save.restore();
+
+        final TextCursor expected = TextCursors.charSequence(TEXT);
+        for (int i = 0; i < 5; i++) {
+            expected.next();
+        }
+
+        this.lineInfoAndCheck(
+            cursor,
+            expected
+        );
+    }
+
+    private void lineInfoAndCheck(final TextCursor cursor,
+                                  final TextCursor expected) {
+        final TextCursorLineInfo lineInfo = cursor.lineInfo();
+        final TextCursorLineInfo expectedLineInfo = expected.lineInfo();
+
+        this.checkEquals(
+            expectedLineInfo.textOffset(),
+            lineInfo.textOffset(),
+            "textOffset"
+        );
+        this.checkEquals(
+            expectedLineInfo.lineNumber(),
+            lineInfo.lineNumber(),
+            "lineNumber"
+        );
+        this.checkEquals(
+            expectedLineInfo.column(),
+            lineInfo.column(),
+            "column"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            OffsetTextCursor.with(
+                "abc",
+                1
+            ),
+            "a[bc]"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<OffsetTextCursor> type() {
+        return OffsetTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
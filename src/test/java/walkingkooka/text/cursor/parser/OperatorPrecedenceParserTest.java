@@ -0,0 +1,505 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.cursor.TextCursors;
+import walkingkooka.text.printer.IndentingPrinter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class OperatorPrecedenceParserTest extends NonEmptyParserTestCase<OperatorPrecedenceParser<ParserContext>, ParserToken>
+    implements HashCodeEqualsDefinedTesting2<OperatorPrecedenceParser<ParserContext>> {
+
+    private final static Parser<ParserContext> OPERAND = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> OPERATOR = Parsers.alternatives(
+        Lists.of(
+            Parsers.string("+", CaseSensitivity.SENSITIVE),
+            Parsers.string("-", CaseSensitivity.SENSITIVE),
+            Parsers.string("*", CaseSensitivity.SENSITIVE),
+            Parsers.string("?", CaseSensitivity.SENSITIVE)
+        )
+    );
+
+    private final static BinaryOperatorTransformer TRANSFORMER = new BinaryOperatorTransformer() {
+        @Override
+        public int highestPriority() {
+            return 2;
+        }
+
+        @Override
+        public int lowestPriority() {
+            return 1;
+        }
+
+        @Override
+        public int priority(final ParserToken token) {
+            switch (token.text()) {
+                case "+":
+                case "-":
+                    return 1;
+                case "*":
+                    return 2;
+                default:
+                    return 0;
+            }
+        }
+
+        /**
+         * Binary operators are represented by a {@link RepeatedParserToken} so they are easily told apart from the
+         * original {@link SequenceParserToken}.
+         */
+        @Override
+        public ParserToken binaryOperand(final List<ParserToken> tokens,
+                                         final String text,
+                                         final ParserToken parent) {
+            return ParserTokens.repeated(
+                tokens,
+                text
+            );
+        }
+
+        @Override
+        public ParserToken binaryOperandText(final List<ParserToken> tokens,
+                                             final CharSequence text,
+                                             final ParserToken parent) {
+            return RepeatedParserToken.with(
+                tokens,
+                text
+            );
+        }
+    };
+
+    private final static Parser<ParserContext> WHITESPACE = Parsers.<ParserContext>charPredicateString(
+        CharPredicates.is(' '),
+        1,
+        10
+    ).transform(
+        (t, c) -> whitespace(t.text())
+    );
+
+    private final static Parser<ParserContext> OPERAND_WHITESPACE = WHITESPACE.optional()
+        .and(OPERAND)
+        .and(WHITESPACE.optional());
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullOperandFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> OperatorPrecedenceParser.with(
+                null,
+                OPERATOR,
+                TRANSFORMER
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullOperatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> OperatorPrecedenceParser.with(
+                OPERAND,
+                null,
+                TRANSFORMER
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullTransformerFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> OperatorPrecedenceParser.with(
+                OPERAND,
+                OPERATOR,
+                null
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseOperatorFails() {
+        this.parseFailAndCheck("+");
+    }
+
+    @Test
+    public void testParseOperand() {
+        this.parseAndCheck(
+            "1",
+            string("1"),
+            "1"
+        );
+    }
+
+    @Test
+    public void testParseOperandOperator() {
+        this.parseAndCheck(
+            "1+",
+            string("1"),
+            "1",
+            "+"
+        );
+    }
+
+    @Test
+    public void testParseOperandNonOperator() {
+        this.parseAndCheck(
+            "1?2",
+            string("1"),
+            "1",
+            "?2"
+        );
+    }
+
+    @Test
+    public void testParseOperandOperatorOperand() {
+        this.parseAndCheck(
+            "1+2",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1"),
+                    string("+"),
+                    string("2")
+                ),
+                "1+2"
+            ),
+            "1+2"
+        );
+    }
+
+    @Test
+    public void testParseOperandOperatorOperandOperator() {
+        this.parseAndCheck(
+            "1+2-",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1"),
+                    string("+"),
+                    string("2")
+                ),
+                "1+2"
+            ),
+            "1+2",
+            "-"
+        );
+    }
+
+    @Test
+    public void testParseSamePriorityLeftAssociative() {
+        this.parseAndCheckSameAsBinaryOperator("1+2-3");
+    }
+
+    @Test
+    public void testParseHigherPriorityFirst() {
+        this.parseAndCheckSameAsBinaryOperator("1+2*3");
+    }
+
+    @Test
+    public void testParseHigherPriorityFirst2() {
+        this.parseAndCheckSameAsBinaryOperator("1*2+3");
+    }
+
+    @Test
+    public void testParseMixedPriorities() {
+        this.parseAndCheckSameAsBinaryOperator("1+22*3-4*5*6+7");
+    }
+
+    @Test
+    public void testParseLong() {
+        final StringBuilder b = new StringBuilder();
+        b.append('0');
+
+        for (int i = 1; i < 500; i++) {
+            b.append(0 == i % 3 ? '*' : '+');
+            b.append(i);
+        }
+
+        this.parseAndCheckSameAsBinaryOperator(b.toString());
+    }
+
+    @Test
+    public void testParseLongTextNotCopied() {
+        final StringBuilder b = new StringBuilder();
+        b.append('0');
+
+        for (int i = 1; i < 500; i++) {
+            b.append('+');
+            b.append(i);
+        }
+
+        final ParserToken token = this.createParser()
+            .parse(
+                TextCursors.charSequence(b.toString()),
+                this.createContext()
+            ).get();
+
+        this.checkEquals(
+            true,
+            ((RepeatedParserToken) token).textCharSequence() instanceof ParserTokenText,
+            "text should be a ParserTokenText"
+        );
+        this.checkEquals(
+            b.toString(),
+            token.text(),
+            "text"
+        );
+    }
+
+    @Test
+    public void testParseWhitespaceAroundOperator() {
+        this.parseAndCheckSameAsBinaryOperatorWhitespace("1 + 2");
+    }
+
+    @Test
+    public void testParseWhitespaceLeadingAndTrailing() {
+        this.parseAndCheckSameAsBinaryOperatorWhitespace(" 1+2 ");
+    }
+
+    @Test
+    public void testParseWhitespaceMixedPriorities() {
+        this.parseAndCheckSameAsBinaryOperatorWhitespace(" 1 +  22*3 - 4 *5*  6+7  ");
+    }
+
+    @Test
+    public void testParseWhitespaceOperandOnly() {
+        this.parseAndCheck(
+            OperatorPrecedenceParser.with(
+                OPERAND_WHITESPACE,
+                OPERATOR,
+                TRANSFORMER
+            ),
+            this.createContext(),
+            " 1 ",
+            OPERAND_WHITESPACE.parseText(
+                " 1 ",
+                this.createContext()
+            ),
+            " 1 "
+        );
+    }
+
+    @Test
+    public void testParseWhitespaceBeforeNonOperator() {
+        this.parseAndCheck(
+            OperatorPrecedenceParser.with(
+                OPERAND_WHITESPACE,
+                OPERATOR,
+                TRANSFORMER
+            ),
+            this.createContext(),
+            "1 + 2 ?3",
+            ParserTokens.sequence(
+                Lists.of(
+                    ParserTokens.repeated(
+                        Lists.of(
+                            string("1"),
+                            whitespace(" "),
+                            string("+"),
+                            whitespace(" "),
+                            string("2")
+                        ),
+                        "1 + 2"
+                    ),
+                    whitespace(" ")
+                ),
+                "1 + 2 "
+            ),
+            "1 + 2 ",
+            "?3"
+        );
+    }
+
+    private void parseAndCheckSameAsBinaryOperator(final String text) {
+        this.parseAndCheck(
+            text,
+            ParserTokens.sequence(
+                tokens(text),
+                text
+            ).binaryOperator(TRANSFORMER),
+            text
+        );
+    }
+
+    private void parseAndCheckSameAsBinaryOperatorWhitespace(final String text) {
+        this.parseAndCheck(
+            OperatorPrecedenceParser.with(
+                OPERAND_WHITESPACE,
+                OPERATOR,
+                TRANSFORMER
+            ),
+            this.createContext(),
+            text,
+            ParserTokens.sequence(
+                tokens(text),
+                text
+            ).binaryOperator(TRANSFORMER),
+            text
+        );
+    }
+
+    private static List<ParserToken> tokens(final String text) {
+        final List<ParserToken> tokens = Lists.array();
+
+        int i = 0;
+        while (i < text.length()) {
+            final char c = text.charAt(i);
+            final boolean space = ' ' == c;
+            if (space || Character.isDigit(c)) {
+                int end = i + 1;
+                while (end < text.length() && (space ? ' ' == text.charAt(end) : Character.isDigit(text.charAt(end)))) {
+                    end++;
+                }
+                final String token = text.substring(i, end);
+                tokens.add(
+                    space ?
+                        whitespace(token) :
+                        string(token)
+                );
+                i = end;
+            } else {
+                tokens.add(string(String.valueOf(c)));
+                i++;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static ParserToken whitespace(final String text) {
+        return new FakeParserToken() {
+            @Override
+            public String text() {
+                return text;
+            }
+
+            @Override
+            public boolean isWhitespace() {
+                return true;
+            }
+
+            @Override
+            public void accept(final ParserTokenVisitor visitor) {
+            }
+
+            @Override
+            public void printTree(final IndentingPrinter printer) {
+                printer.println("Whitespace " + CharSequences.quoteAndEscape(text));
+            }
+
+            @Override
+            public int hashCode() {
+                return text.hashCode();
+            }
+
+            @Override
+            public boolean equals(final Object other) {
+                return this == other ||
+                    other instanceof ParserToken && this.equals0(Cast.to(other));
+            }
+
+            private boolean equals0(final ParserToken other) {
+                return other.isWhitespace() && text.equals(other.text());
+            }
+
+            @Override
+            public String toString() {
+                return CharSequences.quoteAndEscape(text).toString();
+            }
+        };
+    }
+
+    private static ParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    @Override
+    public OperatorPrecedenceParser<ParserContext> createParser() {
+        return OperatorPrecedenceParser.with(
+            OPERAND,
+            OPERATOR,
+            TRANSFORMER
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentOperand() {
+        this.checkNotEquals(
+            OperatorPrecedenceParser.with(
+                Parsers.fake(),
+                OPERATOR,
+                TRANSFORMER
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOperator() {
+        this.checkNotEquals(
+            OperatorPrecedenceParser.with(
+                OPERAND,
+                Parsers.fake(),
+                TRANSFORMER
+            )
+        );
+    }
+
+    @Override
+    public OperatorPrecedenceParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            OPERAND + ", {" + OPERATOR + ", " + OPERAND + "}"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<OperatorPrecedenceParser<ParserContext>> type() {
+        return Cast.to(OperatorPrecedenceParser.class);
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParallelAlternativesParserTest extends ParserTestCase<ParallelAlternativesParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<ParallelAlternativesParser<ParserContext>> {
+
+    private final static String TEXT1 = "abc";
+    private final static String TEXT2 = "abcxyz";
+
+    private final static Parser<ParserContext> PARSER1 = parser(TEXT1);
+    private final static Parser<ParserContext> PARSER2 = parser(TEXT2);
+
+    @Test
+    public void testWithNullParsersFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParallelAlternativesParser.with(
+                null,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeThresholdFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParallelAlternativesParser.with(
+                Lists.of(
+                    PARSER1,
+                    PARSER2
+                ),
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testWithOneNeverWrapped() {
+        assertSame(
+            PARSER1,
+            ParallelAlternativesParser.with(
+                Lists.of(PARSER1),
+                0
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNone() {
+        this.parseFailAndCheck("xyz");
+    }
+
+    @Test
+    public void testParseFirstMatch() {
+        this.parseAndCheck(
+            TEXT2,
+            string(TEXT1),
+            TEXT1,
+            "xyz"
+        );
+    }
+
+    @Test
+    public void testParseSecondMatch() {
+        this.parseAndCheck(
+            Parsers.parallelAlternatives(
+                Lists.of(
+                    parser("xyz"),
+                    PARSER2
+                ),
+                0
+            ),
+            TEXT2 + "!",
+            string(TEXT2),
+            TEXT2,
+            "!"
+        );
+    }
+
+    @Test
+    public void testParseBelowThresholdSequential() {
+        this.parseAndCheck(
+            Parsers.parallelAlternatives(
+                Lists.of(
+                    PARSER1,
+                    PARSER2
+                ),
+                100
+            ),
+            TEXT2,
+            string(TEXT1),
+            TEXT1,
+            "xyz"
+        );
+    }
+
+    @Test
+    public void testParseEmptyParserReporter() {
+        this.parseThrowsEndOfText(
+            Parsers.parallelAlternatives(
+                Lists.of(
+                    PARSER2,
+                    PARSER1.orReport(ParserReporters.basic())
+                ),
+                0
+            ),
+            ""
+        );
+    }
+
+    @Test
+    public void testParseReporterSameAsAlternatives() {
+        final String text = "ab!";
+
+        final InvalidCharacterException sequential = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.alternatives(
+                Lists.of(
+                    PARSER2,
+                    PARSER1.orReport(ParserReporters.basic())
+                )
+            ).parseText(
+                text,
+                this.createContext()
+            )
+        );
+
+        final InvalidCharacterException parallel = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.parallelAlternatives(
+                Lists.of(
+                    PARSER2,
+                    PARSER1.orReport(ParserReporters.basic())
+                ),
+                0
+            ).parseText(
+                text,
+                this.createContext()
+            )
+        );
+
+        this.checkEquals(
+            sequential.getMessage(),
+            parallel.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseEarlierSuccessBeforeLaterReporter() {
+        this.parseAndCheck(
+            Parsers.parallelAlternatives(
+                Lists.of(
+                    PARSER1,
+                    parser("xyz").orReport(ParserReporters.basic())
+                ),
+                0
+            ),
+            TEXT2,
+            string(TEXT1),
+            TEXT1,
+            "xyz"
+        );
+    }
+
+    @Test
+    @Override
+    public void testOr() {
+        final Parser<ParserContext> parser3 = parser("text3");
+
+        this.checkEquals(
+            ParallelAlternativesParser.with(
+                Lists.of(
+                    PARSER1,
+                    PARSER2,
+                    parser3
+                ),
+                0
+            ),
+            this.createParser()
+                .or(parser3)
+        );
+    }
+
+    @Override
+    public ParallelAlternativesParser<ParserContext> createParser() {
+        return ParallelAlternativesParser.with(
+            Lists.of(
+                PARSER1,
+                PARSER2
+            ),
+            0
+        ).cast();
+    }
+
+    private static StringParserToken string(final String s) {
+        return ParserTokens.string(s, s);
+    }
+
+    @Test
+    public void testParseContextNotThreadSafeSequential() {
+        this.checkEquals(
+            true,
+            this.parseSameCursor(
+                super.createContext()
+            ),
+            "same cursor"
+        );
+    }
+
+    @Test
+    public void testParseContextThreadSafeParallel() {
+        this.checkEquals(
+            false,
+            this.parseSameCursor(
+                this.createContext()
+            ),
+            "same cursor"
+        );
+    }
+
+    /**
+     * Returns true if the alternative received the original {@link TextCursor}, which only happens when tried
+     * sequentially.
+     */
+    private boolean parseSameCursor(final ParserContext context) {
+        final TextCursor cursor = TextCursors.charSequence(TEXT2);
+        final List<TextCursor> cursors = new CopyOnWriteArrayList<>();
+
+        Parsers.parallelAlternatives(
+            Lists.of(
+                new FakeParser<ParserContext>() {
+                    @Override
+                    public Optional<ParserToken> parse(final TextCursor c,
+                                                       final ParserContext context) {
+                        cursors.add(c);
+                        return PARSER1.parse(
+                            c,
+                            context
+                        );
+                    }
+
+                    @Override
+                    public int minCount() {
+                        return 1;
+                    }
+
+                    @Override
+                    public int maxCount() {
+                        return 1;
+                    }
+                }
+            ),
+            0
+        ).parse(
+            cursor,
+            context
+        );
+
+        return cursor == cursors.get(0);
+    }
+
+    @Test
+    public void testParseParallelAlternativeStartsAtOffset() {
+        final TextCursor cursor = TextCursors.charSequence("\n" + TEXT2);
+        cursor.next();
+
+        final List<TextCursorLineInfo> lineInfos = new CopyOnWriteArrayList<>();
+
+        final Optional<ParserToken> token = Parsers.parallelAlternatives(
+            Lists.of(
+                new FakeParser<ParserContext>() {
+                    @Override
+                    public Optional<ParserToken> parse(final TextCursor c,
+                                                       final ParserContext context) {
+                        lineInfos.add(c.lineInfo());
+                        return PARSER1.parse(
+                            c,
+                            context
+                        );
+                    }
+
+                    @Override
+                    public int minCount() {
+                        return 1;
+                    }
+
+                    @Override
+                    public int maxCount() {
+                        return 1;
+                    }
+                },
+                PARSER2
+            ),
+            0
+        ).parse(
+            cursor,
+            this.createContext()
+        );
+
+        this.checkEquals(
+            Optional.of(
+                string(TEXT1)
+            ),
+            token,
+            "token"
+        );
+
+        final TextCursorLineInfo lineInfo = lineInfos.get(0);
+        this.checkEquals(
+            1,
+            lineInfo.textOffset(),
+            "textOffset"
+        );
+        this.checkEquals(
+            2,
+            lineInfo.lineNumber(),
+            "lineNumber"
+        );
+        this.checkEquals(
+            1,
+            lineInfo.column(),
+            "column"
+        );
+        this.checkEquals(
+            'x',
+            cursor.at(),
+            "cursor after token"
+        );
+    }
+
+    @Test
+    public void testParseBelowThresholdStopsCounting() {
+        this.parseAndCheck(
+            Parsers.parallelAlternatives(
+                Lists.of(
+                    PARSER1,
+                    PARSER2
+                ),
+                TEXT2.length() + 1
+            ),
+            TEXT2,
+            string(TEXT1),
+            TEXT1,
+            "xyz"
+        );
+    }
+
+    @Override
+    public ParserContext createContext() {
+        final ParserContext context = super.createContext();
+
+        return new ParserContextDelegator() {
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+
+            @Override
+            public ParserContext parserContext() {
+                return context;
+            }
+        };
+    }
+
+    private static Parser<ParserContext> parser(final String string) {
+        return Parsers.string(
+            string,
+            CaseSensitivity.SENSITIVE
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParsers() {
+        this.checkNotEquals(
+            ParallelAlternativesParser.with(
+                Lists.of(
+                    PARSER2,
+                    PARSER1
+                ),
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentThreshold() {
+        this.checkNotEquals(
+            ParallelAlternativesParser.with(
+                Lists.of(
+                    PARSER1,
+                    PARSER2
+                ),
+                1
+            )
+        );
+    }
+
+    @Override
+    public ParallelAlternativesParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            PARSER1 + " | " + PARSER2
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ParallelAlternativesParser<ParserContext>> type() {
+        return Cast.to(ParallelAlternativesParser.class);
+    }
+}
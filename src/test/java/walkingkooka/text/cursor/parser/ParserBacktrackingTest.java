@@ -0,0 +1,261 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+import walkingkooka.text.printer.TreePrintableTesting;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserBacktrackingTest implements ClassTesting<ParserBacktracking<ParserContext>>,
+    ToStringTesting<ParserBacktracking<ParserContext>>,
+    TreePrintableTesting {
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> DIGITS_SEMI_COLON = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            SEMI_COLON
+        )
+    );
+
+    private final static Parser<ParserContext> DIGITS_COMMA = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            COMMA
+        )
+    );
+
+    private final static Parser<ParserContext> PARSER = DIGITS_SEMI_COLON.or(DIGITS_COMMA);
+
+    @Test
+    public void testWithNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.backtracking(null)
+        );
+    }
+
+    @Test
+    public void testParse() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(PARSER);
+        final TextCursor cursor = TextCursors.charSequence("123,");
+
+        this.checkEquals(
+            PARSER.parse(
+                TextCursors.charSequence("123,"),
+                ParserContexts.fake()
+            ),
+            backtracking.parser()
+                .parse(
+                    cursor,
+                    ParserContexts.fake()
+                )
+        );
+        this.checkEquals(
+            true,
+            cursor.isEmpty(),
+            "cursor empty"
+        );
+
+        this.treePrintAndCheck(
+            backtracking,
+            PARSER + " invocations=1 consumed=4 examined=0 restores=0 restored=0\n" +
+                "  " + DIGITS_SEMI_COLON + " invocations=1 consumed=0 examined=0 restores=1 restored=3\n" +
+                "    " + DIGITS + " invocations=1 consumed=3 examined=3 restores=0 restored=0\n" +
+                "    " + SEMI_COLON + " invocations=1 consumed=0 examined=0 restores=0 restored=0\n" +
+                "  " + DIGITS_COMMA + " invocations=1 consumed=4 examined=0 restores=0 restored=0\n" +
+                "    " + DIGITS + " invocations=1 consumed=3 examined=3 restores=0 restored=0\n" +
+                "    " + COMMA + " invocations=1 consumed=1 examined=1 restores=0 restored=0\n"
+        );
+
+        this.checkEquals(
+            7L,
+            backtracking.examinedTotal(),
+            "examinedTotal"
+        );
+        this.checkEquals(
+            7.0 / 4,
+            backtracking.ratio(),
+            "ratio"
+        );
+    }
+
+    @Test
+    public void testParseProfiled() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(
+            Parsers.profiling(PARSER)
+                .parser()
+        );
+
+        backtracking.parser()
+            .parse(
+                TextCursors.charSequence("123,"),
+                ParserContexts.fake()
+            );
+
+        // the counting cursors of the profiling parsers between backtracking parsers must not count characters again
+        this.checkEquals(
+            7L,
+            backtracking.examinedTotal(),
+            "examinedTotal"
+        );
+        this.checkEquals(
+            7.0 / 4,
+            backtracking.ratio(),
+            "ratio"
+        );
+    }
+
+    @Test
+    public void testParseWithoutBacktracking() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(PARSER);
+
+        backtracking.parser()
+            .parse(
+                TextCursors.charSequence("123;"),
+                ParserContexts.fake()
+            );
+
+        this.checkEquals(
+            1.0,
+            backtracking.ratio(),
+            "ratio"
+        );
+        this.hotSpotsAndCheck(
+            backtracking,
+            10
+        );
+    }
+
+    @Test
+    public void testRatioNothingConsumed() {
+        this.checkEquals(
+            0.0,
+            Parsers.backtracking(PARSER)
+                .ratio()
+        );
+    }
+
+    @Test
+    public void testHotSpotsNegativeCountFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Parsers.backtracking(PARSER)
+                .hotSpots(-1)
+        );
+    }
+
+    @Test
+    public void testHotSpots() {
+        final ParserBacktracking<ParserContext> backtracking = Parsers.backtracking(
+            Parsers.sequence(
+                Lists.of(
+                    DIGITS_SEMI_COLON.or(DIGITS_COMMA),
+                    Parsers.sequence(
+                        Lists.of(
+                            DIGITS,
+                            COMMA,
+                            COMMA
+                        )
+                    ).or(DIGITS_SEMI_COLON)
+                )
+            )
+        );
+
+        backtracking.parser()
+            .parse(
+                TextCursors.charSequence("123,45678;"),
+                ParserContexts.fake()
+            );
+
+        this.hotSpotsAndCheck(
+            backtracking,
+            10,
+            DIGITS + ", " + COMMA + ", " + COMMA,
+            DIGITS_SEMI_COLON.toString()
+        );
+        this.hotSpotsAndCheck(
+            backtracking,
+            1,
+            DIGITS + ", " + COMMA + ", " + COMMA
+        );
+    }
+
+    private void hotSpotsAndCheck(final ParserBacktracking<ParserContext> backtracking,
+                                  final int count,
+                                  final String... expected) {
+        final List<String> labels = Lists.array();
+        for (final ParserBacktracking<ParserContext> hotSpot : backtracking.hotSpots(count)) {
+            labels.add(hotSpot.toString());
+        }
+
+        this.checkEquals(
+            Lists.of(expected),
+            labels
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            Parsers.backtracking(PARSER),
+            PARSER.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserBacktracking<ParserContext>> type() {
+        return Cast.to(ParserBacktracking.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
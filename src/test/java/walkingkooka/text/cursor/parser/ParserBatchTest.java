@@ -0,0 +1,375 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.math.MathContext;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserBatchTest implements ClassTesting<ParserBatch> {
+
+    private final static Parser<ParserContext> PARSER = Parsers.string(
+        "abc",
+        CaseSensitivity.SENSITIVE
+    );
+
+    @Test
+    public void testParseAllNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.parseAll(
+                null,
+                Lists.empty(),
+                ParserBatchTest::context
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllNullTextsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.parseAll(
+                PARSER,
+                null,
+                ParserBatchTest::context
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.parseAll(
+                PARSER,
+                Lists.empty(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllEmpty() {
+        this.checkEquals(
+            Lists.empty(),
+            Parsers.parseAll(
+                PARSER,
+                Lists.empty(),
+                ParserBatchTest::context
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllSuccessAndFailures() {
+        final String text = "abcX";
+
+        this.checkEquals(
+            Lists.of(
+                ParserOutcome.success(
+                    "abc",
+                    ParserTokens.string(
+                        "abc",
+                        "abc"
+                    )
+                ),
+                ParserOutcome.failure(
+                    text,
+                    new InvalidCharacterException(
+                        text,
+                        3
+                    )
+                ),
+                ParserOutcome.success(
+                    "abc",
+                    ParserTokens.string(
+                        "abc",
+                        "abc"
+                    )
+                )
+            ).toString(),
+            Parsers.parseAll(
+                PARSER,
+                Lists.of(
+                    "abc",
+                    text,
+                    "abc"
+                ),
+                ParserBatchTest::context
+            ).toString()
+        );
+    }
+
+    @Test
+    public void testParseAllManyInputOrder() {
+        final List<String> texts = Lists.array();
+        for (int i = 0; i < 10000; i++) {
+            texts.add(String.valueOf(i));
+        }
+
+        final List<ParserOutcome> outcomes = Parsers.parseAll(
+            Parsers.longParser(10),
+            texts,
+            ParserBatchTest::context
+        );
+
+        this.checkEquals(
+            texts.size(),
+            outcomes.size(),
+            "size"
+        );
+
+        for (int i = 0; i < texts.size(); i++) {
+            this.checkEquals(
+                (long) i,
+                outcomes.get(i)
+                    .orElseThrow()
+                    .cast(LongParserToken.class)
+                    .value(),
+                "outcome " + i
+            );
+        }
+    }
+
+    @Test
+    public void testParseAllContextPerBlock() {
+        final List<String> texts = Lists.array();
+        for (int i = 0; i < ParserBatch.BLOCK_SIZE * 2 + 1; i++) {
+            texts.add(String.valueOf(i));
+        }
+
+        final AtomicInteger contexts = new AtomicInteger();
+        Parsers.parseAll(
+            Parsers.longParser(10),
+            texts,
+            () -> {
+                contexts.incrementAndGet();
+                return context();
+            }
+        );
+
+        this.checkEquals(
+            3,
+            contexts.get(),
+            "contexts created"
+        );
+    }
+
+    // parseOutcome.....................................................................................................
+
+    @Test
+    public void testParseOutcomeNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> PARSER.parseOutcome(
+                null,
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> PARSER.parseOutcome(
+                "abc",
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeSuccess() {
+        this.checkEquals(
+            ParserOutcome.success(
+                "abc",
+                ParserTokens.string(
+                    "abc",
+                    "abc"
+                )
+            ),
+            PARSER.parseOutcome(
+                "abc",
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeTextLeftOver() {
+        this.parseOutcomeFailureAndCheck(
+            "abcX",
+            new InvalidCharacterException(
+                "abcX",
+                3
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeNotMatched() {
+        this.parseOutcomeFailureAndCheck(
+            "X",
+            new InvalidCharacterException(
+                "X",
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeNotMatchedPartial() {
+        this.parseOutcomeFailureAndCheck(
+            "ab",
+            new InvalidCharacterException(
+                "ab",
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testParseOutcomeTextLeftOverExpectedSameAsParseText() {
+        this.parseOutcomeSameAsParseTextAndCheck(InvalidCharacterExceptionFactory.POSITION_EXPECTED);
+    }
+
+    @Test
+    public void testParseOutcomeTextLeftOverColumnAndLineExpectedSameAsParseText() {
+        this.parseOutcomeSameAsParseTextAndCheck(InvalidCharacterExceptionFactory.COLUMN_AND_LINE_EXPECTED);
+    }
+
+    private void parseOutcomeSameAsParseTextAndCheck(final InvalidCharacterExceptionFactory factory) {
+        final String text = "abc\nX";
+        final ParserContext context = context(factory);
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> PARSER.parseText(
+                text,
+                context
+            )
+        );
+
+        this.checkEquals(
+            thrown.getMessage(),
+            PARSER.parseOutcome(
+                text,
+                context
+            ).cause()
+                .get()
+                .getMessage()
+        );
+    }
+
+    private void parseOutcomeFailureAndCheck(final String text,
+                                             final InvalidCharacterException expected) {
+        final ParserOutcome outcome = PARSER.parseOutcome(
+            text,
+            context()
+        );
+
+        this.checkEquals(
+            false,
+            outcome.isSuccess(),
+            "isSuccess"
+        );
+
+        this.checkEquals(
+            expected.getMessage(),
+            outcome.cause()
+                .get()
+                .getMessage()
+        );
+    }
+
+    @Test
+    public void testParseOutcomeStacklessParserException() {
+        final ParserOutcome outcome = Parsers.longParser(10)
+            .parseOutcome(
+                "99999999999999999999",
+                ParserContexts.stackless(
+                    context()
+                )
+            );
+
+        final RuntimeException cause = outcome.cause()
+            .get();
+
+        this.checkEquals(
+            "Number overflow \"99999999999999999999\"",
+            cause.getMessage(),
+            "message"
+        );
+        this.checkEquals(
+            0,
+            cause.getStackTrace().length,
+            "stackTrace"
+        );
+    }
+
+    @Test
+    public void testParseTextParserExceptionWithoutCause() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Parsers.longParser(10)
+                .parseText(
+                    "99999999999999999999",
+                    context()
+                )
+        );
+    }
+
+    private static ParserContext context() {
+        return context(InvalidCharacterExceptionFactory.POSITION);
+    }
+
+    private static ParserContext context(final InvalidCharacterExceptionFactory factory) {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            factory,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserBatch> type() {
+        return ParserBatch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
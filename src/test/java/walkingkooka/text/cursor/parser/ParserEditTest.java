@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserEditTest implements ClassTesting<ParserEdit>,
+    HashCodeEqualsDefinedTesting2<ParserEdit>,
+    ToStringTesting<ParserEdit> {
+
+    private final static int OFFSET = 1;
+    private final static int REMOVED = 2;
+    private final static String INSERTED = "xyz";
+
+    @Test
+    public void testWithNegativeOffsetFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserEdit.with(
+                -1,
+                REMOVED,
+                INSERTED
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeRemovedFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserEdit.with(
+                OFFSET,
+                -1,
+                INSERTED
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullInsertedFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserEdit.with(
+                OFFSET,
+                REMOVED,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ParserEdit edit = this.createObject();
+
+        this.checkEquals(
+            OFFSET,
+            edit.offset(),
+            "offset"
+        );
+        this.checkEquals(
+            REMOVED,
+            edit.removed(),
+            "removed"
+        );
+        this.checkEquals(
+            INSERTED,
+            edit.inserted(),
+            "inserted"
+        );
+        this.checkEquals(
+            1,
+            edit.delta(),
+            "delta"
+        );
+    }
+
+    // apply............................................................................................................
+
+    @Test
+    public void testApply() {
+        this.applyAndCheck(
+            this.createObject(),
+            "abcd",
+            "axyzd"
+        );
+    }
+
+    @Test
+    public void testApplyInsert() {
+        this.applyAndCheck(
+            ParserEdit.with(
+                4,
+                0,
+                "!"
+            ),
+            "abcd",
+            "abcd!"
+        );
+    }
+
+    @Test
+    public void testApplyRemove() {
+        this.applyAndCheck(
+            ParserEdit.with(
+                0,
+                4,
+                ""
+            ),
+            "abcd",
+            ""
+        );
+    }
+
+    @Test
+    public void testApplyAfterEndFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .apply("ab")
+        );
+        this.checkEquals(
+            "Invalid edit 1 -2 +\"xyz\" for text length 2",
+            thrown.getMessage()
+        );
+    }
+
+    private void applyAndCheck(final ParserEdit edit,
+                               final String text,
+                               final String expected) {
+        this.checkEquals(
+            expected,
+            edit.apply(text)
+                .toString(),
+            () -> edit + " apply " + text
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentOffset() {
+        this.checkNotEquals(
+            ParserEdit.with(
+                0,
+                REMOVED,
+                INSERTED
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentRemoved() {
+        this.checkNotEquals(
+            ParserEdit.with(
+                OFFSET,
+                0,
+                INSERTED
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentInserted() {
+        this.checkNotEquals(
+            ParserEdit.with(
+                OFFSET,
+                REMOVED,
+                "different"
+            )
+        );
+    }
+
+    @Override
+    public ParserEdit createObject() {
+        return ParserEdit.with(
+            OFFSET,
+            REMOVED,
+            INSERTED
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "1 -2 +\"xyz\""
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserEdit> type() {
+        return ParserEdit.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserEditTextTest implements ClassTesting<ParserEditText>,
+    ToStringTesting<ParserEditText> {
+
+    private final static String TEXT = "abcdef";
+
+    @Test
+    public void testLengthAndCharAtInsert() {
+        this.charsAndCheck(
+            ParserEdit.with(2, 0, "xy"),
+            "abxycdef"
+        );
+    }
+
+    @Test
+    public void testLengthAndCharAtRemove() {
+        this.charsAndCheck(
+            ParserEdit.with(1, 3, ""),
+            "aef"
+        );
+    }
+
+    @Test
+    public void testLengthAndCharAtReplace() {
+        this.charsAndCheck(
+            ParserEdit.with(1, 2, "xyz"),
+            "axyzdef"
+        );
+    }
+
+    @Test
+    public void testLengthAndCharAtAppend() {
+        this.charsAndCheck(
+            ParserEdit.with(TEXT.length(), 0, "!"),
+            "abcdef!"
+        );
+    }
+
+    private void charsAndCheck(final ParserEdit edit,
+                               final String expected) {
+        final ParserEditText text = ParserEditText.with(
+            TEXT,
+            edit
+        );
+
+        this.checkEquals(
+            expected.length(),
+            text.length(),
+            "length"
+        );
+
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            b.append(
+                text.charAt(i)
+            );
+        }
+        this.checkEquals(
+            expected,
+            b.toString(),
+            "charAt"
+        );
+        this.checkEquals(
+            expected,
+            text.toString(),
+            "toString"
+        );
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        final ParserEditText text = ParserEditText.with(
+            TEXT,
+            ParserEdit.with(1, 1, "")
+        );
+
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> text.charAt(TEXT.length() - 1)
+        );
+    }
+
+    @Test
+    public void testSubSequence() {
+        this.checkEquals(
+            "bxyd",
+            ParserEditText.with(
+                TEXT,
+                ParserEdit.with(2, 1, "xy")
+            ).subSequence(1, 5)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ParserEditText.with(
+                TEXT,
+                ParserEdit.with(3, 3, "123")
+            ),
+            "abc123"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserEditText> type() {
+        return ParserEditText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
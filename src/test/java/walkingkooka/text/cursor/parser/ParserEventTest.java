@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserEventTest implements ClassTesting<ParserEvent>,
+    HashCodeEqualsDefinedTesting2<ParserEvent>,
+    ToStringTesting<ParserEvent> {
+
+    private final static String LABEL = "label123";
+    private final static int DEPTH = 1;
+    private final static int OFFSET = 2;
+    private final static int LENGTH = 3;
+    private final static long NANOS = 456;
+    private final static boolean SUCCESS = true;
+
+    @Test
+    public void testWithNullLabelFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserEvent.with(
+                null,
+                DEPTH,
+                OFFSET,
+                LENGTH,
+                NANOS,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ParserEvent event = this.createObject();
+
+        this.checkEquals(LABEL, event.label(), "label");
+        this.checkEquals(DEPTH, event.depth(), "depth");
+        this.checkEquals(OFFSET, event.offset(), "offset");
+        this.checkEquals(LENGTH, event.length(), "length");
+        this.checkEquals(NANOS, event.nanos(), "nanos");
+        this.checkEquals(SUCCESS, event.isSuccess(), "success");
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentLabel() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                "different",
+                DEPTH,
+                OFFSET,
+                LENGTH,
+                NANOS,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentDepth() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                LABEL,
+                DEPTH + 1,
+                OFFSET,
+                LENGTH,
+                NANOS,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOffset() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                LABEL,
+                DEPTH,
+                OFFSET + 1,
+                LENGTH,
+                NANOS,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLength() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                LABEL,
+                DEPTH,
+                OFFSET,
+                LENGTH + 1,
+                NANOS,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNanos() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                LABEL,
+                DEPTH,
+                OFFSET,
+                LENGTH,
+                NANOS + 1,
+                SUCCESS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSuccess() {
+        this.checkNotEquals(
+            ParserEvent.with(
+                LABEL,
+                DEPTH,
+                OFFSET,
+                LENGTH,
+                NANOS,
+                false
+            )
+        );
+    }
+
+    @Override
+    public ParserEvent createObject() {
+        return ParserEvent.with(
+            LABEL,
+            DEPTH,
+            OFFSET,
+            LENGTH,
+            NANOS,
+            SUCCESS
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "label123 depth=1 offset=2 length=3 456ns success"
+        );
+    }
+
+    @Test
+    public void testToStringFailure() {
+        this.toStringAndCheck(
+            ParserEvent.with(
+                LABEL,
+                DEPTH,
+                OFFSET,
+                0,
+                NANOS,
+                false
+            ),
+            "label123 depth=1 offset=2 length=0 456ns failure"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserEvent> type() {
+        return ParserEvent.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
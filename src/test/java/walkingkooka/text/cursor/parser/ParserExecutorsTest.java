@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+import java.math.MathContext;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserExecutorsTest implements PublicStaticHelperTesting<ParserExecutors> {
+
+    @Test
+    public void testParseAllNullExecutorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserExecutors.parseAll(
+                Parsers.longParser(10),
+                Lists.empty(),
+                ParserExecutorsTest::context,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllEmpty() {
+        this.checkEquals(
+            Lists.empty(),
+            ParserExecutors.parseAll(
+                Parsers.longParser(10),
+                Lists.empty(),
+                ParserExecutorsTest::context,
+                Runnable::run
+            )
+        );
+    }
+
+    @Test
+    public void testParseAllSameAsParsersParseAll() {
+        final List<String> texts = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            texts.add(
+                0 == i % 10 ?
+                    "!" + i :
+                    String.valueOf(i)
+            );
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            this.checkEquals(
+                Parsers.parseAll(
+                    Parsers.longParser(10),
+                    texts,
+                    ParserExecutorsTest::context
+                ),
+                ParserExecutors.parseAll(
+                    Parsers.longParser(10),
+                    texts,
+                    ParserExecutorsTest::context,
+                    executor
+                )
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParseAllContextPerWorker() {
+        final List<String> texts = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            texts.add(String.valueOf(i));
+        }
+
+        final AtomicInteger contexts = new AtomicInteger();
+        ParserExecutors.parseAll(
+            Parsers.longParser(10),
+            texts,
+            () -> {
+                contexts.incrementAndGet();
+                return context();
+            },
+            Runnable::run
+        );
+
+        this.checkEquals(
+            Math.min(
+                texts.size(),
+                Runtime.getRuntime()
+                    .availableProcessors()
+            ),
+            contexts.get(),
+            "contexts created"
+        );
+    }
+
+    @Test
+    public void testParseAllRejectedFails() {
+        final RejectedExecutionException rejected = new RejectedExecutionException("rejected");
+
+        this.checkEquals(
+            rejected,
+            assertThrows(
+                RejectedExecutionException.class,
+                () -> ParserExecutors.parseAll(
+                    Parsers.longParser(10),
+                    Lists.of("1", "2"),
+                    ParserExecutorsTest::context,
+                    (r) -> {
+                        throw rejected;
+                    }
+                )
+            )
+        );
+    }
+
+    private static ParserContext context() {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // PublicStaticHelperTesting........................................................................................
+
+    @Override
+    public Class<ParserExecutors> type() {
+        return ParserExecutors.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserLineIndexTest implements ClassTesting<ParserLineIndex>,
+    ToStringTesting<ParserLineIndex> {
+
+    @Test
+    public void testWithNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserLineIndex.with(null)
+        );
+    }
+
+    @Test
+    public void testLineNumberNegativeOffsetFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserLineIndex.with("abc")
+                .lineNumber(-1)
+        );
+    }
+
+    @Test
+    public void testLineNumberOffsetAfterTextFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserLineIndex.with("abc")
+                .lineNumber(4)
+        );
+    }
+
+    @Test
+    public void testLineStartInvalidLineNumberFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserLineIndex.with("abc")
+                .lineStart(2)
+        );
+    }
+
+    @Test
+    public void testEmptyText() {
+        this.lineNumberAndColumnAndCheck(
+            "",
+            0,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testSingleLine() {
+        this.lineNumberAndColumnAndCheck(
+            "abc",
+            2,
+            1,
+            3
+        );
+    }
+
+    @Test
+    public void testEndOfText() {
+        this.lineNumberAndColumnAndCheck(
+            "abc\nde",
+            6,
+            2,
+            3
+        );
+    }
+
+    @Test
+    public void testLineFeed() {
+        this.lineNumberAndColumnAndCheck(
+            "abc\ndef\nghi",
+            9,
+            3,
+            2
+        );
+    }
+
+    @Test
+    public void testLineFeedItself() {
+        this.lineNumberAndColumnAndCheck(
+            "abc\ndef",
+            3,
+            1,
+            4
+        );
+    }
+
+    @Test
+    public void testCarriageReturn() {
+        this.lineNumberAndColumnAndCheck(
+            "abc\rdef",
+            5,
+            2,
+            2
+        );
+    }
+
+    @Test
+    public void testCarriageReturnLineFeed() {
+        this.lineNumberAndColumnAndCheck(
+            "abc\r\ndef",
+            6,
+            2,
+            2
+        );
+    }
+
+    @Test
+    public void testEmptyLines() {
+        this.lineNumberAndColumnAndCheck(
+            "\n\n\nabc",
+            3,
+            4,
+            1
+        );
+    }
+
+    @Test
+    public void testManyLines() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            b.append("line")
+                .append(i)
+                .append('\n');
+        }
+        final String text = b.toString();
+
+        final ParserLineIndex index = ParserLineIndex.with(text);
+        this.checkEquals(
+            101,
+            index.lineCount(),
+            "lineCount"
+        );
+
+        final int offset = text.indexOf("line57") + 2;
+        this.checkEquals(
+            58,
+            index.lineNumber(offset),
+            "lineNumber"
+        );
+        this.checkEquals(
+            3,
+            index.column(offset),
+            "column"
+        );
+        this.checkEquals(
+            text.indexOf("line57"),
+            index.lineStart(58),
+            "lineStart"
+        );
+    }
+
+    @Test
+    public void testSameAsTextCursorLineInfo() {
+        final String text = "abc\ndef\n\nghij\nk";
+        final ParserLineIndex index = ParserLineIndex.with(text);
+
+        final TextCursor cursor = TextCursors.charSequence(text);
+        for (int i = 0; i < text.length(); i++) {
+            this.checkEquals(
+                cursor.lineInfo()
+                    .lineNumber(),
+                index.lineNumber(i),
+                "lineNumber " + i
+            );
+            this.checkEquals(
+                cursor.lineInfo()
+                    .column(),
+                index.column(i),
+                "column " + i
+            );
+            cursor.next();
+        }
+    }
+
+    private void lineNumberAndColumnAndCheck(final String text,
+                                             final int offset,
+                                             final int lineNumber,
+                                             final int column) {
+        final ParserLineIndex index = ParserLineIndex.with(text);
+
+        this.checkEquals(
+            lineNumber,
+            index.lineNumber(offset),
+            () -> "lineNumber " + offset + " in " + text
+        );
+        this.checkEquals(
+            column,
+            index.column(offset),
+            () -> "column " + offset + " in " + text
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ParserLineIndex.with("abc\ndef"),
+            "2 lines"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserLineIndex> type() {
+        return ParserLineIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
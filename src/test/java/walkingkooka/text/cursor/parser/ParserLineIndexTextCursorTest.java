@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserLineIndexTextCursorTest implements ClassTesting<ParserLineIndexTextCursor>,
+    ToStringTesting<ParserLineIndexTextCursor> {
+
+    private final static String TEXT = "abc\ndef";
+
+    @Test
+    public void testWithNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserLineIndexTextCursor.with(null)
+        );
+    }
+
+    @Test
+    public void testNextSaveRestore() {
+        final ParserLineIndexTextCursor cursor = ParserLineIndexTextCursor.with(TEXT);
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(
+            "bc",
+            save.textBetween()
+                .toString(),
+            "textBetween"
+        );
+
+        save.restore();
+        this.checkEquals(
+            'b',
+            cursor.at(),
+            "at"
+        );
+    }
+
+    @Test
+    public void testLineIndex() {
+        final ParserLineIndex lineIndex = ParserLineIndexTextCursor.with(TEXT)
+            .lineIndex();
+
+        this.checkEquals(
+            2,
+            lineIndex.lineCount(),
+            "lineCount"
+        );
+        this.checkEquals(
+            4,
+            lineIndex.lineStart(2),
+            "lineStart"
+        );
+    }
+
+    @Test
+    public void testLineIndexBuiltOnce() {
+        final ParserLineIndexTextCursor cursor = ParserLineIndexTextCursor.with(TEXT);
+
+        assertSame(
+            cursor.lineIndex(),
+            cursor.lineIndex()
+        );
+    }
+
+    @Test
+    public void testFind() {
+        final ParserLineIndexTextCursor cursor = ParserLineIndexTextCursor.with(TEXT);
+
+        assertSame(
+            cursor,
+            ParserLineIndexTextCursor.find(
+                CountingTextCursor.with(cursor)
+            )
+        );
+    }
+
+    @Test
+    public void testFindMissing() {
+        this.checkEquals(
+            null,
+            ParserLineIndexTextCursor.find(
+                TextCursors.charSequence(TEXT)
+            )
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ParserLineIndexTextCursor.with(TEXT),
+            TextCursors.charSequence(TEXT)
+                .toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserLineIndexTextCursor> type() {
+        return ParserLineIndexTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserOutcomeTest implements ClassTesting<ParserOutcome>,
+    HashCodeEqualsDefinedTesting2<ParserOutcome>,
+    ToStringTesting<ParserOutcome> {
+
+    private final static String TEXT = "abc";
+
+    private final static ParserToken TOKEN = ParserTokens.string(
+        TEXT,
+        TEXT
+    );
+
+    private final static IllegalArgumentException CAUSE = new IllegalArgumentException("Bad abc");
+
+    @Test
+    public void testSuccessNullTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserOutcome.success(
+                null,
+                TOKEN
+            )
+        );
+    }
+
+    @Test
+    public void testSuccessNullTokenFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserOutcome.success(
+                TEXT,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testFailureNullCauseFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserOutcome.failure(
+                TEXT,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testSuccess() {
+        final ParserOutcome outcome = ParserOutcome.success(
+            TEXT,
+            TOKEN
+        );
+
+        this.checkEquals(true, outcome.isSuccess(), "isSuccess");
+        this.checkEquals(TEXT, outcome.text(), "text");
+        this.checkEquals(Optional.of(TOKEN), outcome.token(), "token");
+        this.checkEquals(Optional.empty(), outcome.cause(), "cause");
+        assertSame(TOKEN, outcome.orElseThrow());
+    }
+
+    @Test
+    public void testFailure() {
+        final ParserOutcome outcome = ParserOutcome.failure(
+            TEXT,
+            CAUSE
+        );
+
+        this.checkEquals(false, outcome.isSuccess(), "isSuccess");
+        this.checkEquals(Optional.empty(), outcome.token(), "token");
+        this.checkEquals(Optional.of(CAUSE), outcome.cause(), "cause");
+
+        assertSame(
+            CAUSE,
+            assertThrows(
+                IllegalArgumentException.class,
+                outcome::orElseThrow
+            )
+        );
+    }
+
+    @Test
+    public void testLazyFailureNullCauseFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserOutcome.lazyFailure(
+                TEXT,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testLazyFailure() {
+        final List<RuntimeException> created = Lists.array();
+
+        final ParserOutcome outcome = ParserOutcome.lazyFailure(
+            TEXT,
+            () -> {
+                created.add(CAUSE);
+                return CAUSE;
+            }
+        );
+
+        this.checkEquals(false, outcome.isSuccess(), "isSuccess");
+        this.checkEquals(Optional.empty(), outcome.token(), "token");
+        this.checkEquals(Lists.empty(), created, "created before cause");
+
+        this.checkEquals(Optional.of(CAUSE), outcome.cause(), "cause");
+        this.checkEquals(Optional.of(CAUSE), outcome.cause(), "cause");
+        this.checkEquals(Lists.of(CAUSE), created, "created once");
+    }
+
+    @Test
+    public void testLazyFailureEqualsFailure() {
+        this.checkEquals(
+            ParserOutcome.failure(
+                TEXT,
+                CAUSE
+            ),
+            ParserOutcome.lazyFailure(
+                TEXT,
+                () -> CAUSE
+            )
+        );
+    }
+
+    @Test
+    public void testLazyFailureEqualsDifferentInstanceSameMessage() {
+        this.checkEquals(
+            ParserOutcome.lazyFailure(
+                TEXT,
+                () -> new InvalidCharacterException(TEXT, 1)
+            ),
+            ParserOutcome.lazyFailure(
+                TEXT,
+                () -> new InvalidCharacterException(TEXT, 1)
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsFailureDifferentMessage() {
+        this.checkEquals(
+            false,
+            ParserOutcome.failure(
+                TEXT,
+                new InvalidCharacterException(TEXT, 1)
+            ).equals(
+                ParserOutcome.failure(
+                    TEXT,
+                    new InvalidCharacterException(TEXT, 2)
+                )
+            ),
+            "different positions"
+        );
+    }
+
+    @Test
+    public void testEqualsFailureDifferentType() {
+        this.checkEquals(
+            false,
+            ParserOutcome.failure(
+                TEXT,
+                new IllegalArgumentException("Bad abc")
+            ).equals(
+                ParserOutcome.failure(
+                    TEXT,
+                    new IllegalStateException("Bad abc")
+                )
+            ),
+            "different types"
+        );
+    }
+
+    @Test
+    public void testLazyFailureHashCodeDoesntCreateCause() {
+        final List<RuntimeException> created = Lists.array();
+
+        ParserOutcome.lazyFailure(
+            TEXT,
+            () -> {
+                created.add(CAUSE);
+                return CAUSE;
+            }
+        ).hashCode();
+
+        this.checkEquals(
+            Lists.empty(),
+            created
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentText() {
+        this.checkNotEquals(
+            ParserOutcome.success(
+                "different",
+                TOKEN
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsFailure() {
+        this.checkNotEquals(
+            ParserOutcome.failure(
+                TEXT,
+                CAUSE
+            )
+        );
+    }
+
+    @Test
+    public void testToStringSuccess() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "\"abc\" abc"
+        );
+    }
+
+    @Test
+    public void testToStringFailure() {
+        this.toStringAndCheck(
+            ParserOutcome.failure(
+                TEXT,
+                CAUSE
+            ),
+            "\"abc\" Bad abc"
+        );
+    }
+
+    @Override
+    public ParserOutcome createObject() {
+        return ParserOutcome.success(
+            TEXT,
+            TOKEN
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserOutcome> type() {
+        return ParserOutcome.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
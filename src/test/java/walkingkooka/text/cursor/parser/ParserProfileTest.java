@@ -0,0 +1,350 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+import walkingkooka.text.printer.TreePrintableTesting;
+
+import java.io.IOException;
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserProfileTest implements ClassTesting<ParserProfile<ParserContext>>,
+    ToStringTesting<ParserProfile<ParserContext>>,
+    TreePrintableTesting {
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> SEPARATOR = SEMI_COLON.or(COMMA);
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            SEPARATOR
+        )
+    );
+
+    @Test
+    public void testWithNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.profiling(null)
+        );
+    }
+
+    @Test
+    public void testProfiledParserEqualsToString() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+
+        this.checkEquals(
+            ELEMENT.toString(),
+            profile.parser()
+                .toString()
+        );
+    }
+
+    @Test
+    public void testChildren() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+
+        this.childrenAndCheck(
+            profile,
+            DIGITS,
+            SEPARATOR
+        );
+        this.childrenAndCheck(
+            profile.children()
+                .get(1),
+            SEMI_COLON,
+            COMMA
+        );
+    }
+
+    @Test
+    public void testChildrenRepeatingAndWrapper() {
+        final Parser<ParserContext> transformed = DIGITS.transform((t, c) -> t);
+        final Parser<ParserContext> repeating = transformed.repeating();
+        final ParserProfile<ParserContext> profile = Parsers.profiling(repeating);
+
+        this.childrenAndCheck(
+            profile,
+            transformed
+        );
+        this.childrenAndCheck(
+            profile.children()
+                .get(0),
+            DIGITS
+        );
+    }
+
+    @Test
+    public void testChildrenAndNot() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(
+            DIGITS.andNot(COMMA)
+        );
+
+        this.childrenAndCheck(
+            profile,
+            DIGITS,
+            COMMA
+        );
+    }
+
+    @Test
+    public void testChildrenLeaf() {
+        this.childrenAndCheck(
+            Parsers.profiling(DIGITS)
+        );
+    }
+
+    private void childrenAndCheck(final ParserProfile<ParserContext> profile,
+                                  final Parser<?>... expected) {
+        final List<String> labels = Lists.array();
+        for (final ParserProfile<ParserContext> child : profile.children()) {
+            labels.add(child.toString());
+        }
+
+        final List<String> expectedLabels = Lists.array();
+        for (final Parser<?> parser : expected) {
+            expectedLabels.add(parser.toString());
+        }
+
+        this.checkEquals(
+            expectedLabels,
+            labels,
+            profile::toString
+        );
+    }
+
+    @Test
+    public void testParseCounts() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+
+        this.checkEquals(
+            ELEMENT.parseText(
+                "12,",
+                context()
+            ),
+            profile.parser()
+                .parseText(
+                    "12,",
+                    context()
+                )
+        );
+
+        this.countsAndCheck(profile, 1, 1, 3);
+
+        final List<ParserProfile<ParserContext>> children = profile.children();
+        this.countsAndCheck(children.get(0), 1, 1, 2);
+
+        final ParserProfile<ParserContext> separator = children.get(1);
+        this.countsAndCheck(separator, 1, 1, 1);
+        this.countsAndCheck(separator.children().get(0), 1, 0, 0);
+        this.countsAndCheck(separator.children().get(1), 1, 1, 1);
+    }
+
+    @Test
+    public void testParseFailureCounts() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+
+        this.checkEquals(
+            false,
+            profile.parser()
+                .parse(
+                    TextCursors.charSequence("12!"),
+                    context()
+                ).isPresent()
+        );
+
+        this.countsAndCheck(profile, 1, 0, 0);
+        this.countsAndCheck(profile.children().get(0), 1, 1, 2);
+        this.countsAndCheck(profile.children().get(1), 1, 0, 0);
+    }
+
+    private void countsAndCheck(final ParserProfile<ParserContext> profile,
+                                final long invocations,
+                                final long successes,
+                                final long consumed) {
+        this.checkEquals(
+            invocations,
+            profile.invocations(),
+            () -> profile + " invocations"
+        );
+        this.checkEquals(
+            successes,
+            profile.successes(),
+            () -> profile + " successes"
+        );
+        this.checkEquals(
+            invocations - successes,
+            profile.failures(),
+            () -> profile + " failures"
+        );
+        this.checkEquals(
+            consumed,
+            profile.consumed(),
+            () -> profile + " consumed"
+        );
+        this.checkEquals(
+            true,
+            profile.exclusiveNanos() <= profile.inclusiveNanos(),
+            () -> profile + " exclusive <= inclusive"
+        );
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Test
+    public void testPrintTree() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+        profile.parser()
+            .parseText(
+                "12;",
+                context()
+            );
+
+        this.checkEquals(
+            ELEMENT + " invocations=1 successes=1 failures=0 consumed=3 inclusive=ns exclusive=ns\n" +
+                "  " + DIGITS + " invocations=1 successes=1 failures=0 consumed=2 inclusive=ns exclusive=ns\n" +
+                "  " + SEPARATOR + " invocations=1 successes=1 failures=0 consumed=1 inclusive=ns exclusive=ns\n" +
+                "    " + SEMI_COLON + " invocations=1 successes=1 failures=0 consumed=1 inclusive=ns exclusive=ns\n" +
+                "    " + COMMA + " invocations=0 successes=0 failures=0 consumed=0 inclusive=ns exclusive=ns\n",
+            profile.treeToString(
+                INDENTATION,
+                EOL
+            ).replaceAll(
+                "[0-9]+ns",
+                "ns"
+            )
+        );
+    }
+
+    // foldedStacks.....................................................................................................
+
+    @Test
+    public void testFoldedStacksNullOutputFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.profiling(ELEMENT)
+                .foldedStacks(null)
+        );
+    }
+
+    @Test
+    public void testFoldedStacksNotInvoked() throws IOException {
+        final StringBuilder b = new StringBuilder();
+        Parsers.profiling(ELEMENT)
+            .foldedStacks(b);
+
+        this.checkEquals(
+            "",
+            b.toString()
+        );
+    }
+
+    @Test
+    public void testFoldedStacks() throws IOException {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(ELEMENT);
+        profile.parser()
+            .parseText(
+                "12;",
+                context()
+            );
+
+        final StringBuilder b = new StringBuilder();
+        profile.foldedStacks(b);
+
+        final String element = foldedStackLabel(ELEMENT);
+        final String separator = element + ";" + foldedStackLabel(SEPARATOR);
+
+        this.checkEquals(
+            element + " 1\n" +
+                element + ";" + foldedStackLabel(DIGITS) + " 1\n" +
+                separator + " 1\n" +
+                separator + ";" + foldedStackLabel(SEMI_COLON) + " 1\n",
+            b.toString()
+                .replaceAll(
+                    " [0-9]+\n",
+                    " 1\n"
+                )
+        );
+    }
+
+    private static String foldedStackLabel(final Parser<?> parser) {
+        return parser.toString()
+            .replace(';', ',');
+    }
+
+    private static ParserContext context() {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            Parsers.profiling(ELEMENT),
+            ELEMENT.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserProfile<ParserContext>> type() {
+        return Cast.to(ParserProfile.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
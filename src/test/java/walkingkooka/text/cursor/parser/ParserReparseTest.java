@@ -0,0 +1,329 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserReparseTest implements ClassTesting<ParserReparse> {
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            Parsers.charPredicateString(
+                CharPredicates.digit(),
+                1,
+                10
+            ),
+            Parsers.string(
+                ";",
+                CaseSensitivity.SENSITIVE
+            )
+        )
+    );
+
+    private final static String TEXT = "1;22;333;";
+
+    @Test
+    public void testReparseNullPreviousFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ELEMENT.reparse(
+                null,
+                TEXT,
+                ParserEdit.with(0, 0, "1"),
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseNullPreviousTextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                null,
+                ParserEdit.with(0, 0, "1"),
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseNullEditFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                TEXT,
+                null,
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                TEXT,
+                ParserEdit.with(0, 0, "1"),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testReparseEditAfterEndFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                TEXT,
+                ParserEdit.with(TEXT.length(), 1, ""),
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseInvalidFails() {
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                TEXT,
+                ParserEdit.with(2, 0, "!"),
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseRemoveAllFails() {
+        assertThrows(
+            RuntimeException.class,
+            () -> ELEMENT.reparse(
+                parse(TEXT),
+                TEXT,
+                ParserEdit.with(0, TEXT.length(), ""),
+                context()
+            )
+        );
+    }
+
+    @Test
+    public void testReparseInsideMiddleElement() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(3, 0, "4"),
+            "1;242;333;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed, 0);
+        this.reusedAndCheck(previous, 2, reparsed, 2);
+    }
+
+    @Test
+    public void testReparseFirstElement() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(0, 0, "9"),
+            "91;22;333;"
+        );
+
+        this.reusedAndCheck(previous, 1, reparsed, 1);
+        this.reusedAndCheck(previous, 2, reparsed, 2);
+    }
+
+    @Test
+    public void testReparseInsertElement() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(5, 0, "4;"),
+            "1;22;4;333;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed, 0);
+        this.reusedAndCheck(previous, 2, reparsed, 3);
+    }
+
+    @Test
+    public void testReparseAppend() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(TEXT.length(), 0, "4;"),
+            "1;22;333;4;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed, 0);
+        this.reusedAndCheck(previous, 1, reparsed, 1);
+    }
+
+    @Test
+    public void testReparseRemoveSeparatorMergesElements() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(4, 1, ""),
+            "1;22333;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed, 0);
+    }
+
+    @Test
+    public void testReparseReplaceAcrossElements() {
+        this.reparseAndCheck(
+            parse(TEXT),
+            ParserEdit.with(1, 6, ";4;55"),
+            "1;4;553;"
+        );
+    }
+
+    @Test
+    public void testReparseMany() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            b.append(i)
+                .append(';');
+        }
+        final String text = b.toString();
+        final ParserToken previous = parse(text);
+
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(text.indexOf("500;"), 3, "7"),
+            text.replace("500;", "7;")
+        );
+
+        this.reusedAndCheck(previous, 999, reparsed, 999);
+    }
+
+    @Test
+    public void testReparseReparsed() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(3, 0, "4"),
+            "1;242;333;"
+        );
+        final ParserToken reparsed2 = this.reparseAndCheck(
+            reparsed,
+            ParserEdit.with(7, 1, "5"),
+            "1;242;353;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed2, 0);
+        this.reusedAndCheck(reparsed, 1, reparsed2, 1);
+    }
+
+    @Test
+    public void testReparseEditInsideLastElement() {
+        final ParserToken previous = parse(TEXT);
+        final ParserToken reparsed = this.reparseAndCheck(
+            previous,
+            ParserEdit.with(7, 0, "4"),
+            "1;22;3343;"
+        );
+
+        this.reusedAndCheck(previous, 0, reparsed, 0);
+        this.reusedAndCheck(previous, 1, reparsed, 1);
+    }
+
+    private ParserToken reparseAndCheck(final ParserToken previous,
+                                        final ParserEdit edit,
+                                        final String expected) {
+        final ParserToken reparsed = ELEMENT.reparse(
+            previous,
+            previous.text(),
+            edit,
+            context()
+        );
+
+        this.checkEquals(
+            parse(expected),
+            reparsed,
+            () -> edit + " " + previous.text()
+        );
+        return reparsed;
+    }
+
+    private void reusedAndCheck(final ParserToken previous,
+                                final int previousIndex,
+                                final ParserToken reparsed,
+                                final int reparsedIndex) {
+        final List<ParserToken> previousChildren = previous.children();
+        final List<ParserToken> reparsedChildren = reparsed.children();
+
+        assertSame(
+            previousChildren.get(previousIndex),
+            reparsedChildren.get(reparsedIndex),
+            () -> "previous " + previousIndex + " reparsed " + reparsedIndex
+        );
+    }
+
+    private static ParserToken parse(final String text) {
+        return ELEMENT.repeating()
+            .parseText(
+                text,
+                context()
+            );
+    }
+
+    private static ParserContext context() {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserReparse> type() {
+        return ParserReparse.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
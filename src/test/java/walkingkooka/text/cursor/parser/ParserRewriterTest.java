@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ParserRewriterTest implements ClassTesting<ParserRewriter> {
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    @Test
+    public void testReplaceChildrenLeaf() {
+        final List<Parser<ParserContext>> children = Lists.array();
+
+        assertSame(
+            DIGITS,
+            ParserRewriter.replaceChildren(
+                DIGITS,
+                (p) -> {
+                    children.add(p);
+                    return p;
+                }
+            )
+        );
+        this.checkEquals(
+            Lists.empty(),
+            children
+        );
+    }
+
+    @Test
+    public void testReplaceChildrenSequence() {
+        final Parser<ParserContext> parser = Parsers.sequence(
+            Lists.of(
+                DIGITS,
+                COMMA
+            )
+        );
+
+        final SequenceParser<ParserContext> replaced = this.replaceChildrenAndCheck(
+            parser,
+            DIGITS,
+            COMMA
+        ).cast();
+        this.checkEquals(
+            Lists.of(
+                DIGITS.setToString("!" + DIGITS),
+                COMMA.setToString("!" + COMMA)
+            ),
+            replaced.parsers
+        );
+    }
+
+    @Test
+    public void testReplaceChildrenAlternatives() {
+        this.replaceChildrenAndCheck(
+            DIGITS.or(COMMA),
+            DIGITS,
+            COMMA
+        );
+    }
+
+    @Test
+    public void testReplaceChildrenRepeating() {
+        this.replaceChildrenAndCheck(
+            DIGITS.repeating(),
+            DIGITS
+        );
+    }
+
+    @Test
+    public void testReplaceChildrenWrapper() {
+        this.replaceChildrenAndCheck(
+            DIGITS.transform((t, c) -> t),
+            DIGITS
+        );
+    }
+
+    @Test
+    public void testReplaceChildrenAndNot() {
+        this.replaceChildrenAndCheck(
+            DIGITS.andNot(COMMA),
+            DIGITS,
+            COMMA
+        );
+    }
+
+    private Parser<ParserContext> replaceChildrenAndCheck(final Parser<ParserContext> parser,
+                                                          final Parser<?>... expected) {
+        final List<Parser<ParserContext>> children = Lists.array();
+
+        final Parser<ParserContext> replaced = ParserRewriter.replaceChildren(
+            parser,
+            (p) -> {
+                children.add(p);
+                return p.setToString("!" + p);
+            }
+        );
+
+        this.checkEquals(
+            Lists.of(expected),
+            children,
+            "children"
+        );
+        this.checkEquals(
+            parser.getClass(),
+            replaced.getClass(),
+            "class"
+        );
+        this.checkEquals(
+            parser.toString(),
+            replaced.toString(),
+            "toString"
+        );
+        this.checkEquals(
+            false,
+            parser.equals(replaced),
+            "equals"
+        );
+        return replaced;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserRewriter> type() {
+        return ParserRewriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
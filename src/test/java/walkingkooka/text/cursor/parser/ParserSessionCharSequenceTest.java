@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserSessionCharSequenceTest implements ClassTesting<ParserSessionCharSequence>,
+    ToStringTesting<ParserSessionCharSequence> {
+
+    @Test
+    public void testLengthAndCharAt() {
+        final ParserSessionCharSequence text = ParserSessionCharSequence.with(
+            new StringBuilder("abcde"),
+            2
+        );
+
+        this.checkEquals(3, text.length(), "length");
+        this.checkEquals('c', text.charAt(0), "charAt 0");
+        this.checkEquals('e', text.charAt(2), "charAt 2");
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        final ParserSessionCharSequence text = ParserSessionCharSequence.with(
+            new StringBuilder("abcde"),
+            2
+        );
+
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> text.charAt(3)
+        );
+    }
+
+    @Test
+    public void testLengthIgnoresLaterAppends() {
+        final StringBuilder b = new StringBuilder("abc");
+        final ParserSessionCharSequence text = ParserSessionCharSequence.with(
+            b,
+            1
+        );
+        b.append("def");
+
+        this.checkEquals(2, text.length(), "length");
+    }
+
+    @Test
+    public void testSubSequenceCopies() {
+        final StringBuilder b = new StringBuilder("abcde");
+        final CharSequence sub = ParserSessionCharSequence.with(
+            b,
+            1
+        ).subSequence(1, 3);
+
+        b.delete(0, 5);
+
+        this.checkEquals("cd", sub);
+    }
+
+    @Test
+    public void testSubSequenceInvalidRangeFails() {
+        final ParserSessionCharSequence text = ParserSessionCharSequence.with(
+            new StringBuilder("abcde"),
+            2
+        );
+
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> text.subSequence(1, 4)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ParserSessionCharSequence.with(
+                new StringBuilder("abcde"),
+                2
+            ),
+            "cde"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserSessionCharSequence> type() {
+        return ParserSessionCharSequence.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserSessionTest implements ClassTesting<ParserSession<ParserContext>> {
+
+    private final static Parser<ParserContext> RECORD = Parsers.sequence(
+        Lists.of(
+            Parsers.charPredicateString(
+                CharPredicates.digit(),
+                1,
+                10
+            ),
+            Parsers.string(
+                ";",
+                CaseSensitivity.SENSITIVE
+            )
+        )
+    );
+
+    private final List<ParserToken> tokens = Lists.array();
+
+    @Test
+    public void testWithNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSession.with(
+                null,
+                context(),
+                this.tokens::add
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSession.with(
+                RECORD,
+                null,
+                this.tokens::add
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullTokensFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSession.with(
+                RECORD,
+                context(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testFeedEmitsFinalTokens() {
+        final ParserSession<ParserContext> session = this.createSession();
+
+        session.feed("12;3");
+        this.tokensAndCheck("12;");
+
+        session.feed("4;");
+        this.tokensAndCheck("12;");
+
+        session.feed("5");
+        this.tokensAndCheck("12;", "34;");
+
+        session.feed(";");
+        session.finish();
+        this.tokensAndCheck("12;", "34;", "5;");
+    }
+
+    @Test
+    public void testFeedManyTokensOneChunk() {
+        final ParserSession<ParserContext> session = this.createSession();
+
+        session.feed("1;22;333;4");
+        this.tokensAndCheck("1;", "22;", "333;");
+
+        session.feed("4");
+        this.tokensAndCheck("1;", "22;", "333;");
+
+        session.feed(";55;6");
+        this.tokensAndCheck("1;", "22;", "333;", "44;", "55;");
+
+        session.feed(";");
+        session.finish();
+        this.tokensAndCheck("1;", "22;", "333;", "44;", "55;", "6;");
+    }
+
+    @Test
+    public void testFeedInvalidBeforeEndFails() {
+        final ParserSession<ParserContext> session = this.createSession();
+
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> session.feed("1;!2")
+        );
+        this.tokensAndCheck("1;");
+    }
+
+    @Test
+    public void testFeedInvalidAfterTokensPosition() {
+        final ParserSession<ParserContext> session = this.createSession();
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> session.feed("1;22;!3")
+        );
+        this.checkEquals(
+            "Invalid character '!' at 5",
+            thrown.getMessage()
+        );
+        this.tokensAndCheck("1;", "22;");
+    }
+
+    @Test
+    public void testFeedInvalidAfterReleasedPosition() {
+        final ParserSession<ParserContext> session = this.createSession();
+        session.feed("1;22;");
+        session.feed("333;");
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> session.feed("4;!5")
+        );
+        this.checkEquals(
+            "Invalid character '!' at 11",
+            thrown.getMessage()
+        );
+        this.tokensAndCheck("1;", "22;", "333;", "4;");
+    }
+
+    @Test
+    public void testFinishIncompleteFails() {
+        final ParserSession<ParserContext> session = this.createSession();
+        session.feed("1;2");
+
+        assertThrows(
+            InvalidCharacterException.class,
+            session::finish
+        );
+        this.tokensAndCheck("1;");
+    }
+
+    @Test
+    public void testFeedQuotedSplitAcrossChunks() {
+        final ParserSession<ParserContext> session = Parsers.doubleQuoted()
+            .session(
+                context(),
+                this.tokens::add
+            );
+
+        session.feed("\"a");
+        session.feed("bc");
+        this.tokensAndCheck();
+
+        session.feed("\"\"");
+        this.tokensAndCheck("\"abc\"");
+
+        session.feed("d\"");
+        session.finish();
+        this.tokensAndCheck("\"abc\"", "\"d\"");
+    }
+
+    @Test
+    public void testFeedAfterFinishFails() {
+        final ParserSession<ParserContext> session = this.createSession();
+        session.finish();
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> session.feed("1;")
+        );
+    }
+
+    private ParserSession<ParserContext> createSession() {
+        return RECORD.session(
+            context(),
+            this.tokens::add
+        );
+    }
+
+    private void tokensAndCheck(final String... texts) {
+        final List<String> actual = Lists.array();
+        for (final ParserToken token : this.tokens) {
+            actual.add(token.text());
+        }
+
+        this.checkEquals(
+            Lists.of(texts),
+            actual
+        );
+    }
+
+    private static ParserContext context() {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION,
+            ',', // valueSeparator
+            DateTimeContexts.fake(),
+            DecimalNumberContexts.american(MathContext.DECIMAL32)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserSession<ParserContext>> type() {
+        return Cast.to(ParserSession.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
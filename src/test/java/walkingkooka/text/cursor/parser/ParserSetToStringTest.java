@@ -21,6 +21,9 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class ParserSetToStringTest implements ClassTesting<ParserSetToString<FakeParserContext>> {
 
@@ -40,6 +43,78 @@ public final class ParserSetToStringTest implements ClassTesting<ParserSetToStri
         );
     }
 
+    @Test
+    public void testToStringBuiltLazilyAndMemoized() {
+        final Parser<FakeParserContext> parser = sequence();
+
+        final String toString = parser.toString();
+        this.checkEquals(
+            "\"a\", \"b\"",
+            toString
+        );
+        assertSame(
+            toString,
+            parser.toString()
+        );
+    }
+
+    @Test
+    public void testSetToStringSameAsBuilt() {
+        final Parser<FakeParserContext> parser = sequence();
+
+        assertSame(
+            parser,
+            parser.setToString(
+                sequence()
+                    .toString()
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsBuiltToStringAndSameCustomToString() {
+        final Parser<FakeParserContext> parser = sequence();
+        final Parser<FakeParserContext> custom = Cast.to(
+            ((SequenceParser<FakeParserContext>) parser).replaceToString(
+                sequence()
+                    .toString()
+            )
+        );
+
+        this.checkEquals(
+            parser,
+            custom
+        );
+        this.checkEquals(
+            parser.hashCode(),
+            custom.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Test
+    public void testEqualsBuiltToStringAndDifferentCustomToString() {
+        this.checkEquals(
+            false,
+            sequence().equals(
+                sequence()
+                    .setToString("Custom")
+            )
+        );
+    }
+
+    private static Parser<FakeParserContext> sequence() {
+        return Parsers.string(
+            "a",
+            CaseSensitivity.SENSITIVE
+        ).and(
+            Parsers.string(
+                "b",
+                CaseSensitivity.SENSITIVE
+            )
+        );
+    }
+
     // ClassTesting.....................................................................................................
 
     @Override
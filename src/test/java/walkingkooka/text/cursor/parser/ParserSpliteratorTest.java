@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.io.StringReader;
+import java.math.MathContext;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserSpliteratorTest implements ClassTesting<ParserSpliterator<ParserContext>> {
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            Parsers.charPredicateString(
+                CharPredicates.digit(),
+                1,
+                10
+            ),
+            Parsers.string(
+                ";",
+                CaseSensitivity.SENSITIVE
+            )
+        )
+    );
+
+    @Test
+    public void testWithNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSpliterator.with(
+                null,
+                TextCursors.charSequence(""),
+                ParserContexts.fake()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullCursorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSpliterator.with(
+                ELEMENT,
+                null,
+                ParserContexts.fake()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserSpliterator.with(
+                ELEMENT,
+                TextCursors.charSequence(""),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testStreamEmpty() {
+        this.streamAndCheck(
+            TextCursors.charSequence("")
+        );
+    }
+
+    @Test
+    public void testStream() {
+        this.streamAndCheck(
+            TextCursors.charSequence("1;22;333;"),
+            "1;",
+            "22;",
+            "333;"
+        );
+    }
+
+    @Test
+    public void testStreamUnmatchedFails() {
+        this.streamFailsAndCheck(
+            TextCursors.charSequence("1;22;x"),
+            "Invalid character 'x' at 5",
+            "1;",
+            "22;"
+        );
+    }
+
+    @Test
+    public void testStreamIncompleteFails() {
+        this.streamFailsAndCheck(
+            TextCursors.charSequence("1;22"),
+            "Invalid character '2' at 2",
+            "1;"
+        );
+    }
+
+    @Test
+    public void testStreamIsLazy() {
+        final TextCursor cursor = TextCursors.charSequence("1;22;333;");
+
+        this.checkEquals(
+            "1;",
+            ELEMENT.stream(
+                    cursor,
+                    ParserContexts.fake()
+                ).findFirst()
+                .get()
+                .text()
+        );
+        this.checkEquals(
+            '2',
+            cursor.at(),
+            "cursor"
+        );
+    }
+
+    @Test
+    public void testStreamReaderTextCursor() {
+        final StringBuilder b = new StringBuilder();
+        final int count = 10000;
+        for (int i = 0; i < count; i++) {
+            b.append(i)
+                .append(';');
+        }
+
+        final ReaderTextCursor cursor = ParserTextCursors.reader(
+            new StringReader(b.toString()),
+            16
+        );
+
+        this.checkEquals(
+            (long) count,
+            ELEMENT.stream(
+                cursor,
+                ParserContexts.fake()
+            ).count()
+        );
+        this.checkEquals(
+            true,
+            cursor.isEmpty(),
+            "cursor empty"
+        );
+    }
+
+    private void streamAndCheck(final TextCursor cursor,
+                                final String... expected) {
+        final List<String> texts = ELEMENT.stream(
+                cursor,
+                ParserContexts.fake()
+            ).map(ParserToken::text)
+            .collect(Collectors.toList());
+
+        this.checkEquals(
+            Lists.of(expected),
+            texts
+        );
+    }
+
+    private void streamFailsAndCheck(final TextCursor cursor,
+                                     final String message,
+                                     final String... expected) {
+        final List<String> texts = Lists.array();
+
+        final InvalidCharacterException thrown = assertThrows(
+            InvalidCharacterException.class,
+            () -> ELEMENT.stream(
+                cursor,
+                ParserContexts.basic(
+                    false, // canNumbersHaveGroupSeparator
+                    InvalidCharacterExceptionFactory.POSITION,
+                    ',', // valueSeparator
+                    DateTimeContexts.fake(),
+                    DecimalNumberContexts.american(MathContext.DECIMAL32)
+                )
+            ).forEach(token -> texts.add(token.text()))
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage(),
+            "message"
+        );
+        this.checkEquals(
+            Lists.of(expected),
+            texts
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserSpliterator<ParserContext>> type() {
+        return Cast.to(ParserSpliterator.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
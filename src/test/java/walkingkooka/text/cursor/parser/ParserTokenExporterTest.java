@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserTokenExporterTest implements ClassTesting<ParserTokenExporter> {
+
+    @Test
+    public void testExportNullTokenFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserTokenExporter.TREE.export(
+                null,
+                new StringBuilder()
+            )
+        );
+    }
+
+    @Test
+    public void testExportNullOutputFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserTokenExporter.TREE.export(
+                string("a"),
+                null
+            )
+        );
+    }
+
+    // tree.............................................................................................................
+
+    @Test
+    public void testTreeLeaf() throws IOException {
+        this.exportTreeAndCheck(
+            string("a1"),
+            "String \"a1\" \"a1\"\n"
+        );
+    }
+
+    @Test
+    public void testTreeLeafEscaped() throws IOException {
+        this.exportTreeAndCheck(
+            ParserTokens.longParserToken(
+                12,
+                "1\t2"
+            ),
+            "Long \"1\\t2\" 12L\n"
+        );
+    }
+
+    @Test
+    public void testTreeSequence() throws IOException {
+        this.exportTreeAndCheck(
+            ParserTokens.sequence(
+                Lists.of(
+                    string("a1"),
+                    ParserTokens.bigInteger(
+                        BigInteger.valueOf(234),
+                        "234"
+                    )
+                ),
+                "a1234"
+            ),
+            "Sequence offset=0 length=5\n" +
+                "  String \"a1\" \"a1\"\n" +
+                "  BigInteger \"234\" 234 (java.math.BigInteger)\n"
+        );
+    }
+
+    @Test
+    public void testTreeNested() throws IOException {
+        this.exportTreeAndCheck(
+            nested(),
+            "Sequence offset=0 length=4\n" +
+                "  String \"a\" \"a\"\n" +
+                "  Sequence offset=1 length=2\n" +
+                "    String \"b\" \"b\"\n" +
+                "    String \"c\" \"c\"\n" +
+                "  String \"d\" \"d\"\n"
+        );
+    }
+
+    @Test
+    public void testTreeManyParents() throws IOException {
+        final List<ParserToken> children = Lists.array();
+        final StringBuilder expected = new StringBuilder();
+        expected.append("Sequence offset=0 length=30\n");
+
+        for (int i = 0; i < 10; i++) {
+            final String text = "" + (char) ('a' + i);
+
+            children.add(
+                ParserTokens.sequence(
+                    Lists.of(
+                        string(text),
+                        string(text + text)
+                    ),
+                    text + text + text
+                )
+            );
+
+            expected.append("  Sequence offset=" + (i * 3) + " length=3\n")
+                .append("    String \"" + text + "\" \"" + text + "\"\n")
+                .append("    String \"" + text + text + "\" \"" + text + text + "\"\n");
+        }
+
+        // setChildren gives the root a rope as its text
+        final ParserToken root = ParserTokens.sequence(
+            Lists.of(
+                string("x"),
+                string("y")
+            ),
+            "xy"
+        ).setChildren(children);
+
+        this.exportTreeAndCheck(
+            root,
+            expected.toString()
+        );
+    }
+
+    @Test
+    public void testExportTreeDefaultMethod() throws IOException {
+        final StringBuilder b = new StringBuilder();
+        nested().exportTree(b);
+
+        this.exportTreeAndCheck(
+            nested(),
+            b.toString()
+        );
+    }
+
+    private void exportTreeAndCheck(final ParserToken token,
+                                    final String expected) throws IOException {
+        this.exportAndCheck(
+            ParserTokenExporter.TREE,
+            token,
+            expected
+        );
+    }
+
+    // json.............................................................................................................
+
+    @Test
+    public void testJsonLeaf() throws IOException {
+        this.exportJsonAndCheck(
+            string("a1"),
+            "{\"type\":\"String\",\"offset\":0,\"length\":2,\"text\":\"a1\",\"value\":\"a1\"}"
+        );
+    }
+
+    @Test
+    public void testJsonLeafEscaped() throws IOException {
+        this.exportJsonAndCheck(
+            string("\"\n\\\u0001"),
+            "{\"type\":\"String\",\"offset\":0,\"length\":4,\"text\":\"\\\"\\n\\\\\\u0001\",\"value\":\"\\\"\\n\\\\\\u0001\"}"
+        );
+    }
+
+    @Test
+    public void testJsonLeafNumber() throws IOException {
+        this.exportJsonAndCheck(
+            ParserTokens.longParserToken(
+                12,
+                "12"
+            ),
+            "{\"type\":\"Long\",\"offset\":0,\"length\":2,\"text\":\"12\",\"value\":12}"
+        );
+    }
+
+    @Test
+    public void testJsonLeafNan() throws IOException {
+        this.exportJsonAndCheck(
+            ParserTokens.doubleParserToken(
+                Double.NaN,
+                "NaN"
+            ),
+            "{\"type\":\"Double\",\"offset\":0,\"length\":3,\"text\":\"NaN\",\"value\":\"NaN\"}"
+        );
+    }
+
+    @Test
+    public void testJsonNested() throws IOException {
+        this.exportJsonAndCheck(
+            nested(),
+            "{\"type\":\"Sequence\",\"offset\":0,\"length\":4,\"children\":[" +
+                "{\"type\":\"String\",\"offset\":0,\"length\":1,\"text\":\"a\",\"value\":\"a\"}," +
+                "{\"type\":\"Sequence\",\"offset\":1,\"length\":2,\"children\":[" +
+                "{\"type\":\"String\",\"offset\":1,\"length\":1,\"text\":\"b\",\"value\":\"b\"}," +
+                "{\"type\":\"String\",\"offset\":2,\"length\":1,\"text\":\"c\",\"value\":\"c\"}" +
+                "]}," +
+                "{\"type\":\"String\",\"offset\":3,\"length\":1,\"text\":\"d\",\"value\":\"d\"}" +
+                "]}"
+        );
+    }
+
+    @Test
+    public void testJsonVeryDeep() throws IOException {
+        ParserToken token = string("x");
+
+        final int depth = 50000;
+        for (int i = 0; i < depth; i++) {
+            token = ParserTokens.sequence(
+                Lists.of(token),
+                "x"
+            );
+        }
+
+        final StringBuilder b = new StringBuilder();
+        token.exportJson(b);
+
+        this.checkEquals(
+            true,
+            b.toString().endsWith("]}"),
+            "ends with"
+        );
+    }
+
+    private void exportJsonAndCheck(final ParserToken token,
+                                    final String expected) throws IOException {
+        this.exportAndCheck(
+            ParserTokenExporter.JSON,
+            token,
+            expected
+        );
+    }
+
+    private void exportAndCheck(final ParserTokenExporter exporter,
+                                final ParserToken token,
+                                final String expected) throws IOException {
+        final StringBuilder b = new StringBuilder();
+        exporter.export(
+            token,
+            b
+        );
+        this.checkEquals(
+            expected,
+            b.toString(),
+            token::toString
+        );
+    }
+
+    private static ParserToken nested() {
+        return ParserTokens.sequence(
+            Lists.of(
+                string("a"),
+                ParserTokens.sequence(
+                    Lists.of(
+                        string("b"),
+                        string("c")
+                    ),
+                    "bc"
+                ),
+                string("d")
+            ),
+            "abcd"
+        );
+    }
+
+    private static ParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserTokenExporter> type() {
+        return ParserTokenExporter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
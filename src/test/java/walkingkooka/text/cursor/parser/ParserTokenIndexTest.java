@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserTokenIndexTest implements ClassTesting<ParserTokenIndex> {
+
+    private final static StringParserToken A = string("a");
+    private final static StringParserToken B = string("b");
+    private final static StringParserToken C = string("c");
+    private final static StringParserToken A2 = string("a");
+    private final static LongParserToken LONG = ParserTokens.longParserToken(1, "1");
+
+    private final static SequenceParserToken CHILD = ParserTokens.sequence(
+        Lists.of(
+            B,
+            LONG,
+            C
+        ),
+        "b1c"
+    );
+
+    private final static SequenceParserToken ROOT = ParserTokens.sequence(
+        Lists.of(
+            A,
+            CHILD,
+            A2
+        ),
+        "ab1ca"
+    );
+
+    @Test
+    public void testWithNullTokenFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserTokenIndex.with(null)
+        );
+    }
+
+    @Test
+    public void testTokensNullTypeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ROOT.index().tokens(null)
+        );
+    }
+
+    @Test
+    public void testTokensDocumentOrder() {
+        this.tokensAndCheck(
+            StringParserToken.class,
+            A,
+            B,
+            C,
+            A2
+        );
+    }
+
+    @Test
+    public void testTokensIncludesRoot() {
+        this.tokensAndCheck(
+            SequenceParserToken.class,
+            ROOT,
+            CHILD
+        );
+    }
+
+    @Test
+    public void testTokensMissingType() {
+        this.tokensAndCheck(
+            CharacterParserToken.class
+        );
+    }
+
+    @Test
+    public void testTokensWithText() {
+        this.checkEquals(
+            Lists.of(
+                A,
+                A2
+            ),
+            ROOT.index()
+                .tokens(
+                    StringParserToken.class,
+                    "a"
+                )
+        );
+    }
+
+    @Test
+    public void testFindFirst() {
+        this.checkEquals(
+            Optional.of(LONG),
+            ROOT.index()
+                .findFirst(LongParserToken.class)
+        );
+    }
+
+    @Test
+    public void testFindFirstMissing() {
+        this.checkEquals(
+            Optional.empty(),
+            ROOT.index()
+                .findFirst(CharacterParserToken.class)
+        );
+    }
+
+    @Test
+    public void testFindIf() {
+        final List<ParserToken> found = Lists.array();
+
+        ROOT.index()
+            .findIf(
+                StringParserToken.class,
+                (t) -> false == "b".equals(t.value()),
+                found::add
+            );
+
+        this.checkEquals(
+            Lists.of(
+                A,
+                C,
+                A2
+            ),
+            found
+        );
+    }
+
+    @Test
+    public void testTokensSuperClass() {
+        this.tokensAndCheck(
+            RepeatedOrSequenceParserToken.class,
+            ROOT,
+            CHILD
+        );
+    }
+
+    @Test
+    public void testTokensSuperClassDocumentOrder() {
+        this.tokensAndCheck(
+            ValueParserToken.class,
+            ROOT,
+            A,
+            CHILD,
+            B,
+            LONG,
+            C,
+            A2
+        );
+    }
+
+    @Test
+    public void testIndexLeaf() {
+        this.checkEquals(
+            Lists.of(LONG),
+            LONG.index()
+                .tokens(LongParserToken.class)
+        );
+    }
+
+    private void tokensAndCheck(final Class<? extends ParserToken> type,
+                                final ParserToken... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            ROOT.index()
+                .tokens(type)
+        );
+    }
+
+    private static StringParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserTokenIndex> type() {
+        return ParserTokenIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserTokenSpliteratorTest implements ClassTesting<ParserTokenSpliterator> {
+
+    private final static StringParserToken A = string("a");
+    private final static StringParserToken B = string("b");
+    private final static StringParserToken C = string("c");
+    private final static StringParserToken D = string("d");
+
+    private final static SequenceParserToken CHILD = ParserTokens.sequence(
+        Lists.of(
+            B,
+            C
+        ),
+        "bc"
+    );
+
+    private final static SequenceParserToken ROOT = ParserTokens.sequence(
+        Lists.of(
+            A,
+            CHILD,
+            D
+        ),
+        "abcd"
+    );
+
+    @Test
+    public void testLeavesNullTokenFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserTokenSpliterator.leaves(null)
+        );
+    }
+
+    @Test
+    public void testDescendantsNullTokenFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParserTokenSpliterator.descendants(null)
+        );
+    }
+
+    @Test
+    public void testLeavesLeaf() {
+        this.checkEquals(
+            Lists.of(A),
+            A.leaves()
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testLeaves() {
+        this.checkEquals(
+            Lists.of(
+                A,
+                B,
+                C,
+                D
+            ),
+            ROOT.leaves()
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testLeavesSameAsFlat() {
+        this.checkEquals(
+            ROOT.flat()
+                .value(),
+            ROOT.leaves()
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testDescendantsLeaf() {
+        this.checkEquals(
+            Lists.empty(),
+            A.descendants()
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testDescendants() {
+        this.checkEquals(
+            Lists.of(
+                A,
+                CHILD,
+                B,
+                C,
+                D
+            ),
+            ROOT.descendants()
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testLeavesParallel() {
+        final List<ParserToken> first = strings(0, 500);
+        final List<ParserToken> second = strings(500, 1000);
+
+        final ParserToken root = ParserTokens.sequence(
+            Lists.of(
+                ParserTokens.sequence(
+                    first,
+                    ParserToken.text(first)
+                ),
+                ParserTokens.repeated(
+                    second,
+                    ParserToken.text(second)
+                )
+            ),
+            ParserToken.text(first) + ParserToken.text(second)
+        );
+
+        final List<ParserToken> leaves = Lists.array();
+        leaves.addAll(first);
+        leaves.addAll(second);
+
+        this.checkEquals(
+            leaves,
+            root.leaves()
+                .parallel()
+                .collect(Collectors.toList())
+        );
+    }
+
+    private static List<ParserToken> strings(final int from,
+                                             final int to) {
+        final List<ParserToken> tokens = Lists.array();
+        for (int i = from; i < to; i++) {
+            tokens.add(string(String.valueOf(i)));
+        }
+        return tokens;
+    }
+
+    @Test
+    public void testTrySplitLeaves() {
+        final Spliterator<ParserToken> suffix = ParserTokenSpliterator.leaves(ROOT);
+        final Spliterator<ParserToken> prefix = suffix.trySplit();
+        assertNotNull(prefix, "prefix");
+
+        final List<ParserToken> tokens = Lists.array();
+        prefix.forEachRemaining(tokens::add);
+        suffix.forEachRemaining(tokens::add);
+
+        this.checkEquals(
+            Lists.of(
+                A,
+                B,
+                C,
+                D
+            ),
+            tokens
+        );
+    }
+
+    @Test
+    public void testTrySplitAfterAdvance() {
+        final Spliterator<ParserToken> suffix = ParserTokenSpliterator.descendants(ROOT);
+
+        final List<ParserToken> tokens = Lists.array();
+        suffix.tryAdvance(tokens::add); // A
+        suffix.tryAdvance(tokens::add); // CHILD
+        suffix.tryAdvance(tokens::add); // B
+
+        final Spliterator<ParserToken> prefix = suffix.trySplit();
+        assertNotNull(prefix, "prefix");
+
+        prefix.forEachRemaining(tokens::add);
+        suffix.forEachRemaining(tokens::add);
+
+        this.checkEquals(
+            Lists.of(
+                A,
+                CHILD,
+                B,
+                C,
+                D
+            ),
+            tokens
+        );
+    }
+
+    @Test
+    public void testTrySplitLeafFails() {
+        this.checkEquals(
+            null,
+            ParserTokenSpliterator.leaves(A)
+                .trySplit()
+        );
+    }
+
+    @Test
+    public void testCharacteristics() {
+        this.checkEquals(
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE,
+            ParserTokenSpliterator.leaves(ROOT)
+                .characteristics()
+        );
+    }
+
+    private static StringParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserTokenSpliterator> type() {
+        return ParserTokenSpliterator.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
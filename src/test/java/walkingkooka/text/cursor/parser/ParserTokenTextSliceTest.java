@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ParserTokenTextSliceTest implements ClassTesting<ParserTokenTextSlice> {
+
+    @Test
+    public void testWithString() {
+        final String text = "abc";
+
+        assertSame(
+            text,
+            ParserTokenTextSlice.with(text)
+        );
+    }
+
+    @Test
+    public void testWithParserTokenText() {
+        final ParserTokenText text = ParserTokenText.with(
+            ParserToken.EMPTY
+        );
+
+        assertSame(
+            text,
+            ParserTokenTextSlice.with(text)
+        );
+    }
+
+    @Test
+    public void testWithOtherCharSequence() {
+        final CharSequence slice = ParserTokenTextSlice.with(
+            new StringBuilder("abc")
+        );
+
+        this.checkEquals(
+            ParserTokenTextSlice.class,
+            slice.getClass()
+        );
+        this.checkEquals(
+            3,
+            slice.length(),
+            "length"
+        );
+        this.checkEquals(
+            'b',
+            slice.charAt(1),
+            "charAt"
+        );
+        this.checkEquals(
+            "bc",
+            slice.subSequence(1, 3)
+                .toString(),
+            "subSequence"
+        );
+    }
+
+    @Test
+    public void testToStringCached() {
+        final CharSequence slice = ParserTokenTextSlice.with(
+            new StringBuilder("abc")
+        );
+
+        assertSame(
+            slice.toString(),
+            slice.toString()
+        );
+    }
+
+    @Test
+    public void testTextOfToken() {
+        final SequenceParserToken token = SequenceParserToken.with(
+            Lists.of(
+                ParserTokens.string(
+                    "abc",
+                    "abc"
+                )
+            ),
+            new StringBuilder("abc")
+        );
+
+        this.checkEquals(
+            "abc",
+            token.text()
+        );
+
+        assertSame(
+            token.text(),
+            token.text()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserTokenTextSlice> type() {
+        return ParserTokenTextSlice.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
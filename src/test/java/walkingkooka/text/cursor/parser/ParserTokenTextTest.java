@@ -0,0 +1,235 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserTokenTextTest implements ClassTesting<ParserTokenText> {
+
+    private final static String TEXT = "a1b2c3d4";
+
+    @Test
+    public void testLength() {
+        this.checkEquals(
+            TEXT.length(),
+            this.createText()
+                .length()
+        );
+    }
+
+    @Test
+    public void testCharAt() {
+        final ParserTokenText text = this.createText();
+
+        for (int i = 0; i < TEXT.length(); i++) {
+            this.checkEquals(
+                TEXT.charAt(i),
+                text.charAt(i),
+                () -> "charAt " + i
+            );
+        }
+    }
+
+    @Test
+    public void testCharAtAfterToString() {
+        final ParserTokenText text = this.createText();
+        text.toString();
+
+        this.checkEquals(
+            'c',
+            text.charAt(4)
+        );
+    }
+
+    @Test
+    public void testCharAtNegativeIndexFails() {
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> this.createText().charAt(-1)
+        );
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        assertThrows(
+            StringIndexOutOfBoundsException.class,
+            () -> this.createText().charAt(TEXT.length())
+        );
+    }
+
+    @Test
+    public void testSubSequence() {
+        this.checkEquals(
+            "b2c3",
+            this.createText()
+                .subSequence(2, 6)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createText(),
+            TEXT
+        );
+    }
+
+    @Test
+    public void testToStringCached() {
+        final ParserTokenText text = this.createText();
+
+        assertSame(
+            text.toString(),
+            text.toString()
+        );
+    }
+
+    @Test
+    public void testToStringVeryDeep() {
+        final SequenceParserToken sequence = ParserTokens.sequence(
+            Lists.of(
+                string("x")
+            ),
+            "x"
+        );
+
+        ParserToken token = sequence;
+        for (int i = 0; i < 50000; i++) {
+            token = sequence.setChildren(
+                Lists.of(
+                    token,
+                    string("y")
+                )
+            );
+        }
+
+        final String text = token.text();
+        this.checkEquals(
+            50001,
+            text.length()
+        );
+        this.checkEquals(
+            true,
+            text.startsWith("xyy"),
+            "starts with"
+        );
+    }
+
+    @Test
+    public void testLengthAndCharAtVeryDeep() {
+        final SequenceParserToken sequence = ParserTokens.sequence(
+            Lists.of(
+                string("x")
+            ),
+            "x"
+        );
+
+        ParserToken token = sequence;
+        for (int i = 0; i < 50000; i++) {
+            token = sequence.setChildren(
+                Lists.of(
+                    token,
+                    string("y")
+                )
+            );
+        }
+
+        final CharSequence text = ((SequenceParserToken) token).textCharSequence();
+        this.checkEquals(
+            50001,
+            text.length(),
+            "length"
+        );
+        this.checkEquals(
+            'x',
+            text.charAt(0),
+            "charAt 0"
+        );
+        this.checkEquals(
+            'y',
+            text.charAt(50000),
+            "charAt 50000"
+        );
+    }
+
+    @Test
+    public void testCharAtEmptyChild() {
+        final ParserTokenText text = ParserTokenText.with(
+            Lists.of(
+                string("a"),
+                ParserTokens.string("", ""),
+                string("b")
+            )
+        );
+
+        this.checkEquals(
+            'b',
+            text.charAt(1)
+        );
+    }
+
+    /**
+     * A sequence with nested rope text built by {@link ParserToken#setChildren(java.util.List)}.
+     */
+    private ParserTokenText createText() {
+        final SequenceParserToken child = ParserTokens.sequence(
+            Lists.of(
+                string("x")
+            ),
+            "x"
+        );
+
+        return ParserTokenText.with(
+            Lists.of(
+                string("a1"),
+                child.setChildren(
+                    Lists.of(
+                        string("b2"),
+                        string("c3")
+                    )
+                ),
+                string("d4")
+            )
+        );
+    }
+
+    private static StringParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserTokenText> type() {
+        return ParserTokenText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
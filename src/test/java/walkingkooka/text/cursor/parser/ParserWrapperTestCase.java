@@ -19,6 +19,7 @@ package walkingkooka.text.cursor.parser;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public abstract class ParserWrapperTestCase<P extends ParserWrapper<ParserContext>> extends ParserTestCase<P> {
@@ -50,6 +51,25 @@ public abstract class ParserWrapperTestCase<P extends ParserWrapper<ParserContex
         );
     }
 
+    @Test
+    public final void testReplaceParser() {
+        final P parser = this.createParser();
+        final Parser<ParserContext> different = Parsers.fake();
+
+        final ParserWrapper<ParserContext> replaced = parser.replaceParser(different);
+
+        assertSame(
+            different,
+            replaced.parser,
+            "parser"
+        );
+        this.checkEquals(
+            parser.toString(),
+            replaced.toString(),
+            "toString"
+        );
+    }
+
     @Override
     public final P createParser() {
         return this.createParser(
@@ -0,0 +1,509 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContext;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.datetime.DateTimeSymbols;
+import walkingkooka.math.DecimalNumberContext;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.math.DecimalNumberSymbols;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.test.Testing;
+import walkingkooka.text.CaseSensitivity;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.MathContext;
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single instance of each {@link Parser} created by every {@link Parsers} factory between many threads, each parsing with
+ * a mix of {@link ParserContext} using different {@link Locale} and two digit years, and verifies every result
+ * matches the result of parsing on a single thread.
+ */
+public final class ParsersConcurrencyTest implements Testing {
+
+    private final static int THREADS = 16;
+
+    private final static int ITERATIONS = 200;
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static BinaryOperatorTransformer TRANSFORMER = new BinaryOperatorTransformer() {
+        @Override
+        public int highestPriority() {
+            return 2;
+        }
+
+        @Override
+        public int lowestPriority() {
+            return 1;
+        }
+
+        @Override
+        public int priority(final ParserToken token) {
+            switch (token.text()) {
+                case "+":
+                    return 1;
+                case "*":
+                    return 2;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public ParserToken binaryOperand(final List<ParserToken> tokens,
+                                         final String text,
+                                         final ParserToken parent) {
+            return ParserTokens.sequence(
+                tokens,
+                text
+            );
+        }
+    };
+
+    private final static Parser<ParserContext> LETTERS = Parsers.charPredicateString(
+        CharPredicates.letter(),
+        1,
+        10
+    );
+
+    @Test
+    public void testSharedParsers() throws Exception {
+        final List<ParsersConcurrencyTestInput> inputs = inputs();
+        final List<Supplier<ParserContext>> contexts = contexts();
+
+        // expected results, computed on a single thread
+        final List<String> expected = Lists.array();
+        for (final ParsersConcurrencyTestInput input : inputs) {
+            for (final Supplier<ParserContext> context : contexts) {
+                expected.add(input.parse(context.get()));
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = Lists.array();
+
+            for (int t = 0; t < THREADS; t++) {
+                final int seed = t;
+
+                futures.add(
+                    executor.submit(() -> {
+                        final List<Integer> order = Lists.array();
+                        for (int i = 0; i < expected.size(); i++) {
+                            order.add(i);
+                        }
+
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            Collections.shuffle(order, new Random(seed * ITERATIONS + i));
+
+                            for (final int index : order) {
+                                final ParsersConcurrencyTestInput input = inputs.get(index / contexts.size());
+                                final ParserContext context = contexts.get(index % contexts.size())
+                                    .get();
+
+                                this.checkEquals(
+                                    expected.get(index),
+                                    input.parse(context),
+                                    () -> input + " " + context.locale()
+                                );
+                            }
+                        }
+                        return null;
+                    })
+                );
+            }
+
+            for (final Future<?> future : futures) {
+                future.get(); // rethrows any assertion failure
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Every public static method of {@link Parsers} except {@link Parsers#fake()} must be shared between threads.
+     */
+    @Test
+    public void testAllParsersFactoriesTested() {
+        final Set<String> factories = new TreeSet<>();
+        for (final Method method : Parsers.class.getDeclaredMethods()) {
+            final int modifiers = method.getModifiers();
+            if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && false == "fake".equals(method.getName())) {
+                factories.add(method.getName());
+            }
+        }
+
+        final Set<String> tested = new TreeSet<>();
+        for (final ParsersConcurrencyTestInput input : inputs()) {
+            tested.add(input.factory());
+        }
+
+        this.checkEquals(
+            factories,
+            tested
+        );
+    }
+
+    private static List<ParsersConcurrencyTestInput> inputs() {
+        final Function<DateTimeContext, DateTimeFormatter> date = (c) -> DateTimeFormatter.ofPattern("d MMMM yyyy")
+            .withLocale(c.locale());
+        final Function<DateTimeContext, DateTimeFormatter> dateTime = (c) -> DateTimeFormatter.ofPattern("d MMMM yyyy HH:mm")
+            .withLocale(c.locale());
+        final Function<DateTimeContext, DateTimeFormatter> time = (c) -> DateTimeFormatter.ofPattern("HH:mm:ss")
+            .withLocale(c.locale());
+        final Function<DateTimeContext, DateTimeFormatter> offsetDateTime = (c) -> DateTimeFormatter.ofPattern("d MMMM yyyy HH:mm xxx")
+            .withLocale(c.locale());
+        final Function<DateTimeContext, DateTimeFormatter> offsetTime = (c) -> DateTimeFormatter.ofPattern("HH:mm:ss xxx")
+            .withLocale(c.locale());
+        final Function<DateTimeContext, DateTimeFormatter> zonedDateTime = (c) -> DateTimeFormatter.ofPattern("d MMMM yyyy HH:mm VV")
+            .withLocale(c.locale());
+
+        return Lists.of(
+            ParsersConcurrencyTestInput.with(
+                "alternatives",
+                Parsers.alternatives(
+                    Lists.of(
+                        DIGITS,
+                        LETTERS
+                    )
+                ),
+                "123", "abc", "!"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "andNot",
+                Parsers.andNot(
+                    LETTERS,
+                    Parsers.string("abc", CaseSensitivity.SENSITIVE)
+                ),
+                "abc", "xyz"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "andEmptyTextCursor",
+                Parsers.andEmptyTextCursor(DIGITS),
+                "123", "123a"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "backtracking",
+                Parsers.backtracking(
+                    LETTERS.or(DIGITS)
+                ).parser(),
+                "abc", "123", "!"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "bigDecimal",
+                Parsers.bigDecimal(),
+                "1.5", "-2", "1.5e3", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "bigInteger",
+                Parsers.bigInteger(10),
+                "123", "-4", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "character",
+                Parsers.character(CharPredicates.is('a')),
+                "a", "b"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "charPredicateString",
+                Parsers.charPredicateString(
+                    CharPredicates.digit(),
+                    2,
+                    3
+                ),
+                "12", "1234", "1"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "customToString",
+                Parsers.customToString(DIGITS, "custom"),
+                "1", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "doubleParser",
+                Parsers.doubleParser(),
+                "1.5", "-2.25", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "doubleQuoted",
+                Parsers.doubleQuoted(),
+                "\"abc\"", "\"a\\tb\"", "\"abc"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "events",
+                Parsers.events(
+                    LETTERS.and(DIGITS),
+                    0,
+                    (e) -> {
+                    }
+                ),
+                "abc123", "123"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "furthestFailure",
+                Parsers.furthestFailure(
+                    LETTERS.and(DIGITS)
+                ),
+                "abc123", "abc!"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "initialAndPartCharPredicateString",
+                Parsers.initialAndPartCharPredicateString(
+                    CharPredicates.letter(),
+                    CharPredicates.digit(),
+                    1,
+                    10
+                ),
+                "a123", "1a"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "intern",
+                Parsers.intern(DIGITS),
+                "1", "22", "1"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "localDate",
+                Parsers.localDate(date),
+                "31 December 2001", "31 Dezember 2001", "31 decembre 2001"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "localDateTime",
+                Parsers.localDateTime(dateTime),
+                "31 December 2001 12:58", "31 Dezember 2001 12:58"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "localTime",
+                Parsers.localTime(time),
+                "12:58:59", "25:00:00"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "longParser",
+                Parsers.longParser(10),
+                "123", "-123", "99999999999999999999"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "never",
+                Parsers.never(),
+                "a"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "offsetDateTime",
+                Parsers.offsetDateTime(offsetDateTime),
+                "31 December 2001 12:58 +10:00", "31 Dezember 2001 12:58 +10:00", "31 December 2001 12:58"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "offsetTime",
+                Parsers.offsetTime(offsetTime),
+                "12:58:59 +10:00", "12:58:59"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "operatorPrecedence",
+                Parsers.operatorPrecedence(
+                    DIGITS,
+                    Parsers.string("+", CaseSensitivity.SENSITIVE)
+                        .or(Parsers.string("*", CaseSensitivity.SENSITIVE)),
+                    TRANSFORMER
+                ),
+                "1+2*3", "1*2+3", "1+"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "parallelAlternatives",
+                Parsers.parallelAlternatives(
+                    Lists.of(
+                        DIGITS,
+                        LETTERS
+                    ),
+                    1
+                ),
+                "123", "abc", "!"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "parseAll",
+                (t, c) -> Parsers.parseAll(
+                    DIGITS,
+                    Lists.of(t),
+                    () -> c
+                ).get(0)
+                    .orElseThrow(),
+                DIGITS.toString(),
+                "123", "12a"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "parseSeparated",
+                (t, c) -> Parsers.parseSeparated(
+                    DIGITS,
+                    t,
+                    1,
+                    () -> c
+                ),
+                DIGITS.toString(),
+                "1,22,333", "1;22;333", "1,,2"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "profiling",
+                Parsers.profiling(
+                    LETTERS.or(DIGITS)
+                ).parser(),
+                "abc", "123", "!"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "recovering",
+                Parsers.recovering(
+                    DIGITS.and(Parsers.string(";", CaseSensitivity.SENSITIVE)),
+                    Parsers.string(";", CaseSensitivity.SENSITIVE)
+                ),
+                "1;22;333;", "1;x;3;", "1;2"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "repeating",
+                Parsers.repeating(1, 3, LETTERS.or(DIGITS)),
+                "a1", "a1b2"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "report",
+                Parsers.report(
+                    ParserReporterCondition.ALWAYS,
+                    ParserReporters.basic(),
+                    DIGITS
+                ),
+                "1", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "separated",
+                Parsers.separated(DIGITS),
+                "1,2,3", "1;2;3"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "sequence",
+                Parsers.sequence(
+                    Lists.of(
+                        LETTERS,
+                        DIGITS
+                    )
+                ),
+                "abc123", "123abc"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "singleQuoted",
+                Parsers.singleQuoted(),
+                "'a'", "'\\u0041'", "'"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "string",
+                Parsers.string("abc", CaseSensitivity.INSENSITIVE),
+                "abc", "ABC", "xyz"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "surround",
+                Parsers.surround("/*", "*/"),
+                "/* abc */", "/* abc"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "tracing",
+                Parsers.tracing(
+                    LETTERS.and(DIGITS),
+                    Long.MAX_VALUE
+                ),
+                "abc123", "123"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "transform",
+                Parsers.transform(
+                    DIGITS,
+                    (t, c) -> ParserTokens.string(
+                        t.text() + c.valueSeparator(),
+                        t.text()
+                    )
+                ),
+                "123", "x"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "unicodeEscapeCharacter",
+                Parsers.unicodeEscapeCharacter(),
+                "\\u0041", "\\u00"
+            ),
+            ParsersConcurrencyTestInput.with(
+                "zonedDateTime",
+                Parsers.zonedDateTime(zonedDateTime),
+                "31 December 2001 12:58 Australia/Sydney", "31 Dezember 2001 12:58 Europe/Berlin", "31 December 2001"
+            )
+        );
+    }
+
+    private static List<Supplier<ParserContext>> contexts() {
+        return Lists.of(
+            () -> context(Locale.ENGLISH, ',', 50),
+            () -> context(Locale.GERMAN, ';', 20),
+            () -> context(Locale.FRENCH, ',', 70)
+        );
+    }
+
+    private static ParserContext context(final Locale locale,
+                                         final char valueSeparator,
+                                         final int twoDigitYear) {
+        return ParserContexts.basic(
+            false, // canNumbersHaveGroupSeparator
+            InvalidCharacterExceptionFactory.POSITION,
+            valueSeparator,
+            DateTimeContexts.basic(
+                DateTimeSymbols.fromDateFormatSymbols(
+                    new DateFormatSymbols(locale)
+                ),
+                locale,
+                1900,
+                twoDigitYear,
+                LocalDateTime::now
+            ),
+            DecimalNumberContexts.basic(
+                DecimalNumberContext.DEFAULT_NUMBER_DIGIT_COUNT,
+                DecimalNumberSymbols.fromDecimalFormatSymbols(
+                    '+',
+                    new DecimalFormatSymbols(locale)
+                ),
+                locale,
+                MathContext.UNLIMITED
+            )
+        );
+    }
+}
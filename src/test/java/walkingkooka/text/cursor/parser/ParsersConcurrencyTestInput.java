@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Value;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * A shared {@link Parser} created by a {@link Parsers} factory and the texts parsed by {@link ParsersConcurrencyTest}.
+ */
+final class ParsersConcurrencyTestInput {
+
+    static ParsersConcurrencyTestInput with(final String factory,
+                                           final Parser<ParserContext> parser,
+                                           final String... texts) {
+        return with(
+            factory,
+            parser::parseText,
+            parser.toString(),
+            texts
+        );
+    }
+
+    /**
+     * Factory for {@link Parsers} helpers that parse text rather than returning a {@link Parser}.
+     */
+    static ParsersConcurrencyTestInput with(final String factory,
+                                           final BiFunction<String, ParserContext, ParserToken> parse,
+                                           final String toString,
+                                           final String... texts) {
+        return new ParsersConcurrencyTestInput(
+            factory,
+            parse,
+            toString,
+            Lists.of(texts)
+        );
+    }
+
+    private ParsersConcurrencyTestInput(final String factory,
+                                       final BiFunction<String, ParserContext, ParserToken> parse,
+                                       final String toString,
+                                       final List<String> texts) {
+        this.factory = factory;
+        this.parse = parse;
+        this.toString = toString;
+        this.texts = texts;
+    }
+
+    /**
+     * The name of the {@link Parsers} method being tested.
+     */
+    String factory() {
+        return this.factory;
+    }
+
+    private final String factory;
+
+    /**
+     * Parses all texts, returning a {@link String} that includes the {@link ParserToken} graph or the failure.
+     */
+    String parse(final ParserContext context) {
+        final StringBuilder b = new StringBuilder();
+
+        for (final String text : this.texts) {
+            try {
+                final ParserToken token = this.parse.apply(
+                    text,
+                    context
+                );
+                b.append(token.getClass().getSimpleName())
+                    .append(' ')
+                    .append(token instanceof Value ? ((Value<?>) token).value() : token)
+                    .append(' ')
+                    .append(token.text());
+            } catch (final RuntimeException cause) {
+                b.append(cause.getClass().getSimpleName())
+                    .append(' ')
+                    .append(cause.getMessage());
+            }
+            b.append('\n');
+        }
+
+        return b.toString();
+    }
+
+    private final BiFunction<String, ParserContext, ParserToken> parse;
+    private final String toString;
+    private final List<String> texts;
+
+    @Override
+    public String toString() {
+        return this.factory + " " + this.toString + " " + this.texts;
+    }
+}
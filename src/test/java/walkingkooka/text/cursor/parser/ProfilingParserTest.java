@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.text.CaseSensitivity;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ProfilingParserTest extends ParserWrapperTestCase<ProfilingParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<ProfilingParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    @Test
+    public void testWithNullProfileFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ProfilingParser.with(
+                WRAPPED,
+                null
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(WRAPPED);
+
+        this.parseAndCheck(
+            ProfilingParser.with(
+                WRAPPED,
+                profile
+            ),
+            STRING + "!",
+            ParserTokens.string(STRING, STRING),
+            STRING,
+            "!"
+        );
+
+        this.checkEquals(
+            1L,
+            profile.successes(),
+            "successes"
+        );
+        this.checkEquals(
+            (long) STRING.length(),
+            profile.consumed(),
+            "consumed"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        final ParserProfile<ParserContext> profile = Parsers.profiling(WRAPPED);
+
+        this.parseFailAndCheck(
+            ProfilingParser.with(
+                WRAPPED,
+                profile
+            ),
+            "xyz"
+        );
+
+        this.checkEquals(
+            1L,
+            profile.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            0L,
+            profile.consumed(),
+            "consumed"
+        );
+    }
+
+    @Override
+    ProfilingParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return ProfilingParser.with(
+            parser,
+            PROFILE
+        );
+    }
+
+    private final static ParserProfile<ParserContext> PROFILE = Parsers.profiling(WRAPPED);
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            ProfilingParser.with(
+                Parsers.fake(),
+                PROFILE
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentProfile() {
+        this.checkNotEquals(
+            ProfilingParser.with(
+                WRAPPED,
+                Parsers.profiling(WRAPPED)
+            )
+        );
+    }
+
+    @Override
+    public ProfilingParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            WRAPPED.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ProfilingParser<ParserContext>> type() {
+        return Cast.to(ProfilingParser.class);
+    }
+}
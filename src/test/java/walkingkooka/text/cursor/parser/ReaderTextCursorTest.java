@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ReaderTextCursorTest implements ClassTesting<ReaderTextCursor>,
+    ToStringTesting<ReaderTextCursor> {
+
+    @Test
+    public void testWithNullReaderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ReaderTextCursor.with(
+                null,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidBufferSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ReaderTextCursor.with(
+                new StringReader(""),
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        final ReaderTextCursor cursor = this.createCursor("");
+
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+        assertThrows(
+            IllegalStateException.class,
+            cursor::at
+        );
+    }
+
+    @Test
+    public void testAtNext() {
+        final ReaderTextCursor cursor = this.createCursor("abcde");
+
+        final StringBuilder b = new StringBuilder();
+        while (cursor.isNotEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+        }
+
+        this.checkEquals("abcde", b.toString());
+    }
+
+    @Test
+    public void testSaveRestoreTextBetween() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefgh");
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals("bcdef", save.textBetween().toString(), "textBetween");
+
+        save.restore();
+        this.checkEquals('b', cursor.at(), "at after restore");
+    }
+
+    @Test
+    public void testEnd() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefgh");
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+        this.checkEquals("abcdefgh", save.textBetween().toString(), "textBetween");
+    }
+
+    @Test
+    public void testCompact() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefgh");
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+        cursor.next();
+
+        cursor.compact();
+
+        this.checkEquals('d', cursor.at(), "at");
+        this.checkEquals("defgh", this.remaining(cursor), "remaining");
+
+        assertThrows(
+            IllegalStateException.class,
+            save::restore
+        );
+    }
+
+    @Test
+    public void testCompactText() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefgh");
+        cursor.next();
+        cursor.next();
+        cursor.compact();
+        cursor.next();
+
+        this.checkEquals("cd", cursor.text());
+    }
+
+    @Test
+    public void testCompactShrinksGrownBuffer() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefghijklmnopqrstuvwxyz");
+        cursor.end();
+
+        this.checkEquals(true, cursor.buffer.length > 2, "buffer grown");
+
+        cursor.compact();
+
+        this.checkEquals(2, cursor.buffer.length, "buffer length after compact");
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testCompactShrinksToRemaining() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefghijklmnopqrstuvwxyz");
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+        save.restore();
+
+        for (int i = 0; i < 20; i++) {
+            cursor.next();
+        }
+        cursor.compact();
+
+        this.checkEquals(6, cursor.buffer.length, "buffer length after compact");
+        this.checkEquals("uvwxyz", this.remaining(cursor), "remaining");
+    }
+
+    @Test
+    public void testCompactSeveralTimes() {
+        final ReaderTextCursor cursor = this.createCursor("abcdefghijklmnopqrstuvwxyz");
+
+        final StringBuilder b = new StringBuilder();
+        while (cursor.isNotEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+            cursor.compact();
+        }
+
+        this.checkEquals("abcdefghijklmnopqrstuvwxyz", b.toString());
+        this.checkEquals(2, cursor.buffer.length, "buffer length");
+    }
+
+    @Test
+    public void testParse() {
+        final ReaderTextCursor cursor = this.createCursor("abc123!");
+
+        this.checkEquals(
+            Optional.of(
+                ParserTokens.sequence(
+                    Lists.of(
+                        ParserTokens.string("abc", "abc"),
+                        ParserTokens.string("123", "123")
+                    ),
+                    "abc123"
+                )
+            ),
+            Parsers.sequence(
+                Lists.of(
+                    Parsers.charPredicateString(CharPredicates.letter(), 1, 10),
+                    Parsers.charPredicateString(CharPredicates.digit(), 1, 10)
+                )
+            ).parse(
+                cursor,
+                ParserContexts.fake()
+            )
+        );
+
+        this.checkEquals('!', cursor.at(), "at");
+    }
+
+    @Test
+    public void testToString() {
+        final ReaderTextCursor cursor = this.createCursor("abc");
+        cursor.next();
+        cursor.isEmpty();
+
+        this.toStringAndCheck(
+            cursor,
+            "a[b]"
+        );
+    }
+
+    private ReaderTextCursor createCursor(final String text) {
+        return ReaderTextCursor.with(
+            new StringReader(text),
+            2
+        );
+    }
+
+    private String remaining(final ReaderTextCursor cursor) {
+        final StringBuilder b = new StringBuilder();
+        while (cursor.isNotEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+        }
+        return b.toString();
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ReaderTextCursor> type() {
+        return ReaderTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
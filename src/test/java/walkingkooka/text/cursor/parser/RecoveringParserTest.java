@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class RecoveringParserTest extends ParserTestCase<RecoveringParser<ParserContext>> {
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            DIGITS.or(Parsers.doubleQuoted()),
+            SEMI_COLON
+        )
+    );
+
+    @Test
+    public void testWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RecoveringParser.with(
+                null,
+                SEMI_COLON
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullSyncFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RecoveringParser.with(
+                ELEMENT,
+                null
+            )
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseEmpty() {
+        this.parseFailAndCheck("");
+    }
+
+    @Test
+    public void testParseWithoutErrors() {
+        this.parseAndCheck(
+            "12;34;",
+            repeated(
+                "12;34;",
+                element("12"),
+                element("34")
+            ),
+            "12;34;"
+        );
+    }
+
+    @Test
+    public void testParseError() {
+        final String text = "12;x;34;";
+
+        this.parseAndCheck(
+            text,
+            repeated(
+                text,
+                element("12"),
+                error(
+                    text,
+                    3,
+                    "x;"
+                ),
+                element("34")
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testParseErrorWithinElement() {
+        final String text = "12;3x;4;";
+
+        this.parseAndCheck(
+            text,
+            repeated(
+                text,
+                element("12"),
+                error(
+                    text,
+                    3,
+                    "3x;"
+                ),
+                element("4")
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testParseManyErrors() {
+        final String text = "x;12;y;z;";
+
+        this.parseAndCheck(
+            text,
+            repeated(
+                text,
+                error(
+                    text,
+                    0,
+                    "x;"
+                ),
+                element("12"),
+                error(
+                    text,
+                    5,
+                    "y;"
+                ),
+                error(
+                    text,
+                    7,
+                    "z;"
+                )
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testParseErrorWithoutSync() {
+        final String text = "12;xyz";
+
+        this.parseAndCheck(
+            text,
+            repeated(
+                text,
+                element("12"),
+                error(
+                    text,
+                    3,
+                    "xyz"
+                )
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testParseElementThrows() {
+        final String text = "\"\\q\";12;";
+
+        this.parseAndCheck(
+            text,
+            repeated(
+                text,
+                ParserTokens.error(
+                    QuotedParser.invalidBackslashEscapeChar('q'),
+                    "\"\\q\";"
+                ),
+                element("12")
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testParseErrorInvalidCharacterMessage() {
+        final String text = "x;12;";
+
+        this.checkEquals(
+            Optional.of(
+                repeated(
+                    text,
+                    ParserTokens.error(
+                        "Custom message",
+                        "x;"
+                    ),
+                    element("12")
+                )
+            ),
+            this.createParser()
+                .parse(
+                    TextCursors.charSequence(text),
+                    new FakeParserContext() {
+                        @Override
+                        public String invalidCharacterMessage(final Parser<?> parser,
+                                                              final TextCursor cursor) {
+                            return "Custom message";
+                        }
+                    }
+                )
+        );
+    }
+
+    @Test
+    public void testParseErrorsIndex() {
+        final String text = "x;12;y;";
+
+        this.checkEquals(
+            Lists.of(
+                error(
+                    text,
+                    0,
+                    "x;"
+                ),
+                error(
+                    text,
+                    5,
+                    "y;"
+                )
+            ),
+            this.createParser()
+                .parseText(
+                    text,
+                    this.createContext()
+                ).index()
+                .tokens(ErrorParserToken.class)
+        );
+    }
+
+    private static ParserToken repeated(final String text,
+                                        final ParserToken... tokens) {
+        return RepeatedParserToken.with(
+            Lists.of(tokens),
+            text
+        );
+    }
+
+    private static ParserToken element(final String digits) {
+        return ParserTokens.sequence(
+            Lists.of(
+                ParserTokens.string(
+                    digits,
+                    digits
+                ),
+                ParserTokens.string(
+                    ";",
+                    ";"
+                )
+            ),
+            digits + ";"
+        );
+    }
+
+    private static ErrorParserToken error(final String text,
+                                          final int position,
+                                          final String skipped) {
+        return ParserTokens.error(
+            new InvalidCharacterException(
+                text,
+                position
+            ).getMessage(),
+            skipped
+        );
+    }
+
+    @Override
+    public RecoveringParser<ParserContext> createParser() {
+        return RecoveringParser.with(
+            ELEMENT,
+            SEMI_COLON
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            "{" + ELEMENT + "} recover " + SEMI_COLON
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<RecoveringParser<ParserContext>> type() {
+        return Cast.to(RecoveringParser.class);
+    }
+}
@@ -80,6 +80,42 @@ public abstract class RepeatedOrSequenceParserTokenTestCase<T extends RepeatedOr
         );
     }
 
+    @Test
+    public final void testSetChildrenNestedText() {
+        final T child = this.createToken(STRING4, STRING5);
+        final T parent = this.createToken(STRING1, child);
+
+        final T grandChild = this.createToken(STRING6);
+        final T different = parent.setChildren(
+            Lists.of(
+                STRING1,
+                child.setChildren(
+                    Lists.of(
+                        STRING4,
+                        grandChild
+                    )
+                ),
+                STRING2
+            )
+        ).cast(this.type());
+
+        this.textAndCheck(
+            different,
+            "a1d4f6b2"
+        );
+        this.checkEquals(
+            this.createToken(
+                STRING1,
+                this.createToken(
+                    STRING4,
+                    grandChild
+                ),
+                STRING2
+            ),
+            different
+        );
+    }
+
     // flat............................................................................................................
 
     @Test
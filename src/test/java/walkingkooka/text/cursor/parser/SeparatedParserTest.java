@@ -0,0 +1,314 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.cursor.TextCursor;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SeparatedParserTest extends NonEmptyParserTestCase<SeparatedParser<ParserContext>, ParserToken>
+    implements HashCodeEqualsDefinedTesting2<SeparatedParser<ParserContext>> {
+
+    private final static Parser<ParserContext> VALUE = Parsers.alternatives(
+        Lists.of(
+            Parsers.charPredicateString(
+                CharPredicates.digit(),
+                1,
+                10
+            ),
+            Parsers.doubleQuoted()
+        )
+    );
+
+    @Test
+    public void testWithNullValueFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SeparatedParser.with(null)
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseSeparatorFails() {
+        this.parseFailAndCheck(",");
+    }
+
+    @Test
+    public void testParseValue() {
+        this.parseAndCheck(
+            "1",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1")
+                ),
+                "1"
+            ),
+            "1"
+        );
+    }
+
+    @Test
+    public void testParseValueSeparatorValue() {
+        this.parseAndCheck(
+            "1,23",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1"),
+                    separator(),
+                    string("23")
+                ),
+                "1,23"
+            ),
+            "1,23"
+        );
+    }
+
+    @Test
+    public void testParseValueSeparator() {
+        this.parseAndCheck(
+            "1,",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1")
+                ),
+                "1"
+            ),
+            "1",
+            ","
+        );
+    }
+
+    @Test
+    public void testParseValueSeparatorInvalid() {
+        this.parseAndCheck(
+            "1,2,!",
+            ParserTokens.repeated(
+                Lists.of(
+                    string("1"),
+                    separator(),
+                    string("2")
+                ),
+                "1,2"
+            ),
+            "1,2",
+            ",!"
+        );
+    }
+
+    // parseParallel....................................................................................................
+
+    @Test
+    public void testParseParallelInvalidChunkSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Parsers.parseSeparated(
+                VALUE,
+                "1,2",
+                0,
+                this::createContext
+            )
+        );
+    }
+
+    @Test
+    public void testParseParallelSingleChunk() {
+        this.parseParallelAndCheck(
+            "1,2,3",
+            64 * 1024
+        );
+    }
+
+    @Test
+    public void testParseParallelManyChunks() {
+        this.parseParallelAndCheck(
+            "1,22,333,4444,55555",
+            1
+        );
+    }
+
+    @Test
+    public void testParseParallelQuotedSeparators() {
+        this.parseParallelAndCheck(
+            "1,\"2,2\",3,\"4\\\",4\",5",
+            1
+        );
+    }
+
+    @Test
+    public void testParseParallelMany() {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            if (0 == i % 7) {
+                b.append("\"" + i + ",\"");
+            } else {
+                b.append(i);
+            }
+        }
+
+        this.parseParallelAndCheck(
+            b.toString(),
+            50
+        );
+    }
+
+    @Test
+    public void testParseParallelCharSequence() {
+        final String text = "1,22,333,4444,55555";
+
+        this.checkEquals(
+            this.createParser()
+                .parseText(
+                    text,
+                    this.createContext()
+                ),
+            Parsers.parseSeparated(
+                VALUE,
+                new StringBuilder(text),
+                1,
+                this::createContext
+            )
+        );
+    }
+
+    @Test
+    public void testParseParallelInvalidFails() {
+        final String text = "1,22,!,4444";
+        final InvalidCharacterException serial = assertThrows(
+            InvalidCharacterException.class,
+            () -> this.createParser()
+                .parseText(
+                    text,
+                    this.createContext()
+                )
+        );
+
+        final InvalidCharacterException parallel = assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.parseSeparated(
+                VALUE,
+                text,
+                1,
+                this::createContext
+            )
+        );
+
+        this.checkEquals(
+            serial.getMessage(),
+            parallel.getMessage()
+        );
+    }
+
+    private void parseParallelAndCheck(final String text,
+                                       final int chunkSize) {
+        this.checkEquals(
+            this.createParser()
+                .parseText(
+                    text,
+                    this.createContext()
+                ),
+            Parsers.parseSeparated(
+                VALUE,
+                text,
+                chunkSize,
+                this::createContext
+            ),
+            () -> "parseParallel " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    private static ParserToken string(final String text) {
+        return ParserTokens.string(
+            text,
+            text
+        );
+    }
+
+    private static ParserToken separator() {
+        return ParserTokens.character(
+            ',',
+            ","
+        );
+    }
+
+    @Override
+    public SeparatedParser<ParserContext> createParser() {
+        return SeparatedParser.with(VALUE);
+    }
+
+    @Override
+    public ParserContext createContext() {
+        return new FakeParserContext() {
+            @Override
+            public InvalidCharacterException invalidCharacterException(final Parser<?> parser,
+                                                                       final TextCursor cursor) {
+                return InvalidCharacterExceptionFactory.POSITION.apply(
+                    parser,
+                    cursor
+                );
+            }
+
+            @Override
+            public char valueSeparator() {
+                return ',';
+            }
+        };
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentValue() {
+        this.checkNotEquals(
+            SeparatedParser.with(Parsers.fake())
+        );
+    }
+
+    @Override
+    public SeparatedParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            VALUE + ", {valueSeparator, " + VALUE + "}"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SeparatedParser<ParserContext>> type() {
+        return Cast.to(SeparatedParser.class);
+    }
+}
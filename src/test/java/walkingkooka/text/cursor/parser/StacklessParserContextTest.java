@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class StacklessParserContextTest implements ClassTesting<StacklessParserContext> {
+
+    private final static ParserContext CONTEXT = ParserContexts.basic(
+        false, // canNumbersHaveGroupSeparator
+        InvalidCharacterExceptionFactory.POSITION,
+        ';', // valueSeparator
+        DateTimeContexts.fake(),
+        DecimalNumberContexts.american(MathContext.DECIMAL32)
+    );
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> StacklessParserContext.with(null)
+        );
+    }
+
+    @Test
+    public void testWithStacklessParserContext() {
+        final StacklessParserContext context = StacklessParserContext.with(CONTEXT);
+
+        assertSame(
+            context,
+            StacklessParserContext.with(context)
+        );
+    }
+
+    @Test
+    public void testParserException() {
+        final ParserException exception = StacklessParserContext.with(CONTEXT)
+            .parserException(
+                "Message123",
+                null
+            );
+
+        this.checkEquals(
+            "Message123",
+            exception.getMessage(),
+            "message"
+        );
+        this.checkEquals(
+            0,
+            exception.getStackTrace().length,
+            "stackTrace"
+        );
+    }
+
+    @Test
+    public void testParserExceptionWithCause() {
+        final IllegalArgumentException cause = new IllegalArgumentException("Cause123");
+
+        final ParserException exception = StacklessParserContext.with(CONTEXT)
+            .parserException(
+                "Message123",
+                cause
+            );
+
+        assertSame(
+            cause,
+            exception.getCause(),
+            "cause"
+        );
+        this.checkEquals(
+            0,
+            exception.getStackTrace().length,
+            "stackTrace"
+        );
+    }
+
+    @Test
+    public void testParserExceptionDefault() {
+        this.checkEquals(
+            true,
+            CONTEXT.parserException(
+                "Message123",
+                null
+            ).getStackTrace().length > 0,
+            "stackTrace"
+        );
+    }
+
+    @Test
+    public void testValueSeparator() {
+        this.checkEquals(
+            ';',
+            StacklessParserContext.with(CONTEXT)
+                .valueSeparator()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            CONTEXT.toString(),
+            StacklessParserContext.with(CONTEXT)
+                .toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<StacklessParserContext> type() {
+        return StacklessParserContext.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.math.MathContext;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TracingParserContextTest implements ClassTesting<TracingParserContext> {
+
+    private final static ParserContext CONTEXT = ParserContexts.basic(
+        false, // canNumbersHaveGroupSeparator
+        InvalidCharacterExceptionFactory.POSITION,
+        ',', // valueSeparator
+        DateTimeContexts.fake(),
+        DecimalNumberContexts.american(MathContext.DECIMAL32)
+    );
+
+    private final static Consumer<String> DUMP = (t) -> {
+    };
+
+    private final static List<String> LABELS = Lists.of(
+        "A",
+        "B",
+        "C"
+    );
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TracingParserContext.with(
+                null,
+                1,
+                DUMP
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TracingParserContext.with(
+                CONTEXT,
+                0,
+                DUMP
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullDumpFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TracingParserContext.with(
+                CONTEXT,
+                1,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testTraceEmpty() {
+        this.checkEquals(
+            "Last 0 of 0 attempts",
+            TracingParserContext.with(
+                CONTEXT,
+                2,
+                DUMP
+            ).trace()
+        );
+    }
+
+    @Test
+    public void testTrace() {
+        final TracingParserContext context = TracingParserContext.with(
+            CONTEXT,
+            3,
+            DUMP
+        );
+        context.record(LABELS, 1, 0, 1, TracingParserContext.SUCCESS);
+        context.record(LABELS, 2, 1, 1, TracingParserContext.THROWN);
+
+        this.checkEquals(
+            "Last 2 of 2 attempts\n" +
+                "0..1 success B\n" +
+                "1..1 thrown C",
+            context.trace()
+        );
+    }
+
+    @Test
+    public void testTraceOverwritesOldest() {
+        final TracingParserContext context = TracingParserContext.with(
+            CONTEXT,
+            2,
+            DUMP
+        );
+        context.record(LABELS, 0, 0, 1, TracingParserContext.SUCCESS);
+        context.record(LABELS, 1, 1, 2, TracingParserContext.SUCCESS);
+        context.record(LABELS, 2, 2, 2, TracingParserContext.FAILURE);
+
+        this.checkEquals(
+            "Last 2 of 3 attempts\n" +
+                "1..2 success B\n" +
+                "2..2 failure C",
+            context.trace()
+        );
+    }
+
+    @Test
+    public void testInvalidCharacterExceptionDoesntDump() {
+        final List<String> dumps = Lists.array();
+        final TracingParserContext context = TracingParserContext.with(
+            CONTEXT,
+            2,
+            dumps::add
+        );
+        context.record(LABELS, 0, 0, 1, TracingParserContext.FAILURE);
+
+        final Parser<ParserContext> parser = Parsers.fake();
+        final TextCursor cursor = TextCursors.charSequence("!");
+
+        final InvalidCharacterException thrown = context.invalidCharacterException(
+            parser,
+            cursor
+        );
+
+        this.checkEquals(
+            CONTEXT.invalidCharacterException(
+                parser,
+                cursor
+            ).getMessage(),
+            thrown.getMessage()
+        );
+        this.checkEquals(
+            Lists.empty(),
+            dumps,
+            "dumps"
+        );
+    }
+
+    @Test
+    public void testFindTracingParserContext() {
+        final TracingParserContext context = TracingParserContext.with(
+            CONTEXT,
+            1,
+            DUMP
+        );
+
+        assertSame(
+            context,
+            TracingParserContext.find(context)
+        );
+    }
+
+    @Test
+    public void testFindDelegated() {
+        final TracingParserContext context = TracingParserContext.with(
+            CONTEXT,
+            1,
+            DUMP
+        );
+
+        assertSame(
+            context,
+            TracingParserContext.find(
+                ParserContexts.stackless(context)
+            )
+        );
+    }
+
+    @Test
+    public void testFindMissing() {
+        this.checkEquals(
+            null,
+            TracingParserContext.find(CONTEXT)
+        );
+    }
+
+    @Test
+    public void testParserContext() {
+        this.checkEquals(
+            CONTEXT,
+            TracingParserContext.with(
+                CONTEXT,
+                1,
+                DUMP
+            ).parserContext()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            CONTEXT.toString(),
+            TracingParserContext.with(
+                CONTEXT,
+                1,
+                DUMP
+            ).toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<TracingParserContext> type() {
+        return TracingParserContext.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
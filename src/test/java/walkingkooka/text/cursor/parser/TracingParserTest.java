@@ -0,0 +1,413 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TracingParserTest extends ParserWrapperTestCase<TracingParser<ParserContext>>
+    implements HashCodeEqualsDefinedTesting2<TracingParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    private final static ParserContext CONTEXT = ParserContexts.basic(
+        false, // canNumbersHaveGroupSeparator
+        InvalidCharacterExceptionFactory.POSITION,
+        ',', // valueSeparator
+        DateTimeContexts.fake(),
+        DecimalNumberContexts.american(MathContext.DECIMAL32)
+    );
+
+    private final static int ID = 1;
+    private final static long SLOW = TracingParser.NOT_ROOT;
+    private final static List<String> LABELS = Lists.of(
+        "root",
+        STRING
+    );
+
+    private final static Parser<ParserContext> DIGITS = Parsers.charPredicateString(
+        CharPredicates.digit(),
+        1,
+        10
+    );
+
+    private final static Parser<ParserContext> SEMI_COLON = Parsers.string(
+        ";",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> COMMA = Parsers.string(
+        ",",
+        CaseSensitivity.SENSITIVE
+    );
+
+    private final static Parser<ParserContext> SEPARATOR = SEMI_COLON.or(COMMA);
+
+    private final static Parser<ParserContext> ELEMENT = Parsers.sequence(
+        Lists.of(
+            DIGITS,
+            SEPARATOR
+        )
+    );
+
+    // tracing..........................................................................................................
+
+    @Test
+    public void testTracingNullParserFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Parsers.tracing(
+                null,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testTracingNegativeSlowFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Parsers.tracing(
+                ELEMENT,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testTracingToString() {
+        this.checkEquals(
+            ELEMENT.toString(),
+            Parsers.tracing(
+                ELEMENT,
+                0
+            ).toString()
+        );
+    }
+
+    @Test
+    public void testTracingNotSlow() {
+        this.tracingAndCheck(
+            Long.MAX_VALUE,
+            10,
+            "12;"
+        );
+    }
+
+    @Test
+    public void testTracingFailureNotSlow() {
+        this.tracingAndCheck(
+            Long.MAX_VALUE,
+            10,
+            "12!",
+            "Last 5 of 5 attempts\n" +
+                "0..2 success " + DIGITS + "\n" +
+                "2..2 failure " + SEMI_COLON + "\n" +
+                "2..2 failure " + COMMA + "\n" +
+                "2..2 failure " + SEPARATOR + "\n" +
+                "0..0 failure " + ELEMENT
+        );
+    }
+
+    @Test
+    public void testTracingThrownDumpsOnceIncludingRoot() {
+        final Parser<ParserContext> parser = ELEMENT.orFailIfCursorNotEmpty(ParserReporters.basic());
+        final List<String> dumps = Lists.array();
+
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> Parsers.tracing(
+                parser,
+                Long.MAX_VALUE
+            ).parse(
+                TextCursors.charSequence("12!"),
+                ParserContexts.tracing(
+                    CONTEXT,
+                    10,
+                    dumps::add
+                )
+            )
+        );
+
+        this.checkEquals(
+            1,
+            dumps.size(),
+            "dumps"
+        );
+
+        final String dump = dumps.get(0);
+        this.checkEquals(
+            true,
+            dump.endsWith("\n0..0 thrown " + parser),
+            dump
+        );
+    }
+
+    @Test
+    public void testTracingDelegatingContext() {
+        final List<String> dumps = Lists.array();
+        final ParserContext tracing = ParserContexts.tracing(
+            CONTEXT,
+            10,
+            dumps::add
+        );
+
+        Parsers.tracing(
+            ELEMENT,
+            Long.MAX_VALUE
+        ).parse(
+            TextCursors.charSequence("12!"),
+            new ParserContextDelegator() {
+                @Override
+                public ParserContext parserContext() {
+                    return tracing;
+                }
+            }
+        );
+
+        this.checkEquals(
+            Lists.of(
+                "Last 5 of 5 attempts\n" +
+                    "0..2 success " + DIGITS + "\n" +
+                    "2..2 failure " + SEMI_COLON + "\n" +
+                    "2..2 failure " + COMMA + "\n" +
+                    "2..2 failure " + SEPARATOR + "\n" +
+                    "0..0 failure " + ELEMENT
+            ),
+            dumps
+        );
+    }
+
+    @Test
+    public void testTracingOffsetAfterStart() {
+        final TextCursor cursor = TextCursors.charSequence("!12;");
+        cursor.next();
+
+        final List<String> dumps = Lists.array();
+
+        Parsers.tracing(
+            ELEMENT,
+            0
+        ).parse(
+            cursor,
+            ParserContexts.tracing(
+                CONTEXT,
+                10,
+                dumps::add
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                "Last 4 of 4 attempts\n" +
+                    "1..3 success " + DIGITS + "\n" +
+                    "3..4 success " + SEMI_COLON + "\n" +
+                    "3..4 success " + SEPARATOR + "\n" +
+                    "1..4 success " + ELEMENT
+            ),
+            dumps
+        );
+    }
+
+    @Test
+    public void testTracingSuccess() {
+        this.tracingAndCheck(
+            0,
+            10,
+            "12;",
+            "Last 4 of 4 attempts\n" +
+                "0..2 success " + DIGITS + "\n" +
+                "2..3 success " + SEMI_COLON + "\n" +
+                "2..3 success " + SEPARATOR + "\n" +
+                "0..3 success " + ELEMENT
+        );
+    }
+
+    @Test
+    public void testTracingFailure() {
+        this.tracingAndCheck(
+            0,
+            10,
+            "12!",
+            "Last 5 of 5 attempts\n" +
+                "0..2 success " + DIGITS + "\n" +
+                "2..2 failure " + SEMI_COLON + "\n" +
+                "2..2 failure " + COMMA + "\n" +
+                "2..2 failure " + SEPARATOR + "\n" +
+                "0..0 failure " + ELEMENT
+        );
+    }
+
+    @Test
+    public void testTracingCapacityOverwritesOldest() {
+        this.tracingAndCheck(
+            0,
+            2,
+            "12!",
+            "Last 2 of 5 attempts\n" +
+                "2..2 failure " + SEPARATOR + "\n" +
+                "0..0 failure " + ELEMENT
+        );
+    }
+
+    private void tracingAndCheck(final long slowNanos,
+                                 final int capacity,
+                                 final String text,
+                                 final String... expected) {
+        final List<String> dumps = Lists.array();
+
+        Parsers.tracing(
+            ELEMENT,
+            slowNanos
+        ).parse(
+            TextCursors.charSequence(text),
+            ParserContexts.tracing(
+                CONTEXT,
+                capacity,
+                dumps::add
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(expected),
+            dumps
+        );
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+            STRING + "!",
+            ParserTokens.string(STRING, STRING),
+            STRING,
+            "!"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("xyz");
+    }
+
+    @Override
+    TracingParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return TracingParser.with(
+            parser,
+            ID,
+            SLOW,
+            LABELS
+        );
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    // hashCode/Equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentParser() {
+        this.checkNotEquals(
+            TracingParser.with(
+                Parsers.fake(),
+                ID,
+                SLOW,
+                LABELS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentId() {
+        this.checkNotEquals(
+            TracingParser.with(
+                WRAPPED,
+                ID + 1,
+                SLOW,
+                LABELS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSlow() {
+        this.checkNotEquals(
+            TracingParser.with(
+                WRAPPED,
+                ID,
+                0,
+                LABELS
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLabels() {
+        this.checkNotEquals(
+            TracingParser.with(
+                WRAPPED,
+                ID,
+                SLOW,
+                Lists.of(
+                    "different",
+                    STRING
+                )
+            )
+        );
+    }
+
+    @Override
+    public TracingParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createParser(),
+            WRAPPED.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TracingParser<ParserContext>> type() {
+        return Cast.to(TracingParser.class);
+    }
+}